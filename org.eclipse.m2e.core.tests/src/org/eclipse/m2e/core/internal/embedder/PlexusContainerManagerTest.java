@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+
+public class PlexusContainerManagerTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final List<IMavenPlexusContainer> created = new ArrayList<>();
+
+  private final List<IMavenPlexusContainer> disposed = new ArrayList<>();
+
+  /**
+   * Run once while the next container is created
+   */
+  private Hook onCreate;
+
+  /**
+   * Run once while the next container is disposed
+   */
+  private Hook onDispose;
+
+  private final TestContainerManager manager = new TestContainerManager();
+
+  private IWorkspace workspace;
+
+  private IProject project;
+
+  private IProject other;
+
+  @Before
+  public void setUp() throws Exception {
+    workspace = ResourcesPlugin.getWorkspace();
+    project = workspace.getRoot().getProject("plexus-container-manager");
+    project.create(null);
+    project.open(null);
+    other = workspace.getRoot().getProject("plexus-container-manager-other");
+    manager.workspace = workspace;
+    manager.activate();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    manager.dispose();
+    project.delete(true, true, null);
+    other.delete(true, true, null);
+  }
+
+  @Test
+  public void testContainerOfMultiModuleProjectDirectory() throws Exception {
+    folder(project, ".mvn");
+    File module = location(folder(project, "module"));
+    File root = location(project);
+
+    IMavenPlexusContainer container = manager.aquire(module);
+
+    assertSame(container, manager.aquire(root));
+    assertEquals(Optional.of(root), container.getMavenDirectory());
+    IMavenPlexusContainer global = manager.aquire();
+    assertNotSame(container, global);
+    assertEquals(Optional.empty(), global.getMavenDirectory());
+    assertSame(global, manager.aquire(temp.getRoot()));
+  }
+
+  @Test
+  public void testRootCacheInvalidatedOnMvnFolder() throws Exception {
+    folder(project, ".mvn");
+    IFolder module = folder(project, "module");
+    IMavenPlexusContainer rootContainer = manager.aquire(location(module));
+
+    // the root of a directory is cached
+    assertTrue(new File(location(module), ".mvn").mkdir());
+    assertSame(rootContainer, manager.aquire(location(module)));
+
+    module.refreshLocal(IResource.DEPTH_INFINITE, null);
+    IMavenPlexusContainer moduleContainer = manager.aquire(location(module));
+    assertNotSame(rootContainer, moduleContainer);
+    assertEquals(Optional.of(location(module)), moduleContainer.getMavenDirectory());
+
+    // containers of removed roots are disposed
+    module.getFolder(".mvn").delete(true, null);
+    assertSame(rootContainer, manager.aquire(location(module)));
+    assertEquals(List.of(moduleContainer), disposed);
+  }
+
+  @Test
+  public void testRootCacheInvalidatedOnProjects() throws Exception {
+    folder(project, ".mvn");
+    File module = location(folder(project, "module"));
+    IMavenPlexusContainer rootContainer = manager.aquire(module);
+    File moduleMvn = new File(module, ".mvn");
+    assertTrue(moduleMvn.mkdir());
+
+    // an added project can bring its own .mvn folder
+    other.create(null);
+    other.open(null);
+    IMavenPlexusContainer moduleContainer = manager.aquire(module);
+    assertEquals(Optional.of(module), moduleContainer.getMavenDirectory());
+
+    assertTrue(moduleMvn.delete());
+    other.delete(true, true, null);
+    assertSame(rootContainer, manager.aquire(module));
+    assertEquals(List.of(moduleContainer), disposed);
+  }
+
+  @Test
+  public void testDerivedFoldersAndFilesIgnored() throws Exception {
+    folder(project, ".mvn");
+    IFolder module = folder(project, "module");
+    IFolder target = folder(project, "target");
+    target.setDerived(true, null);
+    IMavenPlexusContainer rootContainer = manager.aquire(location(module));
+    assertTrue(new File(location(module), ".mvn").mkdir());
+
+    folder(target, ".mvn");
+    module.getFile("pom.xml").create(new ByteArrayInputStream(new byte[0]), true, null);
+
+    // the cached root was not invalidated
+    assertSame(rootContainer, manager.aquire(location(module)));
+  }
+
+  @Test
+  public void testRetryAfterConcurrentCleanup() throws Exception {
+    File root = temp.getRoot().getCanonicalFile();
+    File mvn = new File(root, ".mvn");
+    assertTrue(mvn.mkdir());
+    IMavenPlexusContainer container = manager.aquire(root);
+    assertTrue(mvn.delete());
+    List<IMavenPlexusContainer> acquired = new ArrayList<>();
+    // the container is acquired while its reference is disposed but not yet removed
+    onDispose = () -> acquired.add(manager.aquire(root));
+
+    manager.cleanup();
+
+    assertEquals(List.of(container), disposed);
+    assertEquals(1, acquired.size());
+    assertNotSame(container, acquired.get(0));
+    assertSame(acquired.get(0), manager.aquire(root));
+  }
+
+  @Test
+  public void testDisposeWhileCreating() throws Exception {
+    File root = temp.getRoot().getCanonicalFile();
+    assertTrue(new File(root, ".mvn").mkdir());
+    onCreate = manager::dispose;
+
+    assertThrows(IllegalStateException.class, () -> manager.aquire(root));
+
+    // the container created while the manager was disposed is disposed too, no further containers are created
+    assertEquals(1, created.size());
+    assertEquals(created, disposed);
+    assertThrows(IllegalStateException.class, () -> manager.aquire());
+    assertEquals(1, created.size());
+  }
+
+  private static IFolder folder(IContainer parent, String name) throws Exception {
+    IFolder folder = parent.getFolder(IPath.fromOSString(name));
+    folder.create(true, true, null);
+    return folder;
+  }
+
+  private static File location(IResource resource) throws Exception {
+    return resource.getLocation().toFile().getCanonicalFile();
+  }
+
+  private interface Hook {
+    void run() throws Exception;
+  }
+
+  /**
+   * Creates mocked containers instead of plexus containers
+   */
+  private class TestContainerManager extends PlexusContainerManager {
+
+    @Override
+    IMavenPlexusContainer newPlexusContainer(File multiModuleProjectDirectory) throws Exception {
+      IMavenPlexusContainer container = mock(IMavenPlexusContainer.class);
+      when(container.getMavenDirectory()).thenReturn(Optional.ofNullable(multiModuleProjectDirectory));
+      created.add(container);
+      Hook hook = onCreate;
+      onCreate = null;
+      if(hook != null) {
+        hook.run();
+      }
+      return container;
+    }
+
+    @Override
+    void disposeContainer(IMavenPlexusContainer container) {
+      disposed.add(container);
+      Hook hook = onDispose;
+      onDispose = null;
+      if(hook != null) {
+        try {
+          hook.run();
+        } catch(Exception ex) {
+          throw new IllegalStateException(ex);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.m2e.core.internal.index.LocalRepositoryIndex.IndexedFile;
+import org.eclipse.m2e.core.internal.index.MatchTyped.MatchType;
+
+
+public class LocalRepositoryIndexTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testParseRelativePath() {
+    IndexedFile jar = LocalRepositoryIndex.parseRelativePath("org/example/demo/1.0/demo-1.0.jar", 10, 20);
+    assertEquals(new IndexedFile("org.example", "demo", "1.0", null, "jar", null, 10, 20, null), jar);
+
+    IndexedFile sources = LocalRepositoryIndex.parseRelativePath("org/example/demo/1.0/demo-1.0-sources.jar", 0, 0);
+    assertEquals("sources", sources.classifier());
+    assertEquals("jar", sources.extension());
+
+    IndexedFile archive = LocalRepositoryIndex.parseRelativePath("org/example/demo/1.0/demo-1.0.tar.gz", 0, 0);
+    assertNull(archive.classifier());
+    assertEquals("tar.gz", archive.extension());
+
+    IndexedFile distribution = LocalRepositoryIndex.parseRelativePath("org/example/demo/1.0/demo-1.0-bin.tar.gz", 0,
+        0);
+    assertEquals("bin", distribution.classifier());
+    assertEquals("tar.gz", distribution.extension());
+
+    IndexedFile snapshot = LocalRepositoryIndex
+        .parseRelativePath("org/example/demo/1.0-SNAPSHOT/demo-1.0-SNAPSHOT-tests.jar", 0, 0);
+    assertEquals("1.0-SNAPSHOT", snapshot.version());
+    assertEquals("tests", snapshot.classifier());
+    assertEquals("org/example/demo/1.0-SNAPSHOT/demo-1.0-SNAPSHOT-tests.jar", snapshot.relativePath());
+  }
+
+  @Test
+  public void testParseRelativePathOfNoArtifact() {
+    for(String path : List.of("org/example/demo/1.0/demo-1.0.jar.sha1", "org/example/demo/1.0/demo-1.0.pom.asc",
+        "org/example/demo/1.0/demo-1.0-sources.jar.lastUpdated", "org/example/demo/1.0/_remote.repositories",
+        "org/example/demo/1.0/other-1.0.jar", "org/example/demo/1.0/demo-1.0", "org/example/demo/1.0/demo-1.0-.jar",
+        "org/example/demo/1.0/demo-1.0x.jar", "org/example/demo/maven-metadata-central.xml",
+        "demo/1.0/demo-1.0.jar")) {
+      assertNull(path, LocalRepositoryIndex.parseRelativePath(path, 0, 0));
+    }
+  }
+
+  @Test
+  public void testIndexFileRoundTrip() throws Exception {
+    Path base = temp.newFolder("repository").toPath();
+    Path file = temp.getRoot().toPath().resolve("index.dat");
+    IndexedFile jar = new IndexedFile("org.example", "demo", "1.0", null, "jar", null, 123, 456,
+        "0123456789abcdef0123456789abcdef01234567");
+    IndexedFile pom = new IndexedFile("org.example", "demo", "1.0", null, "pom", "jar", 7, 8,
+        "fedcba9876543210fedcba9876543210fedcba98");
+    IndexedFile sources = new IndexedFile("org.example", "demo", "1.0", "sources", "jar", null, 9, 10, null);
+
+    LocalRepositoryIndexFile.write(file, base, List.of(jar, pom, sources));
+
+    Map<String, IndexedFile> files = LocalRepositoryIndexFile.read(file, base);
+    assertEquals(Map.of(jar.relativePath(), jar, pom.relativePath(), pom, sources.relativePath(), sources), files);
+    assertTrue(LocalRepositoryIndexFile.read(file, temp.newFolder("other").toPath()).isEmpty());
+    assertTrue(LocalRepositoryIndexFile.read(temp.getRoot().toPath().resolve("missing.dat"), base).isEmpty());
+  }
+
+  @Test
+  public void testSearch() throws Exception {
+    Path base = temp.newFolder("repository").toPath();
+    Path demoJar = write(base, "org/example/demo/1.0/demo-1.0.jar", "demo");
+    write(base, "org/example/demo/1.0/demo-1.0.pom", "<project></project>");
+    write(base, "org/example/demo/1.0/demo-1.0-sources.jar", "demo sources");
+    write(base, "org/example/plugins/example-maven-plugin/2.0/example-maven-plugin-2.0.jar", "plugin");
+    write(base, "org/example/plugins/example-maven-plugin/2.0/example-maven-plugin-2.0.pom",
+        "<project><packaging>maven-plugin</packaging></project>");
+    write(base, "com/other/parent/3.0/parent-3.0.pom", "<project><packaging>pom</packaging></project>");
+    // the SHA-1 is read from the checksum file if there is one
+    write(base, "com/other/lib/1.0/lib-1.0.jar", "lib");
+    write(base, "com/other/lib/1.0/lib-1.0.jar.sha1", "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA  lib-1.0.jar");
+
+    LocalRepositoryIndex index = new LocalRepositoryIndex();
+    index.scan(base, new NullProgressMonitor());
+
+    assertEquals(Set.of("org.example:demo", "org.example.plugins:example-maven-plugin"),
+        index.search(new UserInputSearchExpression("org.ex"), IIndex.SEARCH_GROUP).keySet());
+    assertEquals(Set.of("org.example:demo"), index
+        .search(new MatchTypedStringSearchExpression("org.example", MatchType.EXACT), IIndex.SEARCH_GROUP).keySet());
+    assertTrue(index.search(new UserInputSearchExpression("net"), IIndex.SEARCH_GROUP).isEmpty());
+
+    String sha1 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(Files.readAllBytes(demoJar)));
+    Map<String, IndexedArtifact> bySha1 = index
+        .search(new MatchTypedStringSearchExpression(sha1, MatchType.EXACT), IIndex.SEARCH_SHA1);
+    assertEquals(Set.of("org.example:demo"), bySha1.keySet());
+    IndexedArtifactFile found = bySha1.get("org.example:demo").getFiles().iterator().next();
+    assertEquals("demo-1.0.jar", found.fname);
+    assertEquals(IIndex.PRESENT, found.sourcesExists);
+    assertEquals(Set.of("org.example:demo"),
+        index.search(new UserInputSearchExpression(sha1.substring(0, 8)), IIndex.SEARCH_SHA1).keySet());
+    assertEquals(Set.of("com.other:lib"),
+        index.search(new UserInputSearchExpression("aaaaaaaa"), IIndex.SEARCH_SHA1).keySet());
+
+    Map<String, IndexedArtifact> plugins = index.search(new UserInputSearchExpression("maven-plugin"),
+        IIndex.SEARCH_PACKAGING);
+    assertEquals(Set.of("org.example.plugins:example-maven-plugin"), plugins.keySet());
+    assertEquals("maven-plugin", plugins.get("org.example.plugins:example-maven-plugin").getPackaging());
+    assertEquals(Set.of("com.other:parent"),
+        index.search(new UserInputSearchExpression("pom"), IIndex.SEARCH_PACKAGING).keySet());
+    // the packaging of artifacts without pom is unknown
+    assertEquals(Set.of("org.example:demo"),
+        index.search(new UserInputSearchExpression("jar"), IIndex.SEARCH_PACKAGING).keySet());
+  }
+
+  private static Path write(Path base, String relativePath, String content) throws Exception {
+    Path file = base.resolve(relativePath);
+    Files.createDirectories(file.getParent());
+    return Files.writeString(file, content, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.EffectiveLifecycleMappingCache.Fingerprint;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.internal.markers.MavenProblemInfo;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.PluginExecutionAction;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+public class EffectiveLifecycleMappingCacheTest {
+
+  private static final String BUNDLE_SOURCES = "bundleMetadataSources";
+
+  private final EffectiveLifecycleMappingCache cache = new EffectiveLifecycleMappingCache();
+
+  private final LifecycleMappingMetadataSource bundleSource = new LifecycleMappingMetadataSource();
+
+  @Test
+  public void testHitForIdenticalPlugins() {
+    Map<String, List<MappingMetadataSource>> sources = sources(new LifecycleMappingMetadataSource());
+    Fingerprint first = cache.fingerprint(project("jar"), sources, executions(), PluginExecutionAction.ignore);
+    assertNotNull(first);
+    assertFalse(cache.apply(first, new LifecycleMappingResult()));
+    LifecycleMappingResult computed = result(null);
+    cache.put(first, computed, 0);
+
+    // an other module with the same build plugins, the workspace metadata is compared by content
+    Fingerprint second = cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()), executions(),
+        PluginExecutionAction.ignore);
+    assertEquals(first, second);
+    LifecycleMappingResult reused = new LifecycleMappingResult();
+    assertTrue(cache.apply(second, reused));
+    assertSame(computed.getLifecycleMappingMetadata(), reused.getLifecycleMappingMetadata());
+    assertEquals(computed.getMojoExecutionMapping(), reused.getMojoExecutionMapping());
+
+    EffectiveLifecycleMappingCache.Statistics statistics = cache.getStatistics();
+    assertEquals(1, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+    assertEquals(1, statistics.size());
+  }
+
+  @Test
+  public void testDifferentFingerprints() {
+    Fingerprint fingerprint = cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()),
+        executions(), PluginExecutionAction.ignore);
+
+    assertNotEquals(fingerprint, cache.fingerprint(project("war"), sources(new LifecycleMappingMetadataSource()),
+        executions(), PluginExecutionAction.ignore));
+    assertNotEquals(fingerprint, cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()),
+        List.of(execution("org.apache.maven.plugins", "maven-compiler-plugin", "3.13.0", "compile")),
+        PluginExecutionAction.ignore));
+    assertNotEquals(fingerprint, cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()),
+        executions(), PluginExecutionAction.warn));
+    // changed workspace metadata
+    LifecycleMappingMetadataSource workspaceSource = new LifecycleMappingMetadataSource();
+    workspaceSource.addPluginExecution(execution(filter("org.example", "other-maven-plugin")));
+    assertNotEquals(fingerprint,
+        cache.fingerprint(project("jar"), sources(workspaceSource), executions(), PluginExecutionAction.ignore));
+  }
+
+  @Test
+  public void testNoSharingWithMatchingParameterFilter() {
+    PluginExecutionFilter filter = filter("org.example", "example-maven-plugin");
+    filter.getParameters().put("skip", "true");
+    bundleSource.addPluginExecution(execution(filter));
+
+    assertNull(cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()), executions(),
+        PluginExecutionAction.ignore));
+    assertEquals(1, cache.getStatistics().uncacheableCount());
+
+    // the filter does not apply to the project
+    filter.setArtifactId("other-maven-plugin");
+    assertNotNull(cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()), executions(),
+        PluginExecutionAction.ignore));
+  }
+
+  @Test
+  public void testNoSharingWithParameterFilterInLifecycleMapping() {
+    PluginExecutionFilter filter = filter("org.example", "example-maven-plugin");
+    filter.getParameters().put("skip", "true");
+    LifecycleMappingMetadata lifecycleMapping = new LifecycleMappingMetadata();
+    lifecycleMapping.setPackagingType("jar");
+    lifecycleMapping.addPluginExecution(execution(filter));
+    bundleSource.addLifecycleMapping(lifecycleMapping);
+
+    assertNull(cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()), executions(),
+        PluginExecutionAction.ignore));
+  }
+
+  @Test
+  public void testNoSharingOfPomMapping() {
+    LifecycleMappingMetadataSource pomSource = new LifecycleMappingMetadataSource();
+    pomSource.setSource(project("jar"));
+    Fingerprint fingerprint = cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()),
+        executions(), PluginExecutionAction.ignore);
+
+    // lifecycle mapping defined in the pom
+    LifecycleMappingResult result = result(null);
+    result.getLifecycleMappingMetadata().setSource(pomSource);
+    cache.put(fingerprint, result, 0);
+    assertFalse(cache.apply(fingerprint, new LifecycleMappingResult()));
+
+    // execution mapping defined in the pom
+    cache.put(fingerprint, result(pomSource), 0);
+    assertFalse(cache.apply(fingerprint, new LifecycleMappingResult()));
+
+    assertEquals(0, cache.getStatistics().size());
+  }
+
+  @Test
+  public void testNoSharingWithProblems() {
+    Fingerprint fingerprint = cache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()),
+        executions(), PluginExecutionAction.ignore);
+    LifecycleMappingResult result = result(null);
+    result.addProblem(new MavenProblemInfo(project("jar"), new LifecycleMappingConfigurationException("problem")));
+
+    cache.put(fingerprint, result, 0);
+
+    assertFalse(cache.apply(fingerprint, new LifecycleMappingResult()));
+  }
+
+  @Test
+  public void testClearedOnBundleMetadataChange() {
+    putIntoFactoryCache();
+
+    LifecycleMappingFactory.setBundleMetadataSources(LifecycleMappingFactory.getBundleMetadataSources());
+
+    assertEquals(0, LifecycleMappingFactory.getEffectiveMappingStatistics().size());
+  }
+
+  @Test
+  public void testClearedOnWorkspaceMetadataChange() {
+    putIntoFactoryCache();
+
+    LifecycleMappingFactory.writeWorkspaceMetadata(LifecycleMappingFactory.getWorkspaceMetadata(false));
+
+    assertEquals(0, LifecycleMappingFactory.getEffectiveMappingStatistics().size());
+  }
+
+  private void putIntoFactoryCache() {
+    EffectiveLifecycleMappingCache factoryCache = LifecycleMappingFactory.effectiveMappingCache;
+    Fingerprint fingerprint = factoryCache.fingerprint(project("jar"), sources(new LifecycleMappingMetadataSource()),
+        executions(), PluginExecutionAction.ignore);
+    factoryCache.put(fingerprint, result(null), 0);
+    assertTrue(LifecycleMappingFactory.getEffectiveMappingStatistics().size() > 0);
+  }
+
+  private Map<String, List<MappingMetadataSource>> sources(LifecycleMappingMetadataSource workspaceSource) {
+    Map<String, List<MappingMetadataSource>> sources = new HashMap<>();
+    sources.put(LifecycleMappingFactory.POM_SOURCES, List.of());
+    sources.put(LifecycleMappingFactory.WORKSPACE_SOURCES, List.of(new SimpleMappingMetadataSource(workspaceSource)));
+    sources.put(BUNDLE_SOURCES, List.of(new SimpleMappingMetadataSource(List.of(bundleSource))));
+    return sources;
+  }
+
+  /**
+   * @param source the source of the execution mapping or {@code null}
+   */
+  private static LifecycleMappingResult result(LifecycleMappingMetadataSource source) {
+    LifecycleMappingResult result = new LifecycleMappingResult();
+    LifecycleMappingMetadata lifecycleMapping = new LifecycleMappingMetadata();
+    lifecycleMapping.setLifecycleMappingId("org.example.lifecycleMapping");
+    result.setLifecycleMappingMetadata(lifecycleMapping);
+    PluginExecutionMetadata metadata = execution(filter("org.example", "example-maven-plugin"));
+    metadata.setSource(source);
+    Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping = new LinkedHashMap<>();
+    executionMapping.put(new MojoExecutionKey(executions().get(0)), List.of(metadata));
+    result.setMojoExecutionMapping(executionMapping);
+    return result;
+  }
+
+  private static MavenProject project(String packaging) {
+    MavenProject project = new MavenProject();
+    project.setPackaging(packaging);
+    return project;
+  }
+
+  private static List<MojoExecution> executions() {
+    return List.of(execution("org.example", "example-maven-plugin", "1.0", "generate"),
+        execution("org.apache.maven.plugins", "maven-compiler-plugin", "3.13.0", "compile"));
+  }
+
+  private static MojoExecution execution(String groupId, String artifactId, String version, String goal) {
+    Plugin plugin = new Plugin();
+    plugin.setGroupId(groupId);
+    plugin.setArtifactId(artifactId);
+    plugin.setVersion(version);
+    return new MojoExecution(plugin, goal, "default-" + goal);
+  }
+
+  private static PluginExecutionFilter filter(String groupId, String artifactId) {
+    return new PluginExecutionFilter(groupId, artifactId, "[1.0,)", Set.of("generate"));
+  }
+
+  private static PluginExecutionMetadata execution(PluginExecutionFilter filter) {
+    PluginExecutionMetadata execution = new PluginExecutionMetadata();
+    execution.setFilter(filter);
+    return execution;
+  }
+}
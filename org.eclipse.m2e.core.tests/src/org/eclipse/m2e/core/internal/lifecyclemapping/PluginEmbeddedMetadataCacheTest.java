@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+
+
+public class PluginEmbeddedMetadataCacheTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final AtomicInteger reads = new AtomicInteger();
+
+  private final PluginEmbeddedMetadataCache.MetadataReader reader = new PluginEmbeddedMetadataCache.MetadataReader() {
+    @Override
+    public byte[] read(File plugin) {
+      reads.incrementAndGet();
+      return plugin.getName().startsWith("with") ? "metadata".getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    public LifecycleMappingMetadataSource parse(byte[] data) {
+      LifecycleMappingMetadataSource source = new LifecycleMappingMetadataSource();
+      source.setSource(new String(data, StandardCharsets.UTF_8));
+      return source;
+    }
+  };
+
+  @Test
+  public void testCachedUntilPluginChanges() throws Exception {
+    File with = temp.newFile("with-metadata.jar");
+    File without = temp.newFile("without-metadata.jar");
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(null);
+
+    LifecycleMappingMetadataSource metadata = cache.get(with, reader);
+    assertNotNull(metadata);
+    assertSame(metadata, cache.get(with, reader));
+    assertNull(cache.get(without, reader));
+    assertNull(cache.get(without, reader));
+    assertEquals(2, reads.get());
+
+    Files.setLastModifiedTime(without.toPath(), FileTime.fromMillis(without.lastModified() + 10_000));
+    assertNull(cache.get(without, reader));
+    assertEquals(3, reads.get());
+  }
+
+  @Test
+  public void testPersisted() throws Exception {
+    File with = temp.newFile("with-metadata.jar");
+    File without = temp.newFile("without-metadata.jar");
+    Path file = temp.getRoot().toPath().resolve("metadata.cache");
+
+    PluginEmbeddedMetadataCache cache = new PluginEmbeddedMetadataCache(file);
+    cache.get(with, reader);
+    cache.get(without, reader);
+    cache.save();
+    assertEquals(2, reads.get());
+
+    PluginEmbeddedMetadataCache restored = new PluginEmbeddedMetadataCache(file);
+    assertEquals("metadata", restored.get(with, reader).getSource());
+    assertNull(restored.get(without, reader));
+    assertEquals(2, reads.get());
+  }
+}
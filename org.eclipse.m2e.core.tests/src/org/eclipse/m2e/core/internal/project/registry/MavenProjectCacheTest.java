@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+
+
+public class MavenProjectCacheTest {
+
+  private final List<File> flushed = new ArrayList<>();
+
+  @Test
+  public void testWeightBasedEviction() {
+    MavenProjectCache cache = cache(0, 1000, false);
+    for(int i = 0; i < 40; i++ ) {
+      load(cache, "p" + i, 0);
+    }
+    MavenProjectCache.Statistics statistics = cache.getStatistics();
+    assertEquals(1000, statistics.maxWeight());
+    assertTrue(statistics.toString(), statistics.weight() <= 1000);
+    assertTrue(statistics.toString(), statistics.evictionCount() > 0);
+    assertEquals(statistics.evictionCount(), flushed.size());
+    assertEquals(statistics.projectCount() * MavenProjectCache.estimateWeight(new MavenProject()), statistics.weight());
+
+    // the weight of a line is updated when a project is added, a project above the budget is not kept
+    IMavenProjectFacade large = load(cache, "large", 1000);
+    assertTrue(MavenProjectCache.estimateWeight(large(1000)) > 1000);
+    assertTrue(flushed.contains(large.getPomFile()));
+    assertNull(cache.getMavenProject(large, null));
+  }
+
+  @Test
+  public void testCountLimit() {
+    MavenProjectCache cache = cache(1, -1, false);
+    IMavenProjectFacade a = load(cache, "a", 0);
+    load(cache, "b", 0);
+
+    assertEquals(List.of(a.getPomFile()), flushed);
+    assertNull(cache.getMavenProject(a, null));
+    assertEquals(-1, cache.getStatistics().maxWeight());
+  }
+
+  @Test
+  public void testSpillAndRestore() {
+    MavenProjectCache cache = cache(1, -1, true);
+    IMavenProjectFacade a = facade("a");
+    MavenProject project = new MavenProject();
+    cache.getMavenProject(a, f -> project);
+    load(cache, "b", 0);
+
+    // a was evicted, but is kept until it is garbage collected
+    assertEquals(1, cache.getStatistics().evictionCount());
+    assertTrue(flushed.isEmpty());
+
+    assertSame(project, cache.getMavenProject(a, null));
+    MavenProjectCache.Statistics statistics = cache.getStatistics();
+    assertEquals(1, statistics.spillHitCount());
+    assertEquals(2, statistics.evictionCount());
+    assertTrue(flushed.isEmpty());
+  }
+
+  private MavenProjectCache cache(int maxSize, long maxWeight, boolean softSpill) {
+    return new MavenProjectCache(maxSize, maxWeight, softSpill) {
+      @Override
+      Set<File> flushMavenCaches(File pom, ArtifactKey key, boolean force) {
+        flushed.add(pom);
+        return Set.of();
+      }
+    };
+  }
+
+  private static IMavenProjectFacade load(MavenProjectCache cache, String name, int artifacts) {
+    IMavenProjectFacade facade = facade(name);
+    cache.getMavenProject(facade, f -> large(artifacts));
+    return facade;
+  }
+
+  private static IMavenProjectFacade facade(String name) {
+    IMavenProjectFacade facade = mock(IMavenProjectFacade.class);
+    when(facade.getArtifactKey()).thenReturn(new ArtifactKey("org.eclipse.m2e.tests", name, "1.0", null));
+    when(facade.getPomFile()).thenReturn(new File(name, "pom.xml"));
+    return facade;
+  }
+
+  private static MavenProject large(int artifacts) {
+    MavenProject project = new MavenProject();
+    Set<Artifact> resolved = new LinkedHashSet<>();
+    for(int i = 0; i < artifacts; i++ ) {
+      resolved.add(new DefaultArtifact("org.eclipse.m2e.tests", "dependency" + i, "1.0", Artifact.SCOPE_COMPILE,
+          "jar", null, new DefaultArtifactHandler("jar")));
+    }
+    project.setArtifacts(resolved);
+    return project;
+  }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+
+
+public class ParentChainPartitionTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private IFile root;
+
+  private IFile a;
+
+  private IFile a1;
+
+  private IFile a2;
+
+  private IFile b;
+
+  private IFile b1;
+
+  private IFile external;
+
+  private IFile standalone;
+
+  private List<IFile> createPoms() {
+    root = pom("reactor");
+    a = pom("reactor/a");
+    a1 = pom("reactor/a/a1");
+    a2 = pom("reactor/a/a2");
+    b = pom("reactor/b");
+    b1 = pom("reactor/b/b1");
+    // the parent of the module is not in the workspace
+    external = pom("outside/module");
+    standalone = pom("standalone");
+    return List.of(a2, b1, root, external, a, standalone, a1, b);
+  }
+
+  @Test
+  public void testChains() {
+    List<IFile> poms = createPoms();
+
+    List<List<IFile>> batches = ProjectRegistryManager.partitionByParentChain(poms, 10);
+
+    // the top-most pom is not part of the chains of its modules
+    assertEquals(Set.of(Set.of(a, a1, a2), Set.of(b, b1), Set.of(root), Set.of(external), Set.of(standalone)),
+        toSets(batches));
+    // largest chains first
+    assertEquals(3, batches.get(0).size());
+    assertEquals(2, batches.get(1).size());
+  }
+
+  @Test
+  public void testChainsKeptTogetherInBatches() {
+    List<IFile> poms = createPoms();
+
+    List<List<IFile>> batches = ProjectRegistryManager.partitionByParentChain(poms, 2);
+
+    assertEquals(2, batches.size());
+    assertEquals(4, batches.get(0).size());
+    assertEquals(4, batches.get(1).size());
+    Set<IFile> all = new HashSet<>();
+    batches.forEach(all::addAll);
+    assertEquals(Set.copyOf(poms), all);
+    assertTrue(batches.stream().anyMatch(batch -> batch.containsAll(List.of(a, a1, a2))));
+    assertTrue(batches.stream().anyMatch(batch -> batch.containsAll(List.of(b, b1))));
+  }
+
+  @Test
+  public void testSingleBatch() {
+    List<IFile> poms = createPoms();
+
+    List<List<IFile>> batches = ProjectRegistryManager.partitionByParentChain(poms, 1);
+
+    assertEquals(1, batches.size());
+    assertEquals(Set.copyOf(poms), Set.copyOf(batches.get(0)));
+  }
+
+  private IFile pom(String directory) {
+    File file = new File(new File(temp.getRoot(), directory), "pom.xml");
+    IFile pom = mock(IFile.class);
+    when(pom.getLocation()).thenReturn(IPath.fromOSString(file.getAbsolutePath()));
+    return pom;
+  }
+
+  private static Set<Set<IFile>> toSets(List<List<IFile>> batches) {
+    Set<Set<IFile>> sets = new HashSet<>();
+    for(List<IFile> batch : batches) {
+      sets.add(Set.copyOf(batch));
+    }
+    return sets;
+  }
+}
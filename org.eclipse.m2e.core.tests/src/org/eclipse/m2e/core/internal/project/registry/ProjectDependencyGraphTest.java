@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+
+public class ProjectDependencyGraphTest {
+
+  private final Map<IFile, Set<VersionlessKey>> required = new HashMap<>();
+
+  @Test
+  public void testDependenciesFirst() {
+    // c has b as parent, b imports the dependency management of a
+    IFile a = pom("a");
+    IFile b = pom("b", "a");
+    IFile c = pom("c", "b");
+    IFile d = pom("d", "a", "c", "external");
+
+    ProjectDependencyGraph graph = graph(d, c, b, a);
+
+    assertEquals(List.of(a, b, c, d), graph.getResolutionOrder());
+    assertEquals(3, graph.countOutOfOrder(List.of(d, c, b, a)));
+    assertEquals(0, graph.countOutOfOrder(List.of(a, b, c, d)));
+  }
+
+  @Test
+  public void testIndependentProjectsKeepOrder() {
+    IFile a = pom("a");
+    IFile b = pom("b");
+    IFile c = pom("c", "a", "b");
+
+    assertEquals(List.of(a, b, c), graph(c, a, b).getResolutionOrder());
+    assertEquals(List.of(b, a, c), graph(c, b, a).getResolutionOrder());
+  }
+
+  @Test
+  public void testCycle() {
+    IFile a = pom("a");
+    IFile x = pom("x", "a", "y");
+    IFile y = pom("y", "x");
+    IFile z = pom("z", "y");
+    IFile self = pom("self", "self");
+
+    // projects in or behind the cycle keep their order at the end, a self reference is no cycle
+    assertEquals(List.of(a, self, z, y, x), graph(z, y, a, x, self).getResolutionOrder());
+  }
+
+  private ProjectDependencyGraph graph(IFile... poms) {
+    return new ProjectDependencyGraph(List.of(poms), pom -> key(pom.getProject().getName()),
+        pom -> required.getOrDefault(pom, Set.of()));
+  }
+
+  private IFile pom(String name, String... dependencies) {
+    IFile pom = ResourcesPlugin.getWorkspace().getRoot().getFile(IPath.fromOSString("/" + name + "/pom.xml"));
+    Set<VersionlessKey> keys = new HashSet<>();
+    for(String dependency : dependencies) {
+      keys.add(key(dependency));
+    }
+    required.put(pom, keys);
+    return pom;
+  }
+
+  private static VersionlessKey key(String artifactId) {
+    return new VersionlessKey(MavenCapability.NS_MAVEN_ARTIFACT, "org.eclipse.m2e.tests:" + artifactId);
+  }
+}
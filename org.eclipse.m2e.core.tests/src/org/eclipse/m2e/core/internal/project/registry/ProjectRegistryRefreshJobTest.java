@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.eclipse.m2e.core.internal.project.registry.ProjectRegistryRefreshJob.MAX_DEBOUNCE;
+import static org.eclipse.m2e.core.internal.project.registry.ProjectRegistryRefreshJob.QUIET_PERIOD;
+import static org.eclipse.m2e.core.internal.project.registry.ProjectRegistryRefreshJob.getProcessingDelay;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryRefreshJob.RefreshMode;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
+
+
+public class ProjectRegistryRefreshJobTest {
+
+  private static final RefreshMode OFFLINE = new RefreshMode(true, false);
+
+  private static final RefreshMode OFFLINE_FORCED = new RefreshMode(true, true);
+
+  private static final RefreshMode ONLINE = new RefreshMode(false, false);
+
+  private static final RefreshMode ONLINE_FORCED = new RefreshMode(false, true);
+
+  private final RecordingRefreshJob job = new RecordingRefreshJob();
+
+  @After
+  public void cancelJob() {
+    job.cancel();
+  }
+
+  @Test
+  public void testMergeRefreshModes() {
+    assertEquals(OFFLINE, OFFLINE.merge(OFFLINE));
+    assertEquals(OFFLINE_FORCED, OFFLINE.merge(OFFLINE_FORCED));
+    assertEquals(ONLINE, OFFLINE.merge(ONLINE));
+    assertEquals(ONLINE_FORCED, OFFLINE.merge(ONLINE_FORCED));
+    assertEquals(ONLINE_FORCED, ONLINE.merge(OFFLINE_FORCED));
+    assertEquals(ONLINE_FORCED, OFFLINE_FORCED.merge(ONLINE));
+  }
+
+  @Test
+  public void testProcessMergesRequests() {
+    IFile a = pom();
+    IFile b = pom();
+    IFile c = pom();
+
+    job.process(List.of(request(true, false, a, b), request(false, false, b), request(true, true, c, a)),
+        new NullProgressMonitor());
+
+    // each pom is refreshed once, in a single slice as none is prioritized
+    assertEquals(List.of(Map.of(a, OFFLINE_FORCED, b, ONLINE, c, OFFLINE_FORCED)), job.slices);
+  }
+
+  @Test
+  public void testProcessingDelay() {
+    long first = 100_000L;
+    // processing is postponed while requests keep coming in
+    assertEquals(QUIET_PERIOD, getProcessingDelay(first, first, first));
+    assertEquals(QUIET_PERIOD - 10, getProcessingDelay(first, first, first + 10));
+    assertEquals(QUIET_PERIOD, getProcessingDelay(first, first + 500, first + 500));
+    // once the quiet period passed the requests are processed
+    assertEquals(0, getProcessingDelay(first, first, first + QUIET_PERIOD));
+    assertEquals(0, getProcessingDelay(first, first + 500, first + 500 + QUIET_PERIOD + 1));
+    // but not later than the debounce cap, even if requests are still coming in
+    long last = first + MAX_DEBOUNCE - QUIET_PERIOD / 2;
+    assertEquals(QUIET_PERIOD / 2, getProcessingDelay(first, last, last));
+    assertEquals(0, getProcessingDelay(first, first + MAX_DEBOUNCE, first + MAX_DEBOUNCE));
+    assertEquals(0, getProcessingDelay(first, first + 2 * MAX_DEBOUNCE, first + 2 * MAX_DEBOUNCE));
+  }
+
+  @Test
+  public void testPriorityPomsAreCounted() {
+    IFile a = pom();
+
+    assertFalse(job.isPrioritized(a));
+    job.addPriorityPom(a);
+    job.addPriorityPom(a);
+    assertTrue(job.isPrioritized(a));
+    job.removePriorityPom(a);
+    // still open in another editor
+    assertTrue(job.isPrioritized(a));
+    job.removePriorityPom(a);
+    assertFalse(job.isPrioritized(a));
+    // unpaired removals are ignored
+    job.removePriorityPom(a);
+    job.addPriorityPom(a);
+    assertTrue(job.isPrioritized(a));
+  }
+
+  @Test
+  public void testPomsWithErrorsArePrioritized() throws CoreException {
+    IFile a = pom();
+    when(a.exists()).thenReturn(true);
+    when(a.findMaxProblemSeverity(IMavenConstants.MARKER_ID, true, IResource.DEPTH_ZERO))
+        .thenReturn(IMarker.SEVERITY_ERROR);
+    IFile b = pom();
+    when(b.exists()).thenReturn(true);
+    when(b.findMaxProblemSeverity(IMavenConstants.MARKER_ID, true, IResource.DEPTH_ZERO))
+        .thenReturn(IMarker.SEVERITY_WARNING);
+
+    assertTrue(job.isPrioritized(a));
+    assertFalse(job.isPrioritized(b));
+  }
+
+  @Test
+  public void testPrioritizedPomsFirst() {
+    IFile a = pom();
+    IFile b = pom();
+    IFile c = pom();
+    job.addPriorityPom(b);
+
+    job.process(List.of(request(false, false, a, b, c)), new NullProgressMonitor());
+
+    assertEquals(List.of(Map.of(b, ONLINE), Map.of(a, ONLINE, c, ONLINE)), job.slices);
+    assertTrue(job.isEmpty());
+  }
+
+  @Test
+  public void testRequeueRemainingAfterStaleSlice() {
+    IFile a = pom();
+    IFile b = pom();
+    IFile c = pom();
+    IFile d = pom();
+    job.addPriorityPom(a);
+    job.staleSlice = 1;
+    job.refresh(request(false, false, d));
+
+    job.process(List.of(request(false, false, a, b), request(true, true, c)), new NullProgressMonitor());
+
+    // the prioritized slice was applied, the others are queued again before the request queued in the meantime
+    assertEquals(2, job.slices.size());
+    assertEquals(Map.of(a, ONLINE), job.slices.get(0));
+    job.cancel();
+    assertEquals(List.of(request(false, false, b), request(true, true, c), request(false, false, d)),
+        job.getQueuedRequests());
+  }
+
+  @Test
+  public void testRequeueAllAfterStaleFirstSlice() {
+    IFile a = pom();
+    IFile b = pom();
+    job.addPriorityPom(a);
+    job.staleSlice = 0;
+
+    job.process(List.of(request(true, false, a, b)), new NullProgressMonitor());
+
+    // the job is scheduled to process the requeued poms
+    assertEquals(Job.SLEEPING, job.getState());
+    job.cancel();
+    assertEquals(List.of(request(true, false, a, b)), job.getQueuedRequests());
+  }
+
+  private static IFile pom() {
+    return mock(IFile.class);
+  }
+
+  private static MavenUpdateRequest request(boolean offline, boolean forceDependencyUpdate, IFile... poms) {
+    MavenUpdateRequest request = new MavenUpdateRequest(offline, forceDependencyUpdate);
+    for(IFile pom : poms) {
+      request.addPomFile(pom);
+    }
+    return request;
+  }
+
+  /**
+   * Records the refreshed slices instead of refreshing them, the slice with index {@link #staleSlice} fails because
+   * the registry became stale.
+   */
+  private static class RecordingRefreshJob extends ProjectRegistryRefreshJob {
+
+    final List<Map<IFile, RefreshMode>> slices = new ArrayList<>();
+
+    int staleSlice = -1;
+
+    @Override
+    void refresh(Map<IFile, RefreshMode> poms, IProgressMonitor monitor) {
+      slices.add(new LinkedHashMap<>(poms));
+      if(slices.size() - 1 == staleSlice) {
+        throw new StaleMutableProjectRegistryException();
+      }
+    }
+  }
+}
@@ -72,6 +72,24 @@ public class RegistryTest extends AbstractMavenProjectTestCase {
     assertEquals(Collections.singleton(project.getFile("pom.xml")), registry.getDependents(parentCapability, false));
   }
 
+  @Test
+  public void testMutableRegistryDoesNotModifyParent() throws IOException, CoreException, InterruptedException {
+    IProject project = createExisting(getClass().getSimpleName(), "resources/projects/missingParent", true);
+    waitForJobsToComplete(monitor);
+    ProjectRegistryManager registryManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    MavenCapability parentCapability = MavenCapability
+        .createMavenParent(new ArtifactKey("missingGroup", "missingArtifactId", "1", null));
+    IFile pom = project.getFile("pom.xml");
+    try (MutableProjectRegistry registry = registryManager.newMutableProjectRegistry()) {
+      assertEquals(Collections.singleton(pom), registry.getDependents(parentCapability, true));
+      registry.removeProject(pom, null);
+      assertEquals(Collections.emptySet(), registry.getDependents(parentCapability, false));
+    }
+    try (MutableProjectRegistry registry = registryManager.newMutableProjectRegistry()) {
+      assertEquals(Collections.singleton(pom), registry.getDependents(parentCapability, false));
+    }
+  }
+
   @Test
   public void testMultiRefreshKeepsCapabilities() throws IOException, CoreException, InterruptedException {
     IProject dependentProject = createExisting("dependent", "resources/projects/dependency/dependent", true);
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.apache.commons.io.FileUtils;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.project.MavenProjectInfo;
+import org.eclipse.m2e.core.project.ProjectImportConfiguration;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+/**
+ * Compares the binary workspace state format with plain java serialization of the registry and checks the state
+ * survives a round trip, directly and through the journal.
+ */
+public class WorkspaceStateFormatTest extends AbstractMavenProjectTestCase {
+
+  private static final int PROJECTS = 30;
+
+  @Test
+  public void testRoundTripAndSize() throws Exception {
+    File tempDirectory = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+    try {
+      ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+      ProjectRegistry registry = importDependencyChain(tempDirectory, manager);
+
+      byte[] serialized = serialize(registry);
+      WorkspaceStateOutput out = new WorkspaceStateOutput();
+      ProjectRegistryReader.writeRegistry(registry, out);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      out.writeTo(bytes);
+      byte[] binary = bytes.toByteArray();
+      // the serialized state must be complete to be a fair comparison
+      deserialize(serialized, manager);
+
+      assertTrue("binary state should be smaller than the serialized one", binary.length < serialized.length);
+
+      ProjectRegistry read = ProjectRegistryReader.readRegistry(WorkspaceStateInput.open(binary), manager);
+      assertSameState(registry, read);
+    } finally {
+      FileUtils.deleteDirectory(tempDirectory);
+    }
+  }
+
+  @Test
+  public void testJournalReplay() throws Exception {
+    File tempDirectory = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+    File stateLocation = new File(tempDirectory, "state");
+    stateLocation.mkdirs();
+    try {
+      ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+      ProjectRegistry registry = importDependencyChain(tempDirectory, manager);
+
+      ProjectRegistryReader reader = new ProjectRegistryReader();
+      reader.setStateLocation(stateLocation);
+      assertTrue(reader.writeWorkspaceState(registry));
+      long snapshotSize = reader.getStateFile().length();
+
+      // remove the last project of the chain and append the change to the journal
+      MavenProjectFacade removed = registry.getProjects().stream()
+          .filter(f -> f.getArtifactKey().artifactId().equals("p" + (PROJECTS - 1))).findFirst().get();
+      ProjectRegistry previous = registry.copy();
+      try (MutableProjectRegistry state = new MutableProjectRegistry(registry)) {
+        state.removeProject(removed.getPom(), removed.getArtifactKey());
+        registry.apply(state);
+      }
+      assertFalse(reader.appendDelta(previous, registry.copy()));
+      assertTrue(reader.writeWorkspaceState(registry));
+      assertEquals("snapshot is not rewritten when the journal is up to date", snapshotSize,
+          reader.getStateFile().length());
+
+      ProjectRegistryReader restarted = new ProjectRegistryReader();
+      restarted.setStateLocation(stateLocation);
+      ProjectRegistry read = restarted.readWorkspaceState(manager);
+      assertNotNull(read);
+      assertEquals(PROJECTS - 1, read.getProjects().size());
+      assertNull(read.getProjectFacade(removed.getPom()));
+      assertSameState(registry, read);
+    } finally {
+      FileUtils.deleteDirectory(tempDirectory);
+    }
+  }
+
+  private static ProjectRegistry importDependencyChain(File directory, ProjectRegistryManager manager)
+      throws Exception {
+    List<MavenProjectInfo> toImport = new ArrayList<>();
+    for(File pom : createDependencyChain(directory)) {
+      toImport.add(new MavenProjectInfo("", pom, null, null));
+    }
+    MavenPlugin.getProjectConfigurationManager().importProjects(toImport, new ProjectImportConfiguration(), null,
+        new NullProgressMonitor());
+    waitForJobsToComplete(new NullProgressMonitor());
+
+    ProjectRegistry registry = new ProjectRegistry();
+    try (MutableProjectRegistry state = manager.newMutableProjectRegistry()) {
+      registry.apply(state);
+    }
+    assertEquals(PROJECTS, registry.getProjects().size());
+    return registry;
+  }
+
+  private static void assertSameState(ProjectRegistry registry, ProjectRegistry read) {
+    assertEquals(registry.workspacePoms.keySet(), read.workspacePoms.keySet());
+    assertEquals(registry.workspaceArtifacts, read.workspaceArtifacts);
+    assertEquals(registry.workspaceArtifactVersions, read.workspaceArtifactVersions);
+    assertEquals(registry.projectCapabilities, read.projectCapabilities);
+    assertEquals(registry.projectRequirements, read.projectRequirements);
+    assertEquals(registry.requiredCapabilities, read.requiredCapabilities);
+    for(MavenProjectFacade expected : registry.getProjects()) {
+      MavenProjectFacade actual = read.getProjectFacade(expected.getPomFile());
+      assertNotNull(actual);
+      assertEquals(expected.getPom(), actual.getPom());
+      assertEquals(expected.getArtifactKey(), actual.getArtifactKey());
+      assertEquals(expected.getPackaging(), actual.getPackaging());
+      assertEquals(expected.getConfiguration(), actual.getConfiguration());
+      assertEquals(expected.getCompileSourceLocations(), actual.getCompileSourceLocations());
+      assertEquals(expected.getOutputLocation(), actual.getOutputLocation());
+      assertEquals(expected.getMavenProjectArtifacts(), actual.getMavenProjectArtifacts());
+      assertEquals(expected.getArtifactRepositoryRefs(), actual.getArtifactRepositoryRefs());
+      assertEquals(expected.getLifecycleMappingId(), actual.getLifecycleMappingId());
+      assertEquals(expected.getMojoExecutionMapping().keySet(), actual.getMojoExecutionMapping().keySet());
+      assertEquals(expected.isStale(), actual.isStale());
+    }
+  }
+
+  private static List<File> createDependencyChain(File directory) throws IOException {
+    List<File> poms = new ArrayList<>();
+    for(int i = 0; i < PROJECTS; i++ ) {
+      File projectDir = new File(directory, "p" + i);
+      projectDir.mkdirs();
+      File pom = new File(projectDir, "pom.xml");
+      poms.add(pom.getCanonicalFile());
+      try (PrintStream content = new PrintStream(pom)) {
+        content.println("<project>");
+        content.println("  <modelVersion>4.0.0</modelVersion>");
+        content.println("  <groupId>org.eclipse.m2e.core.tests.state</groupId>");
+        content.println("  <artifactId>p" + i + "</artifactId>");
+        content.println("  <version>1</version>");
+        if(i > 0) {
+          content.println("  <dependencies>");
+          content.println("    <dependency>");
+          content.println("      <groupId>org.eclipse.m2e.core.tests.state</groupId>");
+          content.println("      <artifactId>p" + (i - 1) + "</artifactId>");
+          content.println("      <version>1</version>");
+          content.println("    </dependency>");
+          content.println("  </dependencies>");
+        }
+        content.println("</project>");
+      }
+    }
+    return poms;
+  }
+
+  /**
+   * Java serialization as used for the workspace state by previous versions
+   */
+  private static byte[] serialize(BasicProjectRegistry registry) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream os = new ObjectOutputStream(bytes) {
+      {
+        enableReplaceObject(true);
+      }
+
+      @Override
+      protected Object replaceObject(Object o) throws IOException {
+        if(o instanceof IPath path) {
+          return new PathReplace(path.toPortableString());
+        } else if(o instanceof IFile file) {
+          return new FileReplace(file.getFullPath().toPortableString());
+        } else if(o instanceof ProjectRegistryManager) {
+          return new ManagerReplace();
+        }
+        return super.replaceObject(o);
+      }
+    }) {
+      os.writeObject(registry);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(byte[] data, ProjectRegistryManager manager) throws Exception {
+    try (ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(data)) {
+      {
+        enableResolveObject(true);
+      }
+
+      @Override
+      protected Object resolveObject(Object o) throws IOException {
+        if(o instanceof PathReplace path) {
+          return IPath.fromPortableString(path.path());
+        } else if(o instanceof FileReplace file) {
+          return ResourcesPlugin.getWorkspace().getRoot().getFile(IPath.fromPortableString(file.path()));
+        } else if(o instanceof ManagerReplace) {
+          return manager;
+        }
+        return super.resolveObject(o);
+      }
+    }) {
+      return is.readObject();
+    }
+  }
+
+  private record PathReplace(String path) implements Serializable {
+  }
+
+  private record FileReplace(String path) implements Serializable {
+  }
+
+  private record ManagerReplace() implements Serializable {
+  }
+}
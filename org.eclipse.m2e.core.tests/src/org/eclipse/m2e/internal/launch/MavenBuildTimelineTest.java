@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.internal.launch.MavenBuildTimeline.ProjectExecution;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenBuildConnection;
+
+
+public class MavenBuildTimelineTest {
+
+  private static final long ORIGIN = 1_000_000L;
+
+  @Test
+  public void testParallelBuild() throws Exception {
+    MavenBuildTimeline timeline = new MavenBuildTimeline();
+    MavenBuildConnection connection = M2EMavenBuildDataBridge.prepareConnection("test", p -> {
+    }, timeline::accept);
+    String arguments = connection.getMavenVMArguments();
+    int port = Integer.parseInt(arguments.substring(arguments.indexOf('=') + 1));
+
+    // -T 2: a and b start together, c starts once b is done, d once a is done
+    try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel))) {
+      mojo(out, "MojoStarted", "a", "compile", "thread-1", 0);
+      mojo(out, "MojoStarted", "b", "compile", "thread-2", 0);
+      // malformed frames are skipped without ending the stream
+      frame(out, Map.of("type", "MojoStarted"));
+      mojo(out, "MojoStarted", "b", "compile", "thread-2", "soon");
+      mojo(out, "MojoSucceeded", "b", "compile", "thread-2", 4);
+      mojo(out, "MojoStarted", "c", "compile", "thread-2", 5);
+      mojo(out, "MojoSucceeded", "a", "compile", "thread-1", 6);
+      mojo(out, "MojoStarted", "a", "test", "thread-1", 6);
+      mojo(out, "MojoSucceeded", "a", "test", "thread-1", 10);
+      mojo(out, "MojoStarted", "d", "compile", "thread-1", 10);
+      mojo(out, "MojoSucceeded", "c", "compile", "thread-2", 12);
+      mojo(out, "MojoFailed", "d", "compile", "thread-1", 20);
+    }
+    connection.getReadCompletion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    assertEquals(5, timeline.getMojoExecutions().size());
+    assertEquals(List.of(new ProjectExecution(key("a"), 0, 10), new ProjectExecution(key("b"), 0, 4),
+        new ProjectExecution(key("c"), 5, 12), new ProjectExecution(key("d"), 10, 20)),
+        timeline.getProjectExecutions());
+    // c overlaps with a and d, but d only waited for a
+    assertEquals(List.of(key("a"), key("d")),
+        timeline.getCriticalPath().stream().map(ProjectExecution::project).toList());
+    assertEquals(Map.of("compile", Duration.ofNanos(6 + 4 + 7 + 10), "test", Duration.ofNanos(4)),
+        timeline.getMojoDurations());
+    assertEquals("compile", timeline.getMojoDurations().keySet().iterator().next());
+  }
+
+  @Test
+  public void testCriticalPathWithRunningMojos() throws Exception {
+    // the build of the only project is still running
+    MavenBuildTimeline single = build(out -> mojo(out, "MojoStarted", "a", "compile", "thread-1", 0));
+    assertEquals(List.of(new ProjectExecution(key("a"), 0, 0)), single.getProjectExecutions());
+    assertEquals(single.getProjectExecutions(), single.getCriticalPath());
+
+    MavenBuildTimeline parallel = build(out -> {
+      mojo(out, "MojoStarted", "a", "compile", "thread-1", 0);
+      mojo(out, "MojoStarted", "b", "compile", "thread-2", 0);
+    });
+    List<ArtifactKey> path = parallel.getCriticalPath().stream().map(ProjectExecution::project).toList();
+    assertEquals(2, path.size());
+    assertEquals(Set.of(key("a"), key("b")), Set.copyOf(path));
+  }
+
+  private interface Frames {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  private static MavenBuildTimeline build(Frames frames) throws Exception {
+    MavenBuildTimeline timeline = new MavenBuildTimeline();
+    MavenBuildConnection connection = M2EMavenBuildDataBridge.prepareConnection("test", p -> {
+    }, timeline::accept);
+    String arguments = connection.getMavenVMArguments();
+    int port = Integer.parseInt(arguments.substring(arguments.indexOf('=') + 1));
+    try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel))) {
+      frames.write(out);
+    }
+    connection.getReadCompletion().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    return timeline;
+  }
+
+  private static void mojo(DataOutputStream out, String type, String project, String goal, String thread, Object time)
+      throws IOException {
+    Map<String, String> data = new LinkedHashMap<>();
+    data.put("type", type);
+    data.put("groupId", "org.eclipse.m2e.tests");
+    data.put("artifactId", project);
+    data.put("version", "1.0");
+    data.put("mojo", goal);
+    data.put("thread", thread);
+    data.put("nanoTime", String.valueOf(time instanceof Integer t ? ORIGIN + t : time));
+    frame(out, data);
+  }
+
+  private static void frame(DataOutputStream out, Map<String, String> data) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream frame = new DataOutputStream(bytes);
+    frame.writeByte(1); // mojo execution data-set
+    frame.writeShort(data.size());
+    for(Map.Entry<String, String> entry : data.entrySet()) {
+      frame.writeUTF(entry.getKey());
+      frame.writeUTF(entry.getValue());
+    }
+    out.writeInt(bytes.size());
+    bytes.writeTo(out);
+  }
+
+  private static ArtifactKey key(String artifactId) {
+    return new ArtifactKey("org.eclipse.m2e.tests", artifactId, "1.0", null);
+  }
+}
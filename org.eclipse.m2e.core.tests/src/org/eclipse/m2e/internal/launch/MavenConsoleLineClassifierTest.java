@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import static org.eclipse.m2e.internal.launch.MavenConsoleLineClassifier.classify;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import org.eclipse.m2e.internal.launch.MavenConsoleLineClassifier.LineKind;
+import org.eclipse.m2e.internal.launch.MavenConsoleLineClassifier.LineText;
+
+
+public class MavenConsoleLineClassifierTest {
+
+  /**
+   * The pattern the escape sequences were formerly removed with
+   */
+  private static final Pattern ESCAPE_CHARACTERS = Pattern.compile("\\e\\[[\\d;]*?[^\\d;]");
+
+  @Test
+  public void testClassify() {
+    assertEquals(LineKind.SEPARATOR, classify("[INFO] --------------------[ jar ]---------------------"));
+    assertEquals(LineKind.RUNNING_TEST, classify("Running org.example.FooTest"));
+    assertEquals(LineKind.RUNNING_TEST, classify("[INFO] Running org.example.FooTest"));
+    assertEquals(LineKind.RUNNING_TEST, classify("12:00:01,123 [INFO] Running org.example.FooTest"));
+    assertEquals(LineKind.RUNNING_TEST, classify("[INFO] [stdout] Running org.example.FooTest"));
+    assertEquals(LineKind.DEBUGGER_LISTENING, classify("Listening for transport dt_socket at address: 5005"));
+    assertEquals(LineKind.DEBUGGER_LISTENING,
+        classify("[forked] Listening for transport dt_socket at address: 5005"));
+    assertEquals(LineKind.EXECUTION_FAILURE,
+        classify("[ERROR] Failed to execute goal org.apache.maven.plugins:maven-compiler-plugin:3.13.0:compile"
+            + " (default-compile) on project demo: Compilation failure"));
+    assertEquals(LineKind.EXECUTION_FAILURE,
+        classify("[ERROR] Failed to execute goal org.apache.maven.plugins:maven-surefire-plugin:3.2.5:test"
+            + " (default-test) on project demo: Running org.example.FooTest failed"));
+    assertEquals(LineKind.OTHER, classify("[INFO] Building demo 1.0"));
+    assertEquals(LineKind.OTHER, classify("[INFO]"));
+    assertEquals(LineKind.OTHER, classify(""));
+  }
+
+  @Test
+  public void testLineTextMatchesFormerPattern() {
+    String esc = "\u001b";
+    LineText lineText = new LineText();
+    for(String rawText : List.of("[INFO] Building demo 1.0", //
+        esc + "[1;31m[ERROR]" + esc + "[m Failed to execute goal", //
+        esc + "[1m" + esc + "[0;32mRunning " + esc + "[1morg.example.FooTest" + esc + "[m", //
+        "lone " + esc + " escape", //
+        "escape at the end " + esc, //
+        "unterminated " + esc + "[", //
+        "unterminated parameters " + esc + "[12;3", //
+        esc + "[" + esc + "[0m nested", //
+        esc + esc + "[0m double", //
+        esc + "[[ bracket", //
+        esc + "[0m", //
+        "plain again")) {
+      List<int[]> removedLocations = new ArrayList<>();
+      String expected = ESCAPE_CHARACTERS.matcher(rawText).replaceAll(mr -> {
+        removedLocations.add(new int[] {mr.start(), mr.end() - mr.start()});
+        return "";
+      });
+
+      lineText.set(rawText);
+
+      assertEquals(rawText, expected, lineText.text());
+      for(int i = 0; i <= expected.length(); i++ ) {
+        assertEquals(rawText + " at " + i, getOriginalIndex(i, removedLocations), lineText.getOriginalIndex(i));
+      }
+    }
+  }
+
+  /**
+   * The former mapping of indexes in the text without escape sequences
+   */
+  private static int getOriginalIndex(int index, List<int[]> removedLocations) {
+    for(int i = 0; i < removedLocations.size() && removedLocations.get(i)[0] < index; i++ ) {
+      index += removedLocations.get(i)[1];
+    }
+    return index;
+  }
+}
@@ -15,12 +15,15 @@ package org.eclipse.m2e.core.ui.internal.wizards;
 
 import java.text.DateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -67,6 +70,7 @@ import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.UserInputSearchExpression;
 import org.eclipse.m2e.core.internal.index.filter.ArtifactFilterManager;
 import org.eclipse.m2e.core.internal.jobs.MavenJob;
 import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
@@ -398,7 +402,6 @@ public class MavenPomSelectionComponent extends Composite {
 
     private String query;
 
-    @SuppressWarnings("unused") //TODO: remove if search-capability is not restored
     private final String field;
 
     private volatile boolean stop = false;
@@ -424,11 +427,35 @@ public class MavenPomSelectionComponent extends Composite {
           || searchResultViewer.getControl().isDisposed()) {
         return Status.CANCEL_STATUS;
       }
-      if(query != null) {
+      IIndex index = MavenPluginActivator.getDefault().getIndex();
+      if(query != null && index != null) {
         String activeQuery = query;
         setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_searching, activeQuery.toLowerCase()), null);
+        try {
+          int classifier = showClassifiers() ? IIndex.SEARCH_ALL : IIndex.SEARCH_JARS;
+          Map<String, IndexedArtifact> res = index.search(new UserInputSearchExpression(activeQuery), field,
+              classifier);
+          if(monitor.isCanceled()) {
+            return Status.CANCEL_STATUS;
+          }
+          //335139 have the managed entries always come up as first results
+          Map<String, IndexedArtifact> managed = new LinkedHashMap<>();
+          Map<String, IndexedArtifact> nonManaged = new LinkedHashMap<>();
+          for(Map.Entry<String, IndexedArtifact> art : res.entrySet()) {
+            if(managedKeys.contains(getKey(art.getValue()))) {
+              managed.put(art.getKey(), art.getValue());
+            } else {
+              nonManaged.put(art.getKey(), art.getValue());
+            }
+          }
+          managed.putAll(nonManaged);
+          setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_results, activeQuery, res.size()),
+              managed);
+        } catch(CoreException | RuntimeException ex) {
+          setResult(IStatus.ERROR, NLS.bind(Messages.MavenPomSelectionComponent_error, ex.getMessage()),
+              Collections.emptyMap());
+        }
       }
-      // TODO used to be indexer, replace with Central search
 
       return Status.OK_STATUS;
     }
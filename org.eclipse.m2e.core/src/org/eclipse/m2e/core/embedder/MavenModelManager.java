@@ -79,6 +79,7 @@ import org.eclipse.m2e.core.internal.IMavenToolbox;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.embedder.PlexusContainerManager;
+import org.eclipse.m2e.core.internal.project.DependencyTreeCache;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
 
@@ -101,6 +102,9 @@ public class MavenModelManager {
   @Reference
   private IMaven maven;
 
+  @Reference
+  private DependencyTreeCache dependencyTreeCache;
+
   public org.apache.maven.model.Model readMavenModel(InputStream reader) throws CoreException {
     return IMavenToolbox.of(maven).readModel(reader);
   }
@@ -202,17 +206,27 @@ public class MavenModelManager {
     }
   }
 
-  public synchronized DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
+  public DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
       final String scope, IProgressMonitor monitor) throws CoreException {
+    return readDependencyTree(context, mavenProject, scope, false, monitor);
+  }
+
+  /**
+   * @param force {@code true} to collect the dependencies again instead of reusing the tree collected for the same
+   *          dependencies and repositories, e.g. to pick up artifacts installed to the local repository meanwhile
+   */
+  public DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
+      final String scope, boolean force, IProgressMonitor monitor) throws CoreException {
     monitor.setTaskName(Messages.MavenModelManager_monitor_building);
 
-    ICallable<DependencyNode> callable = (context1, monitor1) -> readDependencyTree(context1.getRepositorySession(), mavenProject, scope);
+    ICallable<DependencyNode> callable = (context1, monitor1) -> readDependencyTree(context1.getRepositorySession(),
+        mavenProject, scope, force);
 
     return (context != null) ? projectManager.execute(context, callable, monitor) : maven.execute(callable, monitor);
   }
 
-  DependencyNode readDependencyTree(RepositorySystemSession repositorySession, MavenProject mavenProject, String scope)
-      throws CoreException {
+  DependencyNode readDependencyTree(RepositorySystemSession repositorySession, MavenProject mavenProject, String scope,
+      boolean force) throws CoreException {
     DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(repositorySession);
 
     //
@@ -245,14 +259,17 @@ public class MavenModelManager {
         }
       }
 
-      DependencyNode node;
-      try {
-        node = MavenPluginActivator.getDefault().getRepositorySystem().collectDependencies(session, request).getRoot();
-      } catch(DependencyCollectionException ex) {
-        String msg = Messages.MavenModelManager_error_read;
-        log.error(msg, ex);
-        throw new CoreException(Status.error(msg, ex));
-      }
+      // the tree of all scopes is collected once, the requested scope is a filtered copy of it
+      DependencyNode node = dependencyTreeCache.get(session, request, force, () -> {
+        try {
+          return MavenPluginActivator.getDefault().getRepositorySystem().collectDependencies(session, request)
+              .getRoot();
+        } catch(DependencyCollectionException ex) {
+          String msg = Messages.MavenModelManager_error_read;
+          log.error(msg, ex);
+          throw new CoreException(Status.error(msg, ex));
+        }
+      });
 
       Collection<String> scopes = new HashSet<>();
       Collections.addAll(scopes, Artifact.SCOPE_SYSTEM, Artifact.SCOPE_COMPILE, Artifact.SCOPE_PROVIDED,
@@ -273,7 +290,15 @@ public class MavenModelManager {
         scopes.clear();
       }
 
-      CloningDependencyVisitor cloner = new CloningDependencyVisitor();
+      // the cached tree is shared, callers get copies they can attach their own data to
+      CloningDependencyVisitor cloner = new CloningDependencyVisitor() {
+        @Override
+        protected DependencyNode clone(DependencyNode node) {
+          DependencyNode clone = super.clone(node);
+          clone.setData(new HashMap<>(node.getData()));
+          return clone;
+        }
+      };
       node.accept(new FilteringDependencyVisitor(cloner, new ScopeDependencyFilter(null, scopes)));
       node = cloner.getRootNode();
 
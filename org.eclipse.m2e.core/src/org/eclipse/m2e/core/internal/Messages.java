@@ -94,6 +94,8 @@ public class Messages extends NLS {
 
   public static String LocalProjectScanner_missingArtifactId;
 
+  public static String LocalRepositoryIndex_job;
+
   public static String MavenExternalRuntime_error_cannot_parse;
 
   public static String MavenExternalRuntime_exc_unsupported;
@@ -236,6 +238,8 @@ public class Messages extends NLS {
 
   public static String ProjectConfigurationManager_task_updating_projects;
 
+  public static String ProjectRegistryManager_compactWorkspaceState;
+
   public static String ProjectRegistryManager_task_project;
 
   public static String ProjectRegistryManager_task_refreshing;
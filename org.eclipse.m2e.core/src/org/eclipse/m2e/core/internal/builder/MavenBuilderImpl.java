@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -29,7 +30,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,8 +78,20 @@ public class MavenBuilderImpl {
 
   public static final QualifiedName BUILD_CONTEXT_KEY = new QualifiedName(IMavenConstants.PLUGIN_ID, "BuildContext"); //$NON-NLS-1$
 
+  /**
+   * Refresh the whole project after each build instead of only the output folders and the resources reported by the
+   * build participants.
+   */
+  private static final boolean FULL_REFRESH = Boolean.getBoolean("m2e.builder.fullRefresh");
+
   private static final String BUILD_PARTICIPANT_ID_ATTR_NAME = "buildParticipantId";
 
+  /**
+   * Facade session property holding the {@link PathTrie} of the facade, it is discarded with the facade when the
+   * project is removed or its pom is refreshed.
+   */
+  private static final String PROP_PATH_TRIE = MavenBuilderImpl.class.getName() + "/pathTrie"; //$NON-NLS-1$
+
   private final DeltaProvider deltaProvider;
 
   private final List<IIncrementalBuildFramework> incrementalBuildFrameworks;
@@ -193,7 +205,7 @@ public class MavenBuilderImpl {
     }
     
     // Refresh files modified by build participants/maven plugins
-    refreshResources(project, participantResults.getFiles(), monitor);
+    refreshResources(project, getOutputFolders(projectFacade, mavenProject), participantResults.getFiles(), monitor);
 
     // Process errors and warnings
     MavenExecutionResult result = session.getResult();
@@ -216,50 +228,45 @@ public class MavenBuilderImpl {
       return DeltaType.UNKOWN;
     }
 
-    Predicate<IPath> isOutput = toPrefixPredicate(projectFacade.getOutputLocation());
-    Predicate<IPath> isTestOutput = toPrefixPredicate(projectFacade.getTestOutputLocation());
-    Predicate<IPath> isOutputOrTestOutput = isOutput.or(isTestOutput);
+    PathTrie pathTrie = (PathTrie) projectFacade.getSessionProperty(PROP_PATH_TRIE);
+    if(pathTrie == null || !buildOutputLocation.equals(pathTrie.buildOutputLocation)) {
+      pathTrie = new PathTrie(projectFacade, buildOutputLocation);
+      projectFacade.setSessionProperty(PROP_PATH_TRIE, pathTrie);
+    }
+    PathTrie classifier = pathTrie;
 
-    IPath projectPath = project.getFullPath();
-    List<IPath> moduleLocations = projectFacade.getMavenProjectModules().stream()
-        .map(module -> projectPath.append(module)).toList();
     AtomicReference<DeltaType> deltaType = new AtomicReference<>(DeltaType.IRRELEVANT);
     resourceDelta.accept(delta -> {
       IResource resource = delta.getResource();
       if(resource instanceof IFile) {
-        IPath fullPath = delta.getFullPath();
-        if(buildOutputLocation.isPrefixOf(fullPath)) {
-          //anything in the build output is not interesting for a change as it is produced by the build
-          // ... unless a classpath resource that existed before has been deleted, possibly by another builder
-          if(isOutputOrTestOutput.test(fullPath) && !resource.exists()) {
-            //in this case we should perform a full build as we can't know what mojo has placed data possible here...
-            deltaType.set(DeltaType.FULL_BUILD);
-            return false;
-          }
-          return true;
-        }
-        for(IPath modulePath : moduleLocations) {
-          if(modulePath.isPrefixOf(fullPath)) {
+        switch(classifier.classify(delta.getFullPath(), false)) {
+          case OUTPUT:
+            //a classpath resource that existed before has been deleted, possibly by another builder
+            if(!resource.exists()) {
+              //in this case we should perform a full build as we can't know what mojo has placed data possible here...
+              deltaType.set(DeltaType.FULL_BUILD);
+              return false;
+            }
+            return true;
+          case BUILD_OUTPUT:
+            //anything else in the build output is not interesting for a change as it is produced by the build
+            return true;
+          case MODULE:
             //this is a change in a child module so this one is not really affected and the child will be (possibly) build directly.
             return true;
-          }
+          default:
+            //anything else has changed, so mark this as relevant an leave the loop
+            deltaType.set(DeltaType.INCREMENTAL);
+            return false;
         }
-        //anything else has changed, so mark this as relevant an leave the loop
-        deltaType.set(DeltaType.INCREMENTAL);
-        return false;
       }
-      return true;
+      // nothing below build output folders other than the output folders, or below modules is relevant
+      PathKind kind = classifier.classify(delta.getFullPath(), true);
+      return kind != PathKind.BUILD_OUTPUT && kind != PathKind.MODULE;
     });
     return deltaType.get();
   }
 
-  private static Predicate<IPath> toPrefixPredicate(IPath location) {
-    if(location == null) {
-      return (p) -> false;
-    }
-    return (p) -> location.isPrefixOf(p);
-  }
-
   private List<IIncrementalBuildFramework.BuildContext> setupProjectBuildContext(IProject project, int kind,
       IResourceDelta delta, IIncrementalBuildFramework.BuildResultCollector results, ProjectBuildState buildState,
       DeltaType deltaType)
@@ -315,14 +322,56 @@ public class MavenBuilderImpl {
     }
   }
 
-  private void refreshResources(IProject project, Collection<File> resources, IProgressMonitor monitor)
-      throws CoreException {
+  /**
+   * Returns the workspace paths of the folders a build writes to, without being reported by the build participants
+   * necessarily: the output folders and generated source folders inside the build output location.
+   */
+  private static Collection<IPath> getOutputFolders(IMavenProjectFacade projectFacade, MavenProject mavenProject) {
+    IPath buildOutputLocation = projectFacade.getBuildOutputLocation();
+    Set<IPath> folders = new LinkedHashSet<>();
+    if(projectFacade.getOutputLocation() != null) {
+      folders.add(projectFacade.getOutputLocation());
+    }
+    if(projectFacade.getTestOutputLocation() != null) {
+      folders.add(projectFacade.getTestOutputLocation());
+    }
+    if(mavenProject != null && buildOutputLocation != null) {
+      IProject project = projectFacade.getProject();
+      List<String> sourceRoots = new ArrayList<>(mavenProject.getCompileSourceRoots());
+      sourceRoots.addAll(mavenProject.getTestCompileSourceRoots());
+      for(String sourceRoot : sourceRoots) {
+        IPath path = MavenProjectUtils.getProjectRelativePath(project, sourceRoot);
+        if(path != null && buildOutputLocation.isPrefixOf(project.getFullPath().append(path))) {
+          folders.add(project.getFullPath().append(path));
+        }
+      }
+    }
+    return folders;
+  }
+
+  /**
+   * Refreshes the resources changed by a build, unless they are refreshed automatically.
+   *
+   * @param folders workspace paths of folders that are always refreshed
+   * @param resources files and folders reported by the build participants
+   */
+  private void refreshResources(IProject project, Collection<IPath> folders, Collection<File> resources,
+      IProgressMonitor monitor) throws CoreException {
     if(isAutoRefresh()) {
       //if autorefresh is on, resources will be refreshed automatically
       return;
     }
-    //1st is to refresh all project resources, just to make sure if anything has changed during the build will become visible to eclipse
-    project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+    if(FULL_REFRESH) {
+      //1st is to refresh all project resources, just to make sure if anything has changed during the build will become visible to eclipse
+      project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+    } else {
+      //1st is to refresh the folders the build writes to, files written there without being reported still become visible to eclipse
+      for(IPath folder : folders) {
+        if(folder.segmentCount() > 1 && project.getFullPath().isPrefixOf(folder)) {
+          project.getWorkspace().getRoot().getFolder(folder).refreshLocal(IResource.DEPTH_INFINITE, monitor);
+        }
+      }
+    }
     //2nd is to refresh all explicitly updated resources by named files...
     for(File file : resources) {
       IPath path = MavenProjectUtils.getProjectRelativePath(project, file.getAbsolutePath());
@@ -480,7 +529,9 @@ public class MavenBuilderImpl {
     }
 
     // Refresh files modified by build participants/maven plugins
-    refreshResources(project, participantResults.getFiles(), monitor);
+    IPath buildOutputLocation = projectFacade.getBuildOutputLocation();
+    refreshResources(project, buildOutputLocation != null ? List.of(buildOutputLocation) : List.of(),
+        participantResults.getFiles(), monitor);
 
     MavenExecutionResult result = session.getResult();
     processBuildResults(project, mavenProject, result, participantResults, buildErrors);
@@ -490,6 +541,78 @@ public class MavenBuilderImpl {
     return deltaProvider;
   }
 
+  private enum PathKind {
+    NONE, MODULE, BUILD_OUTPUT, OUTPUT;
+  }
+
+  /**
+   * Classifies the workspace paths of a project by the deepest module, build output or output folder containing them.
+   * Classifying a path takes time proportional to its depth, independent of the number of modules.
+   */
+  private static final class PathTrie {
+
+    final IPath buildOutputLocation;
+
+    private final Node root = new Node();
+
+    PathTrie(IMavenProjectFacade facade, IPath buildOutputLocation) {
+      this.buildOutputLocation = buildOutputLocation;
+      IPath projectPath = facade.getProject().getFullPath();
+      for(String module : facade.getMavenProjectModules()) {
+        IPath modulePath = projectPath.append(module);
+        // the build output takes precedence over modules
+        if(!buildOutputLocation.isPrefixOf(modulePath)) {
+          add(modulePath, PathKind.MODULE);
+        }
+      }
+      add(buildOutputLocation, PathKind.BUILD_OUTPUT);
+      // output folders are only relevant inside the build output
+      for(IPath output : new IPath[] {facade.getOutputLocation(), facade.getTestOutputLocation()}) {
+        if(output != null && buildOutputLocation.isPrefixOf(output)) {
+          add(output, PathKind.OUTPUT);
+        }
+      }
+    }
+
+    private void add(IPath path, PathKind kind) {
+      Node node = root;
+      for(int i = 0; i < path.segmentCount(); i++ ) {
+        if(node.children == null) {
+          node.children = new HashMap<>(4);
+        }
+        node = node.children.computeIfAbsent(path.segment(i), segment -> new Node());
+      }
+      node.kind = kind;
+    }
+
+    /**
+     * @param subtree whether all paths below the given path have to be of the returned kind
+     * @return the kind of the deepest folder containing the given path or {@code null} if the paths below the given
+     *         path are of different kinds and {@code subtree} is set
+     */
+    PathKind classify(IPath path, boolean subtree) {
+      Node node = root;
+      PathKind kind = PathKind.NONE;
+      for(int i = 0; i < path.segmentCount() && node != null; i++ ) {
+        node = node.children != null ? node.children.get(path.segment(i)) : null;
+        if(node != null && node.kind != null) {
+          kind = node.kind;
+        }
+      }
+      if(subtree && node != null && node.children != null) {
+        return null;
+      }
+      return kind;
+    }
+
+    private static final class Node {
+
+      Map<String, Node> children;
+
+      PathKind kind;
+    }
+  }
+
   private static final class ProjectBuildState {
 
     private long lastBuild;
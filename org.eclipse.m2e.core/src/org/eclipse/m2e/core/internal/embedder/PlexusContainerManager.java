@@ -15,17 +15,20 @@
 package org.eclipse.m2e.core.internal.embedder;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
@@ -35,6 +38,9 @@ import org.slf4j.LoggerFactory;
 import com.google.inject.AbstractModule;
 
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
@@ -79,9 +85,27 @@ public class PlexusContainerManager {
 
   private static final String PLEXUS_CORE_REALM = "plexus.core";
 
-  private IMavenPlexusContainer nonRootedContainer;
+  private final ContainerRef nonRootedContainer = new ContainerRef(null);
 
-  private final Map<File, IMavenPlexusContainer> containerMap = new HashMap<>();
+  private final Map<File, ContainerRef> containerMap = new ConcurrentHashMap<>();
+
+  /**
+   * Caches the canonical multi-module project directory of a basedir, {@link Optional#empty()} if it has none. Cleared
+   * whenever a {@code .mvn} folder or a project is added or removed.
+   */
+  private final Map<File, Optional<File>> rootCache = new ConcurrentHashMap<>();
+
+  /**
+   * Set if a {@code .mvn} folder was removed, the next caller then disposes the containers without a valid root.
+   */
+  private final AtomicBoolean cleanupPending = new AtomicBoolean();
+
+  /**
+   * Set on deactivation, no containers are created afterwards.
+   */
+  private volatile boolean disposed;
+
+  private final IResourceChangeListener mvnFolderListener = this::resourceChanged;
 
   @Reference
   private LoggerManager loggerManager;
@@ -90,36 +114,84 @@ public class PlexusContainerManager {
   private IMavenConfiguration mavenConfiguration;
 
   @Reference
-  private IWorkspace workspace;
+  IWorkspace workspace;
+
+  @Activate
+  void activate() {
+    workspace.addResourceChangeListener(mvnFolderListener, IResourceChangeEvent.POST_CHANGE);
+  }
 
   @Deactivate
   void dispose() {
-    synchronized(containerMap) {
-      containerMap.values().forEach(PlexusContainerManager::disposeContainer);
-      containerMap.clear();
-      if(nonRootedContainer != null) {
-        disposeContainer(nonRootedContainer);
-        nonRootedContainer = null;
-      }
-    }
+    disposed = true;
+    workspace.removeResourceChangeListener(mvnFolderListener);
+    rootCache.clear();
+    containerMap.values().forEach(ContainerRef::dispose);
+    containerMap.clear();
+    nonRootedContainer.dispose();
   }
 
   /**
    * Performs a cleanup cycle by disposing (and removing) container that are no longer referencing a valid maven root
    */
   void cleanup() {
-    synchronized(containerMap) {
-      containerMap.entrySet().removeIf(entry -> {
-        if(!new File(entry.getKey(), IMavenPlexusContainer.MVN_FOLDER).isDirectory()) {
-          disposeContainer(entry.getValue());
-          return true;
+    containerMap.entrySet().removeIf(entry -> {
+      if(!new File(entry.getKey(), IMavenPlexusContainer.MVN_FOLDER).isDirectory()) {
+        entry.getValue().dispose();
+        return true;
+      }
+      return false;
+    });
+  }
+
+  private void resourceChanged(IResourceChangeEvent event) {
+    IResourceDelta delta = event.getDelta();
+    if(delta == null || (rootCache.isEmpty() && containerMap.isEmpty())) {
+      return;
+    }
+    try {
+      delta.accept(child -> {
+        IResource resource = child.getResource();
+        if(resource.getType() == IResource.FILE || resource.isDerived()) {
+          // build output and other generated folders never contain the .mvn folder of a project
+          return false;
         }
-        return false;
+        int kind = child.getKind();
+        boolean structural = kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED
+            || (child.getFlags() & IResourceDelta.OPEN) != 0;
+        if(resource.getType() == IResource.PROJECT && structural) {
+          // projects can bring their own .mvn folder or move the root of nested modules
+          invalidate(kind != IResourceDelta.ADDED);
+          return false;
+        }
+        if(resource.getType() == IResource.FOLDER && IMavenPlexusContainer.MVN_FOLDER.equals(resource.getName())) {
+          if(structural) {
+            invalidate(kind == IResourceDelta.REMOVED);
+          }
+          return false;
+        }
+        return true;
       });
+    } catch(CoreException ex) {
+      LOG.log(ex.getStatus());
+      invalidate(true);
+    }
+  }
+
+  private void invalidate(boolean removed) {
+    rootCache.clear();
+    if(removed) {
+      cleanupPending.set(true);
     }
   }
 
-  private static void disposeContainer(IMavenPlexusContainer mavenPlexusContainer) {
+  private void cleanupIfPending() {
+    if(cleanupPending.compareAndSet(true, false)) {
+      cleanup();
+    }
+  }
+
+  void disposeContainer(IMavenPlexusContainer mavenPlexusContainer) {
     PlexusContainer plexusContainer = mavenPlexusContainer.getContainer();
     ClassWorld classWorld = plexusContainer.getContainerRealm().getWorld();
     for(ClassRealm realm : classWorld.getRealms()) {
@@ -133,13 +205,12 @@ public class PlexusContainerManager {
   }
 
   public IMavenPlexusContainer aquire() throws Exception {
-    synchronized(containerMap) {
-      cleanup();
-      if(nonRootedContainer == null) {
-        nonRootedContainer = newPlexusContainer(null, loggerManager, mavenConfiguration);
-      }
-      return nonRootedContainer;
+    cleanupIfPending();
+    IMavenPlexusContainer container = nonRootedContainer.get();
+    if(container == null) {
+      throw new IllegalStateException("Plexus container manager is disposed"); //$NON-NLS-1$
     }
+    return container;
   }
 
   public IMavenPlexusContainer aquire(IResource basedir) throws Exception {
@@ -157,24 +228,92 @@ public class PlexusContainerManager {
   }
 
   public IMavenPlexusContainer aquire(File basedir) throws Exception {
-    File directory = MavenProperties.computeMultiModuleProjectDirectory(basedir);
-    if(directory == null) {
+    File canonicalDirectory = getMultiModuleProjectDirectory(basedir);
+    if(canonicalDirectory == null) {
       return aquire();
     }
-    File canonicalDirectory = directory.getCanonicalFile();
-    synchronized(containerMap) {
-      cleanup();
-      IMavenPlexusContainer plexusContainer = containerMap.get(canonicalDirectory);
-      if(plexusContainer == null) {
-        try {
-          plexusContainer = newPlexusContainer(canonicalDirectory, loggerManager, mavenConfiguration);
-          containerMap.put(canonicalDirectory, plexusContainer);
-        } catch(ExtensionResolutionException e) {
-          //TODO how can we create an error marker on the extension file?
-          ExtensionResolutionExceptionFacade.throwForFile(e, new File(directory, IMavenPlexusContainer.EXTENSIONS_FILENAME));
+    cleanupIfPending();
+    // a reference disposed concurrently by a cleanup is replaced once, it is disposed again if the manager is disposed
+    for(int attempt = 0; attempt < 2; attempt++ ) {
+      // the container is created outside of the map, a slow extension resolution only blocks callers of the same root
+      ContainerRef ref = containerMap.computeIfAbsent(canonicalDirectory, ContainerRef::new);
+      try {
+        IMavenPlexusContainer plexusContainer = ref.get();
+        if(plexusContainer != null) {
+          return plexusContainer;
         }
+        containerMap.remove(canonicalDirectory, ref);
+      } catch(ExtensionResolutionException e) {
+        containerMap.remove(canonicalDirectory, ref);
+        //TODO how can we create an error marker on the extension file?
+        ExtensionResolutionExceptionFacade.throwForFile(e,
+            new File(canonicalDirectory, IMavenPlexusContainer.EXTENSIONS_FILENAME));
+        return null;
+      } catch(Exception e) {
+        containerMap.remove(canonicalDirectory, ref);
+        throw e;
+      }
+    }
+    throw new IllegalStateException("Plexus container of " + canonicalDirectory + " was disposed"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private File getMultiModuleProjectDirectory(File basedir) throws IOException {
+    if(basedir == null) {
+      return null;
+    }
+    Optional<File> root = rootCache.get(basedir);
+    if(root == null) {
+      File directory = MavenProperties.computeMultiModuleProjectDirectory(basedir);
+      root = Optional.ofNullable(directory != null ? directory.getCanonicalFile() : null);
+      rootCache.put(basedir, root);
+    }
+    return root.orElse(null);
+  }
+
+  /**
+   * Holds the container of one multi-module project directory, the container is created on first access while only
+   * holding the lock of this reference.
+   */
+  private final class ContainerRef {
+
+    private final File directory;
+
+    private volatile IMavenPlexusContainer container;
+
+    private boolean disposed;
+
+    ContainerRef(File directory) {
+      this.directory = directory;
+    }
+
+    /**
+     * @return the container or {@code null} if this reference was disposed
+     */
+    IMavenPlexusContainer get() throws Exception {
+      IMavenPlexusContainer result = container;
+      if(result != null) {
+        return result;
+      }
+      synchronized(this) {
+        if(container == null && !disposed && !PlexusContainerManager.this.disposed) {
+          container = newPlexusContainer(directory);
+          if(PlexusContainerManager.this.disposed) {
+            // the manager was deactivated meanwhile and might not have seen this reference
+            dispose();
+          }
+        }
+        return container;
+      }
+    }
+
+    synchronized void dispose() {
+      disposed = true;
+      IMavenPlexusContainer disposing = container;
+      // callers not holding the lock must not get the container while it is disposed
+      container = null;
+      if(disposing != null) {
+        disposeContainer(disposing);
       }
-      return plexusContainer;
     }
   }
 
@@ -194,6 +333,13 @@ public class PlexusContainerManager {
     }
   }
 
+  /**
+   * Creates the container of the given multi-module project directory, {@code null} for the container without one.
+   */
+  IMavenPlexusContainer newPlexusContainer(File multiModuleProjectDirectory) throws Exception {
+    return newPlexusContainer(multiModuleProjectDirectory, loggerManager, mavenConfiguration);
+  }
+
   private static IMavenPlexusContainer newPlexusContainer(File multiModuleProjectDirectory, LoggerManager loggerManager,
       IMavenConfiguration mavenConfiguration) throws Exception {
 
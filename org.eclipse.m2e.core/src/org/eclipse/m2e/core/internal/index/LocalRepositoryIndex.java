@@ -0,0 +1,600 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ILocalRepositoryListener;
+import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.core.internal.Messages;
+import org.eclipse.m2e.core.internal.index.MatchTyped.MatchType;
+
+
+/**
+ * Offline index of the artifacts in the local Maven repository. The repository is walked once in the background and
+ * the index is afterwards kept current with the artifacts downloaded or installed by m2e. Artifacts added to the
+ * repository by other processes are picked up by the walk after the next restart.
+ * <p>
+ * The indexed files are persisted to the plugin state location, files whose size and modification time did not change
+ * are not read again on the next walk, in particular their SHA-1 is not computed again. Queries are answered from an
+ * in-memory prefix index over groupIds, artifactIds, their segments and the SHA-1 of all files.
+ */
+@Component(service = {IIndex.class, LocalRepositoryIndex.class})
+public class LocalRepositoryIndex implements IIndex {
+  private static final Logger log = LoggerFactory.getLogger(LocalRepositoryIndex.class);
+
+  /**
+   * The repository of all {@link IndexedArtifactFile}s returned by this index
+   */
+  public static final String REPOSITORY_ID = "local"; //$NON-NLS-1$
+
+  private static final String INDEX_FILE_NAME = "localRepositoryIndex.dat"; //$NON-NLS-1$
+
+  /**
+   * Extensions of files next to the artifacts that are no artifacts themselves
+   */
+  private static final Set<String> IGNORED_EXTENSIONS = Set.of("sha1", "sha256", "sha512", "md5", "asc", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+      "lastUpdated", "part", "lock"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+  private static final Pattern SHA1 = Pattern.compile("[0-9a-fA-F]{40}"); //$NON-NLS-1$
+
+  @Reference
+  private IMaven maven;
+
+  /**
+   * The indexed files by their path relative to the repository basedir
+   */
+  private final Map<String, IndexedFile> files = new ConcurrentHashMap<>();
+
+  private final Queue<File> installedFiles = new ConcurrentLinkedQueue<>();
+
+  private final ILocalRepositoryListener listener = (repositoryBasedir, baseArtifact, artifact,
+      artifactFile) -> artifactInstalled(repositoryBasedir, artifactFile);
+
+  private final IndexJob job = new IndexJob();
+
+  private Path stateFile;
+
+  private volatile Path basedir;
+
+  private volatile LocalRepositoryIndexSnapshot snapshot;
+
+  private volatile boolean dirty;
+
+  private boolean scanned;
+
+  @Activate
+  void activate() {
+    stateFile = Platform.getStateLocation(FrameworkUtil.getBundle(LocalRepositoryIndex.class)).append(INDEX_FILE_NAME)
+        .toFile().toPath();
+    String repositoryPath = maven.getLocalRepositoryPath();
+    if(repositoryPath != null) {
+      // answer queries from the persisted index until the walk is done
+      load(normalize(Path.of(repositoryPath)));
+    }
+    maven.addLocalRepositoryListener(listener);
+    job.schedule();
+  }
+
+  @Deactivate
+  void deactivate() {
+    maven.removeLocalRepositoryListener(listener);
+    job.cancel();
+    try {
+      job.join();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    save();
+  }
+
+  private void artifactInstalled(File repositoryBasedir, File artifactFile) {
+    Path base = basedir;
+    if(base != null && base.equals(normalize(repositoryBasedir.toPath()))) {
+      // reading the pom or computing the SHA-1 must not slow down the resolution
+      installedFiles.add(artifactFile);
+      job.schedule(1000L);
+    }
+  }
+
+  // index queries
+
+  @Override
+  public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) {
+    LocalRepositoryIndexSnapshot index = getSnapshot();
+    for(IndexedFile file : index.getFiles(artifact.groupId(), artifact.artifactId())) {
+      if(file.version().equals(artifact.version()) && Objects.equals(file.classifier(), artifact.classifier())) {
+        return index.toIndexedArtifactFile(file);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public IndexedArtifactFile identify(File file) throws CoreException {
+    LocalRepositoryIndexSnapshot index = getSnapshot();
+    Path base = basedir;
+    Path path = normalize(file.toPath());
+    if(base != null && path.startsWith(base)) {
+      IndexedFile indexed = files.get(toRelativePath(base, path));
+      if(indexed != null) {
+        return index.toIndexedArtifactFile(indexed);
+      }
+    }
+    if(!Files.isRegularFile(path)) {
+      return null;
+    }
+    try {
+      IndexedFile indexed = index.getFileBySha1(computeSha1(path));
+      return indexed != null ? index.toIndexedArtifactFile(indexed) : null;
+    } catch(IOException ex) {
+      throw new CoreException(Status.error("Could not compute the SHA-1 of " + file, ex));
+    }
+  }
+
+  @Override
+  public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+      SearchExpression version, SearchExpression packaging) {
+    return find(asList(groupId), asList(artifactId), asList(version), asList(packaging));
+  }
+
+  @Override
+  public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId, Collection<SearchExpression> artifactId,
+      Collection<SearchExpression> version, Collection<SearchExpression> packaging) {
+    LocalRepositoryIndexSnapshot index = getSnapshot();
+    List<IndexedArtifact> result = new ArrayList<>();
+    for(int i = 0; i < index.size(); i++ ) {
+      if(matches(groupId, index.getGroupId(i)) && matches(artifactId, index.getArtifactId(i))
+          && matches(packaging, index.getPackaging(i))) {
+        IndexedArtifact artifact = index.toIndexedArtifact(i, f -> matches(version, f.version()));
+        if(!artifact.getFiles().isEmpty()) {
+          result.add(artifact);
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType) {
+    return search(expression, searchType, SEARCH_ALL);
+  }
+
+  @Override
+  public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier) {
+    LocalRepositoryIndexSnapshot index = getSnapshot();
+    String query = expression.getStringValue().trim().toLowerCase();
+    boolean exact = expression instanceof MatchTyped typed && typed.getMatchType() == MatchType.EXACT;
+    Predicate<IndexedFile> fileFilter = f -> matchesClassifier(f, classifier);
+    Predicate<String> packagingFilter = p -> true;
+    int[] candidates;
+    switch(searchType) {
+      case SEARCH_GROUP:
+        candidates = index.findGroups(i -> exact ? index.getGroupId(i).equalsIgnoreCase(query)
+            : index.getGroupId(i).toLowerCase().startsWith(query));
+        break;
+      case SEARCH_PACKAGING:
+        candidates = index.findGroups(i -> true);
+        packagingFilter = query::equals;
+        break;
+      case SEARCH_SHA1:
+        candidates = index.findTokens(query, exact);
+        fileFilter = fileFilter
+            .and(f -> f.sha1() != null && (exact ? f.sha1().equals(query) : f.sha1().startsWith(query)));
+        break;
+      default:
+        candidates = findTerms(index, query, exact);
+        if(SEARCH_PLUGIN.equals(searchType)) {
+          packagingFilter = "maven-plugin"::equals; //$NON-NLS-1$
+        } else if(SEARCH_ARCHETYPE.equals(searchType)) {
+          packagingFilter = "maven-archetype"::equals; //$NON-NLS-1$
+        } else if(SEARCH_PARENTS.equals(searchType)) {
+          packagingFilter = "pom"::equals; //$NON-NLS-1$
+        }
+    }
+    Map<String, IndexedArtifact> result = new LinkedHashMap<>();
+    for(int i : candidates) {
+      if(packagingFilter.test(index.getPackaging(i))) {
+        IndexedArtifact artifact = index.toIndexedArtifact(i, fileFilter);
+        if(!artifact.getFiles().isEmpty()) {
+          result.put(artifact.getGroupId() + ":" + artifact.getArtifactId(), artifact); //$NON-NLS-1$
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * All whitespace separated terms of the query must match, each either as prefix of a token or as pattern with
+   * {@code *} wildcards.
+   */
+  private static int[] findTerms(LocalRepositoryIndexSnapshot index, String query, boolean exact) {
+    int[] result = null;
+    for(String term : query.split("\\s+")) { //$NON-NLS-1$
+      if(term.isEmpty()) {
+        continue;
+      }
+      int[] matches;
+      if(term.indexOf('*') >= 0) {
+        Pattern pattern = Pattern.compile(Arrays.stream(term.split("\\*", -1)).map(Pattern::quote) //$NON-NLS-1$
+            .reduce((a, b) -> a + ".*" + b).orElse("")); //$NON-NLS-1$ //$NON-NLS-2$
+        matches = index.findGroups(i -> pattern.matcher(index.getGroupId(i) + ":" + index.getArtifactId(i)) //$NON-NLS-1$
+            .find());
+      } else {
+        matches = index.findTokens(term, exact);
+      }
+      result = result == null ? matches : intersect(result, matches);
+    }
+    return result != null ? result : new int[0];
+  }
+
+  private static int[] intersect(int[] a, int[] b) {
+    Set<Integer> values = new HashSet<>();
+    for(int i : b) {
+      values.add(i);
+    }
+    return Arrays.stream(a).filter(values::contains).toArray();
+  }
+
+  private static boolean matchesClassifier(IndexedFile file, int classifier) {
+    if(classifier == SEARCH_ALL) {
+      return true;
+    }
+    String c = file.classifier();
+    return ((classifier & SEARCH_JARS) != 0 && c == null)
+        || ((classifier & SEARCH_JAVADOCS) != 0 && "javadoc".equals(c)) //$NON-NLS-1$
+        || ((classifier & SEARCH_SOURCES) != 0 && "sources".equals(c)) //$NON-NLS-1$
+        || ((classifier & SEARCH_TESTS) != 0 && "tests".equals(c)); //$NON-NLS-1$
+  }
+
+  private static boolean matches(Collection<SearchExpression> expressions, String value) {
+    if(expressions == null || expressions.isEmpty()) {
+      return true;
+    }
+    if(value == null) {
+      return false;
+    }
+    for(SearchExpression expression : expressions) {
+      String expected = expression.getStringValue();
+      if(expression instanceof MatchTyped typed && typed.getMatchType() == MatchType.PARTIAL
+          ? value.toLowerCase().startsWith(expected.toLowerCase())
+          : value.equals(expected)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<SearchExpression> asList(SearchExpression expression) {
+    return expression != null ? List.of(expression) : List.of();
+  }
+
+  private LocalRepositoryIndexSnapshot getSnapshot() {
+    LocalRepositoryIndexSnapshot index = snapshot;
+    if(index == null) {
+      synchronized(this) {
+        index = snapshot;
+        if(index == null) {
+          index = new LocalRepositoryIndexSnapshot(files.values());
+          snapshot = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  private void changed() {
+    snapshot = null;
+    dirty = true;
+  }
+
+  // indexing
+
+  /**
+   * Walks the repository, reads new or changed files and removes the files that no longer exist.
+   */
+  void scan(Path base, IProgressMonitor monitor) throws IOException {
+    Set<String> found = new HashSet<>();
+    Files.walkFileTree(base, new SimpleFileVisitor<>() {
+      private int indexed;
+
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+        if(monitor.isCanceled()) {
+          return FileVisitResult.TERMINATE;
+        }
+        // e.g. .locks, .cache or .meta of the resolver
+        return dir.equals(base) || !dir.getFileName().toString().startsWith(".") ? FileVisitResult.CONTINUE //$NON-NLS-1$
+            : FileVisitResult.SKIP_SUBTREE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        if(attrs.isRegularFile()) {
+          String relativePath = toRelativePath(base, file);
+          try {
+            if(index(relativePath, file, attrs) != null) {
+              found.add(relativePath);
+              if(++indexed % 5000 == 0) {
+                // make the first results of the initial walk available
+                changed();
+              }
+            }
+          } catch(IOException ex) {
+            log.debug("Could not index {}", file, ex);
+          }
+        }
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        return FileVisitResult.CONTINUE;
+      }
+    });
+    if(!monitor.isCanceled() && files.keySet().retainAll(found)) {
+      changed();
+    }
+  }
+
+  /**
+   * Indexes the given file if it is an artifact and has changed since it was indexed.
+   *
+   * @return the indexed file or {@code null} if it is no artifact
+   */
+  private IndexedFile index(String relativePath, Path file, BasicFileAttributes attributes) throws IOException {
+    long size = attributes.size();
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    IndexedFile existing = files.get(relativePath);
+    if(existing != null && existing.size() == size && existing.lastModified() == lastModified) {
+      return existing;
+    }
+    IndexedFile indexed = parseRelativePath(relativePath, size, lastModified);
+    if(indexed == null) {
+      return null;
+    }
+    String packaging = "pom".equals(indexed.extension()) ? readPackaging(file) : null; //$NON-NLS-1$
+    indexed = new IndexedFile(indexed.groupId(), indexed.artifactId(), indexed.version(), indexed.classifier(),
+        indexed.extension(), packaging, size, lastModified, readSha1(file));
+    files.put(relativePath, indexed);
+    changed();
+    return indexed;
+  }
+
+  /**
+   * Parses the coordinates from the path of a file in the repository layout, i.e.
+   * {@code group/path/artifactId/version/artifactId-version[-classifier].extension}.
+   *
+   * @return the coordinates of the file without packaging and SHA-1, or {@code null} if it is no artifact
+   */
+  static IndexedFile parseRelativePath(String relativePath, long size, long lastModified) {
+    String[] segments = relativePath.split("/"); //$NON-NLS-1$
+    int count = segments.length;
+    if(count < 4) {
+      return null;
+    }
+    String fileName = segments[count - 1];
+    String version = segments[count - 2];
+    String artifactId = segments[count - 3];
+    String prefix = artifactId + "-" + version; //$NON-NLS-1$
+    if(!fileName.startsWith(prefix) || fileName.length() < prefix.length() + 2) {
+      return null;
+    }
+    String remainder = fileName.substring(prefix.length());
+    String classifier = null;
+    String extension;
+    if(remainder.charAt(0) == '-') {
+      int dot = remainder.indexOf('.');
+      if(dot < 2) {
+        return null;
+      }
+      classifier = remainder.substring(1, dot);
+      extension = remainder.substring(dot + 1);
+    } else if(remainder.charAt(0) == '.') {
+      extension = remainder.substring(1);
+    } else {
+      return null;
+    }
+    if(extension.isEmpty() || IGNORED_EXTENSIONS.contains(extension.substring(extension.lastIndexOf('.') + 1))) {
+      return null;
+    }
+    String groupId = String.join(".", Arrays.asList(segments).subList(0, count - 3)); //$NON-NLS-1$
+    return new IndexedFile(groupId, artifactId, version, classifier, extension, null, size, lastModified, null);
+  }
+
+  private static String readPackaging(Path pom) {
+    try (InputStream is = Files.newInputStream(pom)) {
+      MXParser parser = new MXParser();
+      parser.setInput(is, null);
+      for(int event = parser.next(); event != XmlPullParser.END_DOCUMENT; event = parser.next()) {
+        if(event == XmlPullParser.START_TAG && parser.getDepth() == 2 && "packaging".equals(parser.getName())) { //$NON-NLS-1$
+          return parser.nextText().trim();
+        }
+      }
+    } catch(IOException | XmlPullParserException ex) {
+      log.debug("Could not read packaging of {}", pom, ex);
+    }
+    return "jar"; //$NON-NLS-1$
+  }
+
+  /**
+   * Reads the SHA-1 from the checksum file downloaded with the artifact, or computes it if there is none.
+   */
+  private static String readSha1(Path file) throws IOException {
+    Path checksumFile = file.resolveSibling(file.getFileName() + ".sha1"); //$NON-NLS-1$
+    if(Files.isRegularFile(checksumFile)) {
+      String content = Files.readString(checksumFile, StandardCharsets.US_ASCII).trim();
+      String checksum = content.split("\\s+", 2)[0]; //$NON-NLS-1$
+      if(SHA1.matcher(checksum).matches()) {
+        return checksum.toLowerCase();
+      }
+    }
+    return computeSha1(file);
+  }
+
+  private static String computeSha1(Path file) throws IOException {
+    try (InputStream is = Files.newInputStream(file)) {
+      return DigestUtils.sha1Hex(is);
+    }
+  }
+
+  private static String toRelativePath(Path base, Path file) {
+    return base.relativize(file).toString().replace(File.separatorChar, '/');
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+
+  private void indexInstalledFiles() {
+    Path base = basedir;
+    for(File file; (file = installedFiles.poll()) != null;) {
+      Path path = normalize(file.toPath());
+      if(base == null || !path.startsWith(base)) {
+        continue;
+      }
+      try {
+        index(toRelativePath(base, path), path, Files.readAttributes(path, BasicFileAttributes.class));
+      } catch(IOException ex) {
+        log.debug("Could not index {}", path, ex);
+      }
+    }
+  }
+
+  private synchronized void load(Path base) {
+    files.clear();
+    files.putAll(LocalRepositoryIndexFile.read(stateFile, base));
+    basedir = base;
+    snapshot = null;
+    dirty = false;
+  }
+
+  private synchronized void save() {
+    Path base = basedir;
+    if(dirty && base != null) {
+      dirty = false;
+      LocalRepositoryIndexFile.write(stateFile, base, files.values());
+    }
+  }
+
+  /**
+   * Walks the repository on the first run or if the location of the repository has changed, afterwards only indexes
+   * the installed artifacts.
+   */
+  private class IndexJob extends Job {
+
+    IndexJob() {
+      super(Messages.LocalRepositoryIndex_job);
+      setSystem(true);
+      setPriority(DECORATE);
+    }
+
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      String repositoryPath = maven.getLocalRepositoryPath();
+      if(repositoryPath == null) {
+        return Status.OK_STATUS;
+      }
+      Path base = normalize(Path.of(repositoryPath));
+      if(!base.equals(basedir)) {
+        load(base);
+        scanned = false;
+      }
+      if(!scanned) {
+        try {
+          if(Files.isDirectory(base)) {
+            scan(base, monitor);
+          }
+        } catch(IOException ex) {
+          log.warn("Could not index local repository {}", base, ex);
+        }
+        if(monitor.isCanceled()) {
+          return Status.CANCEL_STATUS;
+        }
+        scanned = true;
+      }
+      indexInstalledFiles();
+      save();
+      return Status.OK_STATUS;
+    }
+
+    @Override
+    public boolean belongsTo(Object family) {
+      return family == LocalRepositoryIndex.class;
+    }
+  }
+
+  /**
+   * A file of the local repository.
+   *
+   * @param classifier the classifier or {@code null}
+   * @param packaging the packaging if the file is a pom, otherwise {@code null}
+   * @param sha1 the lower case hex SHA-1
+   */
+  record IndexedFile(String groupId, String artifactId, String version, String classifier, String extension,
+      String packaging, long size, long lastModified, String sha1) {
+
+    String fileName() {
+      return artifactId + "-" + version + (classifier != null ? "-" + classifier : "") + "." + extension; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+
+    String relativePath() {
+      return groupId.replace('.', '/') + "/" + artifactId + "/" + version + "/" + fileName(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+  }
+}
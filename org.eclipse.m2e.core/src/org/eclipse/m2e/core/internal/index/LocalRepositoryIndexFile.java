@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.m2e.core.internal.index.LocalRepositoryIndex.IndexedFile;
+
+
+/**
+ * Reads and writes the files of a {@link LocalRepositoryIndex}. GroupIds, artifactIds, versions and the other strings
+ * are written once to a string table and referenced by index, the SHA-1 is written as 20 bytes.
+ */
+final class LocalRepositoryIndexFile {
+  private static final Logger log = LoggerFactory.getLogger(LocalRepositoryIndexFile.class);
+
+  private static final int MAGIC = 0x4D32_4C49; // "M2LI"
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  private LocalRepositoryIndexFile() {
+  }
+
+  /**
+   * @return the files indexed for the given repository, by their path relative to the repository, or an empty map if
+   *         the index was written for an other repository or can't be read
+   */
+  static Map<String, IndexedFile> read(Path file, Path basedir) {
+    Map<String, IndexedFile> files = new HashMap<>();
+    if(!Files.isRegularFile(file)) {
+      return files;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if(in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !basedir.toString().equals(in.readUTF())) {
+        return files;
+      }
+      String[] strings = new String[in.readInt() + 1];
+      for(int i = 1; i < strings.length; i++ ) {
+        strings[i] = in.readUTF();
+      }
+      int count = in.readInt();
+      for(int i = 0; i < count; i++ ) {
+        String groupId = strings[in.readInt()];
+        String artifactId = strings[in.readInt()];
+        String version = strings[in.readInt()];
+        String classifier = strings[in.readInt()];
+        String extension = strings[in.readInt()];
+        String packaging = strings[in.readInt()];
+        long size = in.readLong();
+        long lastModified = in.readLong();
+        String sha1 = null;
+        if(in.readBoolean()) {
+          byte[] bytes = new byte[20];
+          in.readFully(bytes);
+          sha1 = HEX.formatHex(bytes);
+        }
+        IndexedFile indexed = new IndexedFile(groupId, artifactId, version, classifier, extension, packaging, size,
+            lastModified, sha1);
+        files.put(indexed.relativePath(), indexed);
+      }
+    } catch(IOException | RuntimeException ex) {
+      log.warn("Could not read local repository index {}", file, ex);
+      files.clear();
+    }
+    return files;
+  }
+
+  static void write(Path file, Path basedir, Collection<IndexedFile> files) {
+    List<IndexedFile> snapshot = new ArrayList<>(files);
+    Map<String, Integer> stringIndex = new HashMap<>();
+    List<String> strings = new ArrayList<>();
+    int[] references = new int[snapshot.size() * 6];
+    int r = 0;
+    for(IndexedFile indexed : snapshot) {
+      for(String value : new String[] {indexed.groupId(), indexed.artifactId(), indexed.version(),
+          indexed.classifier(), indexed.extension(), indexed.packaging()}) {
+        references[r++ ] = value == null ? 0 : stringIndex.computeIfAbsent(value, v -> {
+          strings.add(v);
+          return strings.size();
+        });
+      }
+    }
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(basedir.toString());
+        out.writeInt(strings.size());
+        for(String string : strings) {
+          out.writeUTF(string);
+        }
+        out.writeInt(snapshot.size());
+        r = 0;
+        for(IndexedFile indexed : snapshot) {
+          for(int i = 0; i < 6; i++ ) {
+            out.writeInt(references[r++ ]);
+          }
+          out.writeLong(indexed.size());
+          out.writeLong(indexed.lastModified());
+          out.writeBoolean(indexed.sha1() != null);
+          if(indexed.sha1() != null) {
+            out.write(HEX.parseHex(indexed.sha1()));
+          }
+        }
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch(IOException ex) {
+      log.warn("Could not write local repository index {}", file, ex);
+    }
+  }
+}
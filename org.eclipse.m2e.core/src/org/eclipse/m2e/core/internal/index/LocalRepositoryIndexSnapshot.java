@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+
+import org.eclipse.m2e.core.internal.index.LocalRepositoryIndex.IndexedFile;
+
+
+/**
+ * Immutable query structure over the files of a {@link LocalRepositoryIndex}. Files are grouped by groupId and
+ * artifactId, groups are sorted by their key. Prefix queries are answered by a binary search in the sorted tokens of
+ * all groups.
+ */
+final class LocalRepositoryIndexSnapshot {
+
+  private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[.\\-_:]"); //$NON-NLS-1$
+
+  /**
+   * Newest versions first, the primary artifact before the pom of the same version
+   */
+  private static final Comparator<IndexedFile> FILE_ORDER = Comparator
+      .comparing((IndexedFile f) -> new DefaultArtifactVersion(f.version())).reversed()
+      .thenComparing(f -> "pom".equals(f.extension())) //$NON-NLS-1$
+      .thenComparing(IndexedFile::extension);
+
+  private final String[] groupIds;
+
+  private final String[] artifactIds;
+
+  private final String[] packagings;
+
+  private final List<List<IndexedFile>> files;
+
+  private final Map<String, Integer> groupIndex;
+
+  private final String[] tokens;
+
+  private final int[] tokenGroups;
+
+  private final Map<String, IndexedFile> filesBySha1;
+
+  LocalRepositoryIndexSnapshot(Collection<IndexedFile> indexedFiles) {
+    Map<String, List<IndexedFile>> groups = new TreeMap<>();
+    filesBySha1 = new HashMap<>();
+    for(IndexedFile file : indexedFiles) {
+      groups.computeIfAbsent(file.groupId() + ":" + file.artifactId(), k -> new ArrayList<>()).add(file); //$NON-NLS-1$
+      if(file.sha1() != null) {
+        filesBySha1.putIfAbsent(file.sha1(), file);
+      }
+    }
+    int size = groups.size();
+    groupIds = new String[size];
+    artifactIds = new String[size];
+    packagings = new String[size];
+    files = new ArrayList<>(size);
+    groupIndex = new HashMap<>(size * 2);
+    List<Token> allTokens = new ArrayList<>(size * 8);
+    int i = 0;
+    for(Map.Entry<String, List<IndexedFile>> group : groups.entrySet()) {
+      List<IndexedFile> groupFiles = group.getValue();
+      groupFiles.sort(FILE_ORDER);
+      IndexedFile first = groupFiles.get(0);
+      groupIds[i] = first.groupId();
+      artifactIds[i] = first.artifactId();
+      // the packaging of the newest version
+      packagings[i] = groupFiles.stream().map(IndexedFile::packaging).filter(p -> p != null).findFirst().orElse(null);
+      files.add(List.copyOf(groupFiles));
+      groupIndex.put(group.getKey(), i);
+      for(String token : tokenize(first.groupId(), first.artifactId())) {
+        allTokens.add(new Token(token, i));
+      }
+      for(IndexedFile file : groupFiles) {
+        if(file.sha1() != null) {
+          allTokens.add(new Token(file.sha1(), i));
+        }
+      }
+      i++ ;
+    }
+    allTokens.sort(Comparator.comparing(Token::value).thenComparingInt(Token::group));
+    tokens = new String[allTokens.size()];
+    tokenGroups = new int[allTokens.size()];
+    for(int t = 0; t < tokens.length; t++ ) {
+      tokens[t] = allTokens.get(t).value();
+      tokenGroups[t] = allTokens.get(t).group();
+    }
+  }
+
+  private static Set<String> tokenize(String groupId, String artifactId) {
+    String group = groupId.toLowerCase();
+    String artifact = artifactId.toLowerCase();
+    Set<String> tokens = new LinkedHashSet<>();
+    tokens.add(group + ":" + artifact); //$NON-NLS-1$
+    tokens.add(group);
+    tokens.add(artifact);
+    tokens.addAll(Arrays.asList(TOKEN_SEPARATOR.split(group)));
+    tokens.addAll(Arrays.asList(TOKEN_SEPARATOR.split(artifact)));
+    tokens.remove(""); //$NON-NLS-1$
+    return tokens;
+  }
+
+  int size() {
+    return groupIds.length;
+  }
+
+  String getGroupId(int group) {
+    return groupIds[group];
+  }
+
+  String getArtifactId(int group) {
+    return artifactIds[group];
+  }
+
+  String getPackaging(int group) {
+    return packagings[group];
+  }
+
+  List<IndexedFile> getFiles(String groupId, String artifactId) {
+    Integer group = groupIndex.get(groupId + ":" + artifactId); //$NON-NLS-1$
+    return group != null ? files.get(group) : List.of();
+  }
+
+  IndexedFile getFileBySha1(String sha1) {
+    return filesBySha1.get(sha1);
+  }
+
+  /**
+   * @return the groups with a token starting with, or equal to, the given lower case value, in group order
+   */
+  int[] findTokens(String value, boolean exact) {
+    int from = Arrays.binarySearch(tokens, value);
+    if(from < 0) {
+      from = -from - 1;
+    } else {
+      // binary search may hit any of several equal tokens
+      while(from > 0 && tokens[from - 1].equals(value)) {
+        from-- ;
+      }
+    }
+    BitSet groups = new BitSet(groupIds.length);
+    for(int t = from; t < tokens.length && (exact ? tokens[t].equals(value) : tokens[t].startsWith(value)); t++ ) {
+      groups.set(tokenGroups[t]);
+    }
+    return groups.stream().toArray();
+  }
+
+  /**
+   * @return the groups matching the given filter, in group order
+   */
+  int[] findGroups(IntPredicate filter) {
+    BitSet groups = new BitSet(groupIds.length);
+    for(int i = 0; i < groupIds.length; i++ ) {
+      if(filter.test(i)) {
+        groups.set(i);
+      }
+    }
+    return groups.stream().toArray();
+  }
+
+  IndexedArtifact toIndexedArtifact(int group, Predicate<IndexedFile> filter) {
+    IndexedArtifact artifact = new IndexedArtifact(groupIds[group], artifactIds[group], null, null, packagings[group]);
+    for(IndexedFile file : files.get(group)) {
+      if(filter.test(file)) {
+        // only the first file per version and classifier is kept, that is not the pom if there is an other one
+        artifact.addFile(toIndexedArtifactFile(file));
+      }
+    }
+    return artifact;
+  }
+
+  IndexedArtifactFile toIndexedArtifactFile(IndexedFile file) {
+    boolean sourcesExists = false;
+    boolean javadocExists = false;
+    for(IndexedFile other : getFiles(file.groupId(), file.artifactId())) {
+      if(other.version().equals(file.version())) {
+        sourcesExists |= "sources".equals(other.classifier()); //$NON-NLS-1$
+        javadocExists |= "javadoc".equals(other.classifier()); //$NON-NLS-1$
+      }
+    }
+    return new IndexedArtifactFile(LocalRepositoryIndex.REPOSITORY_ID, file.groupId(), file.artifactId(),
+        file.version(), file.extension(), file.classifier(), file.fileName(), file.size(),
+        new Date(file.lastModified()), sourcesExists ? IIndex.PRESENT : IIndex.NOT_PRESENT,
+        javadocExists ? IIndex.PRESENT : IIndex.NOT_PRESENT, null, null);
+  }
+
+  private record Token(String value, int group) {
+  }
+}
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.io.xpp3.LifecycleMappingMetadataSourceXpp3Writer;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.PluginExecutionAction;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Remembers the effective lifecycle mapping of projects, modules inheriting the same build plugins from a common
+ * parent usually end up with the same mapping. The mapping is keyed by a fingerprint of the packaging, the mojo
+ * executions and the metadata sources. Sources shared between projects are compared by identity, sources defined in a
+ * pom or the workspace by content.
+ * <p>
+ * Only mappings that do not depend on the project itself are remembered, that is mappings without problems, without
+ * metadata defined in a pom and without parameter filters, which are evaluated against the project.
+ */
+public final class EffectiveLifecycleMappingCache {
+
+  private static final int MAX_SIZE = Integer.getInteger("m2e.lifecycleMapping.cacheSize", 256);
+
+  private final Cache<Fingerprint, EffectiveMapping> mappings = CacheBuilder.newBuilder().maximumSize(MAX_SIZE)
+      .build();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder uncacheableCount = new LongAdder();
+
+  /**
+   * Computes the fingerprint of the effective lifecycle mapping of a project.
+   *
+   * @param sourcesMap the metadata sources of the project as returned by
+   *          {@link LifecycleMappingFactory#getProjectMetadataSourcesMap}
+   * @return the fingerprint or {@code null} if the mapping can't be shared with other projects
+   */
+  Fingerprint fingerprint(MavenProject mavenProject, Map<String, List<MappingMetadataSource>> sourcesMap,
+      List<MojoExecution> mojoExecutions, PluginExecutionAction defaultMojoExecutionAction) {
+    List<MojoExecutionKey> executions = new ArrayList<>();
+    Set<String> plugins = new HashSet<>();
+    if(mojoExecutions != null) {
+      for(MojoExecution execution : mojoExecutions) {
+        executions.add(new MojoExecutionKey(execution));
+        plugins.add(execution.getGroupId() + ':' + execution.getArtifactId());
+      }
+    }
+    List<Object> sources = new ArrayList<>();
+    for(String name : LifecycleMappingFactory.SOURCE_NAMES) {
+      List<MappingMetadataSource> list = sourcesMap.get(name);
+      if(list == null) {
+        continue;
+      }
+      boolean byContent = LifecycleMappingFactory.POM_SOURCES.equals(name)
+          || LifecycleMappingFactory.WORKSPACE_SOURCES.equals(name);
+      for(MappingMetadataSource source : list) {
+        if(!(source instanceof SimpleMappingMetadataSource simpleSource)) {
+          // e.g. annotations in the pom, they refer to the project itself
+          uncacheableCount.increment();
+          return null;
+        }
+        for(LifecycleMappingMetadataSource metadataSource : simpleSource.getSources()) {
+          if(hasParameterFilter(metadataSource, plugins)) {
+            uncacheableCount.increment();
+            return null;
+          }
+          sources.add(byContent ? toString(metadataSource) : metadataSource);
+        }
+      }
+      sources.add(name);
+    }
+    return new Fingerprint(mavenProject.getPackaging(), executions, defaultMojoExecutionAction, sources);
+  }
+
+  /**
+   * Applies the remembered mapping for the given fingerprint to the result.
+   *
+   * @return {@code true} if a mapping was found
+   */
+  boolean apply(Fingerprint fingerprint, LifecycleMappingResult result) {
+    EffectiveMapping mapping = mappings.getIfPresent(fingerprint);
+    if(mapping == null) {
+      missCount.increment();
+      return false;
+    }
+    hitCount.increment();
+    result.setLifecycleMappingMetadata(mapping.lifecycleMappingMetadata());
+    Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping = new LinkedHashMap<>();
+    mapping.mojoExecutionMapping().forEach((key, metadatas) -> executionMapping.put(key, new ArrayList<>(metadatas)));
+    result.setMojoExecutionMapping(executionMapping);
+    return true;
+  }
+
+  /**
+   * Remembers the mapping computed for the given fingerprint if it does not refer to the project it was computed for.
+   *
+   * @param problemCount the number of problems the result had before the mapping was computed
+   */
+  void put(Fingerprint fingerprint, LifecycleMappingResult result, int problemCount) {
+    if(result.getProblems().size() != problemCount || result.getMojoExecutionMapping() == null
+        || isPomMapping(result.getLifecycleMappingMetadata())) {
+      return;
+    }
+    Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping = new LinkedHashMap<>();
+    for(Map.Entry<MojoExecutionKey, List<IPluginExecutionMetadata>> entry : result.getMojoExecutionMapping()
+        .entrySet()) {
+      for(IPluginExecutionMetadata metadata : entry.getValue()) {
+        if(metadata instanceof PluginExecutionMetadata executionMetadata && isPomMapping(executionMetadata.getSource())) {
+          return;
+        }
+      }
+      executionMapping.put(entry.getKey(), List.copyOf(entry.getValue()));
+    }
+    mappings.put(fingerprint, new EffectiveMapping(result.getLifecycleMappingMetadata(), executionMapping));
+  }
+
+  void clear() {
+    mappings.invalidateAll();
+  }
+
+  public Statistics getStatistics() {
+    return new Statistics(hitCount.sum(), missCount.sum(), uncacheableCount.sum(), mappings.size());
+  }
+
+  private static boolean isPomMapping(LifecycleMappingMetadata metadata) {
+    return metadata != null && isPomMapping(metadata.getSource());
+  }
+
+  private static boolean isPomMapping(LifecycleMappingMetadataSource source) {
+    return source != null && source.getSource() instanceof MavenProject;
+  }
+
+  private static boolean hasParameterFilter(LifecycleMappingMetadataSource source, Set<String> plugins) {
+    if(hasParameterFilter(source.getPluginExecutions(), plugins)) {
+      return true;
+    }
+    for(LifecycleMappingMetadata lifecycleMapping : source.getLifecycleMappings()) {
+      if(hasParameterFilter(lifecycleMapping.getPluginExecutions(), plugins)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasParameterFilter(List<PluginExecutionMetadata> executions, Set<String> plugins) {
+    for(PluginExecutionMetadata execution : executions) {
+      PluginExecutionFilter filter = execution.getFilter();
+      if(filter != null && !filter.getParameters().isEmpty()
+          && plugins.contains(filter.getGroupId() + ':' + filter.getArtifactId())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String toString(LifecycleMappingMetadataSource source) {
+    StringWriter writer = new StringWriter();
+    try {
+      new LifecycleMappingMetadataSourceXpp3Writer().write(writer, source);
+    } catch(IOException ex) {
+      throw new IllegalStateException(ex); // can't happen with a string writer
+    }
+    return writer.toString();
+  }
+
+  record Fingerprint(String packaging, List<MojoExecutionKey> executions, PluginExecutionAction defaultAction,
+      List<Object> sources) {
+  }
+
+  private record EffectiveMapping(LifecycleMappingMetadata lifecycleMappingMetadata,
+      Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping) {
+  }
+
+  /**
+   * Statistics of the cache.
+   *
+   * @param hitCount number of projects that reused the mapping of an other project
+   * @param missCount number of projects whose mapping had to be computed
+   * @param uncacheableCount number of projects whose mapping can't be shared, not included in the misses
+   * @param size number of remembered mappings
+   */
+  public record Statistics(long hitCount, long missCount, long uncacheableCount, long size) {
+  }
+}
@@ -18,6 +18,7 @@
 package org.eclipse.m2e.core.internal.lifecyclemapping;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -29,6 +30,8 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,7 +46,6 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 
 import org.osgi.framework.Bundle;
@@ -176,6 +178,22 @@ public class LifecycleMappingFactory {
 
   private static List<LifecycleMappingMetadataSource> bundleMetadataSources = null;
 
+  private static final String PLUGIN_METADATA_CACHE_NAME = "pluginLifecycleMappingMetadata.cache"; //$NON-NLS-1$
+
+  private static PluginEmbeddedMetadataCache pluginEmbeddedMetadataCache;
+
+  static final String POM_SOURCES = "pomMappingMetadataSources"; //$NON-NLS-1$
+
+  static final String WORKSPACE_SOURCES = "workspaceMetadataSources"; //$NON-NLS-1$
+
+  /**
+   * Names of the metadata sources of a project in order of precedence, see {@link #getProjectMetadataSourcesMap}
+   */
+  static final List<String> SOURCE_NAMES = List.of(POM_SOURCES, WORKSPACE_SOURCES, "bundleMetadataSources", //$NON-NLS-1$
+      "mavenPluginEmbeddedMetadataSources", "defaultLifecycleMappingMetadataSource"); //$NON-NLS-1$ //$NON-NLS-2$
+
+  static final EffectiveLifecycleMappingCache effectiveMappingCache = new EffectiveLifecycleMappingCache();
+
   /**
    * Do not instantiate, use statically
    */
@@ -248,8 +266,18 @@ public class LifecycleMappingFactory {
       try {
         Map<String, List<MappingMetadataSource>> projectSources = getProjectMetadataSourcesMap(mavenProject,
             getBundleMetadataSources(), mojoExecutions, true, monitor);
+        EffectiveLifecycleMappingCache.Fingerprint fingerprint = effectiveMappingCache.fingerprint(mavenProject,
+            projectSources, mojoExecutions, MavenPlugin.getMavenConfiguration().getDefaultMojoExecutionAction());
+        if(fingerprint != null && effectiveMappingCache.apply(fingerprint, result)) {
+          log.debug("Reusing lifecycle mapping of a project with the same build plugins for {}.", mavenProject); //$NON-NLS-1$
+          return;
+        }
+        int problemCount = result.getProblems().size();
         calculateEffectiveLifecycleMappingMetadata(result, asList(projectSources), mavenProject, mojoExecutions, true,
             monitor);
+        if(fingerprint != null) {
+          effectiveMappingCache.put(fingerprint, result, problemCount);
+        }
       } catch(LifecycleMappingConfigurationException e) {
         // could not read/parse/interpret mapping metadata configured in the pom or inherited from parent pom.
         // record the problem and return
@@ -274,9 +302,9 @@ public class LifecycleMappingFactory {
 
     // TODO validate metadata and replace invalid entries with error mapping
 
-    metadataSourcesMap.put("pomMappingMetadataSources", getPomMappingMetadataSources(mavenProject, monitor));
+    metadataSourcesMap.put(POM_SOURCES, getPomMappingMetadataSources(mavenProject, monitor));
 
-    metadataSourcesMap.put("workspaceMetadataSources",
+    metadataSourcesMap.put(WORKSPACE_SOURCES,
         List.of(new SimpleMappingMetadataSource(getWorkspaceMetadata(false))));
 
     // TODO filter out invalid metadata from sources contributed by eclipse extensions and the default source
@@ -394,10 +422,8 @@ public class LifecycleMappingFactory {
   }
 
   public static List<MappingMetadataSource> asList(Map<String, List<MappingMetadataSource>> map) {
-    return Stream
-        .of("pomMappingMetadataSources", "workspaceMetadataSources", "bundleMetadataSources",
-            "mavenPluginEmbeddedMetadataSources", "defaultLifecycleMappingMetadataSource")
-        .map(map::get).filter(Objects::nonNull).flatMap(List::stream).collect(Collectors.toCollection(ArrayList::new));
+    return SOURCE_NAMES.stream().map(map::get).filter(Objects::nonNull).flatMap(List::stream)
+        .collect(Collectors.toCollection(ArrayList::new));
   }
 
   private static List<LifecycleMappingMetadataSource> getMavenPluginEmbeddedMetadataSources(
@@ -408,10 +434,15 @@ public class LifecycleMappingFactory {
       return Collections.emptyList();
     }
     Map<File, LifecycleMappingMetadataSource> result = new LinkedHashMap<>();
+    Set<String> plugins = new HashSet<>();
 
     MavenImpl maven = (MavenImpl) MavenPlugin.getMaven();
 
     for(MojoExecution execution : mojoExecutions) {
+      if(!plugins.add(execution.getPlugin().getId())) {
+        // plugins usually have several executions, resolve each one only once
+        continue;
+      }
       Artifact artifact;
       // 422135 disable workspace resolution for plugin artifacts
       try (var d = EclipseWorkspaceArtifactRepository.setDisabled()) {
@@ -427,12 +458,6 @@ public class LifecycleMappingFactory {
       }
       LifecycleMappingMetadataSource metadata = readMavenPluginEmbeddedMetadata(artifact);
       if(metadata != null) {
-        // enforce embedded metadata only contains mappings for this plugin and nothing else
-        for(LifecycleMappingMetadata lifecycleMetadta : metadata.getLifecycleMappings()) {
-          enforcePluginMapping(artifact, lifecycleMetadta.getPluginExecutions());
-        }
-        enforcePluginMapping(artifact, metadata.getPluginExecutions());
-
         result.put(file, metadata);
       }
     }
@@ -470,37 +495,85 @@ public class LifecycleMappingFactory {
     return actual == null || actual.equals(expected);
   }
 
+  /**
+   * Returns the metadata embedded in the given plugin, the result is cached and shared by all projects using the same
+   * plugin jar.
+   */
   private static LifecycleMappingMetadataSource readMavenPluginEmbeddedMetadata(Artifact artifact) {
-    File file = artifact.getFile();
-    LifecycleMappingMetadataSource metadata = null;
     try {
-      if(file.isFile()) {
-        try (JarFile jar = new JarFile(file)) {
-          ZipEntry entry = jar.getEntry(LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
-          if(entry == null) {
-            return null;
-          }
-          InputStream is = jar.getInputStream(entry);
-          metadata = createLifecycleMappingMetadataSource(is);
+      return getPluginEmbeddedMetadataCache().get(artifact.getFile(), new PluginEmbeddedMetadataCache.MetadataReader() {
+        @Override
+        public byte[] read(File plugin) throws IOException {
+          return readMavenPluginEmbeddedMetadata(plugin);
         }
-      } else if(file.isDirectory()) {
-        file = new File(file, LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
-        if(file.isFile()) {
-          try (InputStream is = new FileInputStream(file)) {
-            metadata = createLifecycleMappingMetadataSource(is);
-          }
+
+        @Override
+        public LifecycleMappingMetadataSource parse(byte[] data) {
+          return parseMavenPluginEmbeddedMetadata(artifact, data);
+        }
+      });
+    } catch(IOException e) {
+      throw new LifecycleMappingConfigurationException(
+          "Cannot read lifecycle mapping metadata for artifact " + artifact, e);
+    }
+  }
+
+  private static byte[] readMavenPluginEmbeddedMetadata(File file) throws IOException {
+    if(file.isFile()) {
+      try (JarFile jar = new JarFile(file)) {
+        ZipEntry entry = jar.getEntry(LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
+        if(entry == null) {
+          return null;
+        }
+        try (InputStream is = jar.getInputStream(entry)) {
+          return is.readAllBytes();
         }
       }
+    } else if(file.isDirectory()) {
+      file = new File(file, LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
+      if(file.isFile()) {
+        return Files.readAllBytes(file.toPath());
+      }
+    }
+    return null;
+  }
+
+  private static LifecycleMappingMetadataSource parseMavenPluginEmbeddedMetadata(Artifact artifact, byte[] data) {
+    LifecycleMappingMetadataSource metadata;
+    try {
+      metadata = createLifecycleMappingMetadataSource(new ByteArrayInputStream(data));
     } catch(XmlPullParserException | IOException e) {
       throw new LifecycleMappingConfigurationException(
           "Cannot read lifecycle mapping metadata for artifact " + artifact, e);
     }
-    if(metadata != null) {
-      metadata.setSource(artifact);
+    metadata.setSource(artifact);
+    // enforce embedded metadata only contains mappings for this plugin and nothing else
+    for(LifecycleMappingMetadata lifecycleMetadta : metadata.getLifecycleMappings()) {
+      enforcePluginMapping(artifact, lifecycleMetadta.getPluginExecutions());
     }
+    enforcePluginMapping(artifact, metadata.getPluginExecutions());
     return metadata;
   }
 
+  private static synchronized PluginEmbeddedMetadataCache getPluginEmbeddedMetadataCache() {
+    if(pluginEmbeddedMetadataCache == null) {
+      MavenPluginActivator activator = MavenPluginActivator.getDefault();
+      Path file = activator != null ? activator.getStateLocation().toFile().toPath().resolve(PLUGIN_METADATA_CACHE_NAME)
+          : null;
+      pluginEmbeddedMetadataCache = new PluginEmbeddedMetadataCache(file);
+    }
+    return pluginEmbeddedMetadataCache;
+  }
+
+  /**
+   * Persists the metadata embedded in maven plugins read since the last save.
+   */
+  public static synchronized void savePluginEmbeddedMetadataCache() {
+    if(pluginEmbeddedMetadataCache != null) {
+      pluginEmbeddedMetadataCache.save();
+    }
+  }
+
   private static File getWorkspaceMetadataFile() {
     return new File(MavenPlugin.getMavenConfiguration().getWorkspaceLifecycleMappingMetadataFile());
   }
@@ -538,6 +611,7 @@ public class LifecycleMappingFactory {
       log.error(ex.getMessage(), ex);
     }
     workspaceMetadataSource = metadata;
+    effectiveMappingCache.clear();
   }
 
   public static void calculateEffectiveLifecycleMappingMetadata(LifecycleMappingResult result,
@@ -1458,5 +1532,13 @@ public class LifecycleMappingFactory {
    */
   public static synchronized void setBundleMetadataSources(List<LifecycleMappingMetadataSource> bundleMetadataSources) {
     LifecycleMappingFactory.bundleMetadataSources = bundleMetadataSources;
+    effectiveMappingCache.clear();
+  }
+
+  /**
+   * Returns how often the effective lifecycle mapping of one project could be reused for an other project.
+   */
+  public static EffectiveLifecycleMappingCache.Statistics getEffectiveMappingStatistics() {
+    return effectiveMappingCache.getStatistics();
   }
 }
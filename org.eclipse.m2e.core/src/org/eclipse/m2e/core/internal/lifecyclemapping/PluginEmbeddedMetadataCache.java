@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+
+
+/**
+ * Caches the lifecycle mapping metadata embedded in maven plugin jars. Entries are keyed by the path of the plugin jar
+ * and are only valid as long as its size and modification time do not change. Plugins without embedded metadata are
+ * cached as well, this is the common case. The raw metadata is persisted to the plugin state location so that it does
+ * not need to be read from the jars again after a restart, the parsed metadata is only kept in memory.
+ */
+final class PluginEmbeddedMetadataCache {
+  private static final Logger log = LoggerFactory.getLogger(PluginEmbeddedMetadataCache.class);
+
+  private static final int MAGIC = 0x4D32_504D; // "M2PM"
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final Path file;
+
+  private volatile boolean loaded;
+
+  private volatile boolean dirty;
+
+  /**
+   * @param file the file the cache is persisted to, or {@code null} to keep the cache in memory only
+   */
+  PluginEmbeddedMetadataCache(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Returns the metadata of the given plugin jar, reading it with the given reader if it is not cached or the jar has
+   * changed since.
+   *
+   * @return the metadata or {@code null} if the plugin has no embedded metadata
+   */
+  LifecycleMappingMetadataSource get(File plugin, MetadataReader reader) throws IOException {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(plugin.toPath(), BasicFileAttributes.class);
+    } catch(NoSuchFileException ex) {
+      return null;
+    }
+    if(!attributes.isRegularFile()) {
+      // exploded plugin directories can change anytime without changing their own timestamp
+      byte[] data = reader.read(plugin);
+      return data != null ? reader.parse(data) : null;
+    }
+    load();
+    String path = plugin.getAbsolutePath();
+    long size = attributes.size();
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    Entry entry = entries.get(path);
+    if(entry == null || entry.size != size || entry.lastModified != lastModified) {
+      entry = new Entry(size, lastModified, reader.read(plugin));
+      entries.put(path, entry);
+      dirty = true;
+    }
+    if(entry.data == null) {
+      return null;
+    }
+    LifecycleMappingMetadataSource metadata = entry.metadata;
+    if(metadata == null) {
+      // concurrent callers may both parse, the result is the same
+      metadata = reader.parse(entry.data);
+      entry.metadata = metadata;
+    }
+    return metadata;
+  }
+
+  private void load() {
+    if(loaded) {
+      return;
+    }
+    synchronized(this) {
+      if(loaded) {
+        return;
+      }
+      loaded = true;
+      if(file == null || !Files.isRegularFile(file)) {
+        return;
+      }
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+        if(in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+          return;
+        }
+        int count = in.readInt();
+        for(int i = 0; i < count; i++ ) {
+          String path = in.readUTF();
+          long size = in.readLong();
+          long lastModified = in.readLong();
+          int length = in.readInt();
+          byte[] data = null;
+          if(length >= 0) {
+            data = new byte[length];
+            in.readFully(data);
+          }
+          entries.putIfAbsent(path, new Entry(size, lastModified, data));
+        }
+      } catch(IOException ex) {
+        log.warn("Could not read plugin lifecycle mapping metadata cache {}", file, ex);
+      }
+    }
+  }
+
+  /**
+   * Writes the cache to disk if it has changed since it was loaded.
+   */
+  synchronized void save() {
+    if(file == null || !dirty) {
+      return;
+    }
+    dirty = false;
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        Map<String, Entry> snapshot = Map.copyOf(entries);
+        out.writeInt(snapshot.size());
+        for(Map.Entry<String, Entry> e : snapshot.entrySet()) {
+          Entry entry = e.getValue();
+          out.writeUTF(e.getKey());
+          out.writeLong(entry.size);
+          out.writeLong(entry.lastModified);
+          out.writeInt(entry.data != null ? entry.data.length : -1);
+          if(entry.data != null) {
+            out.write(entry.data);
+          }
+        }
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch(IOException ex) {
+      log.warn("Could not write plugin lifecycle mapping metadata cache {}", file, ex);
+    }
+  }
+
+  private static final class Entry {
+
+    final long size;
+
+    final long lastModified;
+
+    /**
+     * The raw metadata or {@code null} if the plugin has none
+     */
+    final byte[] data;
+
+    volatile LifecycleMappingMetadataSource metadata;
+
+    Entry(long size, long lastModified, byte[] data) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.data = data;
+    }
+  }
+
+  interface MetadataReader {
+
+    /**
+     * @return the raw embedded metadata of the plugin or {@code null} if it has none
+     */
+    byte[] read(File plugin) throws IOException;
+
+    /**
+     * @return the metadata parsed from the given raw metadata
+     */
+    LifecycleMappingMetadataSource parse(byte[] data);
+  }
+}
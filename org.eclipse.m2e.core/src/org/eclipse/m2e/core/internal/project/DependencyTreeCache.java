@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+
+import org.osgi.service.component.annotations.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+
+
+/**
+ * Caches the verbose dependency trees collected for the dependency hierarchy, keyed by the inputs of the collection.
+ * Each tree is collected once, requests for the same inputs wait for the running collection and requests for
+ * different inputs run concurrently. Callers derive the views of the different scopes from the cached tree by
+ * filtering, they must not modify it. All trees are dropped when a Maven project changes, because dependencies
+ * resolved from the workspace might have changed. Changes of the local or remote repositories are only picked up when
+ * a tree is requested with {@code force}, or once the tree was evicted as one of the least recently used.
+ */
+@Component(service = {DependencyTreeCache.class, IMavenProjectChangedListener.class})
+public class DependencyTreeCache implements IMavenProjectChangedListener {
+
+  private static final int MAX_SIZE = Integer.getInteger("m2e.dependencyTree.cacheSize", 16); //$NON-NLS-1$
+
+  @FunctionalInterface
+  public interface Collector {
+    DependencyNode collect() throws CoreException;
+  }
+
+  private record Key(List<Dependency> dependencies, List<Dependency> managedDependencies,
+      List<RemoteRepository> repositories, LocalRepository localRepository, WorkspaceRepository workspaceRepository,
+      boolean offline) {
+  }
+
+  private final Cache<Key, CompletableFuture<DependencyNode>> cache = CacheBuilder.newBuilder().maximumSize(MAX_SIZE)
+      .build();
+
+  private final ConcurrentMap<Key, CompletableFuture<DependencyNode>> trees = cache.asMap();
+
+  /**
+   * @param force {@code true} to collect the tree again even if there is one for the given request
+   * @return the tree collected for the given request, collected with the given collector if there is none
+   */
+  public DependencyNode get(RepositorySystemSession session, CollectRequest request, boolean force,
+      Collector collector) throws CoreException {
+    Key key = new Key(List.copyOf(request.getDependencies()), List.copyOf(request.getManagedDependencies()),
+        List.copyOf(request.getRepositories()), session.getLocalRepository(),
+        session.getWorkspaceReader() != null ? session.getWorkspaceReader().getRepository() : null,
+        session.isOffline());
+    if(force) {
+      trees.remove(key);
+    }
+    CompletableFuture<DependencyNode> tree = new CompletableFuture<>();
+    CompletableFuture<DependencyNode> existing = trees.putIfAbsent(key, tree);
+    if(existing != null) {
+      try {
+        return existing.join();
+      } catch(CompletionException ex) {
+        if(ex.getCause() instanceof CoreException coreException) {
+          throw coreException;
+        }
+        throw ex;
+      }
+    }
+    try {
+      DependencyNode root = collector.collect();
+      tree.complete(root);
+      return root;
+    } catch(CoreException | RuntimeException ex) {
+      // failures are not cached
+      trees.remove(key, tree);
+      tree.completeExceptionally(ex);
+      throw ex;
+    }
+  }
+
+  @Override
+  public void mavenProjectChanged(List<MavenProjectChangedEvent> events, IProgressMonitor monitor) {
+    cache.invalidateAll();
+  }
+}
@@ -16,21 +16,26 @@ package org.eclipse.m2e.core.internal.project.registry;
 import java.io.File;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.project.registry.LazyFacadeMap.FacadeRef;
 
 
 /**
- * Registry of all workspace projects and their dependencies.
+ * Registry of all workspace projects and their dependencies. All maps are persistent, registries created from each
+ * other share their structure and only copy what they modify. Nested collections are shared as well and must be
+ * replaced by a copy before they are modified, see {@link #owned(Object)}.
  *
  * @author igor
  */
@@ -41,32 +46,44 @@ abstract class BasicProjectRegistry implements Serializable {
   /**
    * Maps ArtifactKey to IFile of the POM file that defines this artifact.
    */
-  protected final Map<ArtifactKey, Set<IFile>> workspaceArtifacts = new HashMap<>();
+  protected final PersistentHashMap<ArtifactKey, Set<IFile>> workspaceArtifacts = new PersistentHashMap<>();
+
+  /**
+   * Maps versionless ArtifactKey to the keys of {@link #workspaceArtifacts} with the same groupId and artifactId.
+   */
+  protected final PersistentHashMap<ArtifactKey, Set<ArtifactKey>> workspaceArtifactVersions =
+      new PersistentHashMap<>();
 
   /**
    * Maps IFile to MavenProjectFacade
    */
-  protected final Map<IFile, MavenProjectFacade> workspacePoms = new HashMap<>();
+  protected final LazyFacadeMap<IFile> workspacePoms = new LazyFacadeMap<>();
 
   /**
    * Maps File to MavenProjectFacade
    */
-  protected final Map<File, MavenProjectFacade> workspacePomFiles = new HashMap<>();
+  protected final LazyFacadeMap<File> workspacePomFiles = new LazyFacadeMap<>();
 
   /**
    * Maps required capabilities to projects that require them.
    */
-  protected final Map<VersionlessKey, Map<RequiredCapability, Set<IFile>>> requiredCapabilities = new HashMap<>();
+  protected final PersistentHashMap<VersionlessKey, Map<RequiredCapability, Set<IFile>>> requiredCapabilities =
+      new PersistentHashMap<>();
 
   /**
    * Maps project pom.xml file to the capabilities provided by the project
    */
-  protected final Map<IFile, Set<Capability>> projectCapabilities = new HashMap<>();
+  protected final PersistentHashMap<IFile, Set<Capability>> projectCapabilities = new PersistentHashMap<>();
 
   /**
    * Maps project pom.xml file to the capabilities required by the project
    */
-  protected final Map<IFile, Set<RequiredCapability>> projectRequirements = new HashMap<>();
+  protected final PersistentHashMap<IFile, Set<RequiredCapability>> projectRequirements = new PersistentHashMap<>();
+
+  /**
+   * Nested collections created by this registry that are not shared with any other registry.
+   */
+  private final Set<Object> owned = Collections.newSetFromMap(new IdentityHashMap<>());
 
   protected BasicProjectRegistry() {
   }
@@ -76,37 +93,53 @@ abstract class BasicProjectRegistry implements Serializable {
   }
 
   protected final void replaceWith(BasicProjectRegistry other) {
-    clear();
-
-    copy(other.workspaceArtifacts, workspaceArtifacts);
-    copy(other.workspacePoms, workspacePoms);
-    copy(other.projectCapabilities, projectCapabilities);
-    copy(other.projectRequirements, projectRequirements);
-    copy(other.requiredCapabilities, requiredCapabilities);
-
-    for(MavenProjectFacade facade : workspacePoms.values()) {
-      workspacePomFiles.put(facade.getPomFile(), facade);
-    }
+    workspaceArtifacts.copyFrom(other.workspaceArtifacts);
+    workspaceArtifactVersions.copyFrom(other.workspaceArtifactVersions);
+    workspacePoms.copyFrom(other.workspacePoms);
+    workspacePomFiles.copyFrom(other.workspacePomFiles);
+    projectCapabilities.copyFrom(other.projectCapabilities);
+    projectRequirements.copyFrom(other.projectRequirements);
+    requiredCapabilities.copyFrom(other.requiredCapabilities);
+
+    // nested collections are shared by both registries from now on
+    owned.clear();
+    other.owned.clear();
   }
 
   /**
-   * THIS IS NOT A GENERIC DEEP COPY IMPLEMENTATION!
+   * Rebuilds the indexes of {@link #workspacePomFiles} and {@link #workspaceArtifactVersions} after the primary maps were
+   * populated directly.
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private static void copy(Map from, Map to) {
-    from.forEach((key, value) -> {
-      if(value instanceof Map mapValue) {
-        Map map = new LinkedHashMap();
-        copy(mapValue, map);
-        to.put(key, map);
-        value = map;
-      } else if(value instanceof Set setValue) {
-        value = new LinkedHashSet(setValue);
+  protected final void buildIndexes() {
+    workspacePomFiles.clear();
+    workspaceArtifactVersions.clear();
+    for(FacadeRef ref : workspacePoms.refs()) {
+      workspacePomFiles.putRef(ref.getPomFile(), ref);
+    }
+    workspaceArtifacts.forEach((key, files) -> {
+      if(!files.isEmpty()) {
+        workspaceArtifactVersions.computeIfAbsent(versionless(key), k -> new LinkedHashSet<>()).add(key);
       }
-      to.put(key, value);
     });
   }
 
+  protected static ArtifactKey versionless(ArtifactKey key) {
+    return new ArtifactKey(key.groupId(), key.artifactId(), null, null);
+  }
+
+  /**
+   * Marks the given nested collection as created by this registry, it can be modified until it is shared by
+   * {@link #replaceWith(BasicProjectRegistry)}.
+   */
+  protected final <T> T owned(T collection) {
+    owned.add(collection);
+    return collection;
+  }
+
+  protected final boolean isOwned(Object collection) {
+    return owned.contains(collection);
+  }
+
   public MavenProjectFacade getProjectFacade(IFile pom) {
     return workspacePoms.get(pom);
   }
@@ -124,26 +157,34 @@ abstract class BasicProjectRegistry implements Serializable {
   }
 
   public List<MavenProjectFacade> getProjects() {
-    return List.copyOf(workspacePoms.values());
+    // facades that could not be read from the workspace state are null
+    return workspacePoms.values().stream().filter(Objects::nonNull).toList();
   }
 
   public Map<ArtifactKey, Collection<IFile>> getWorkspaceArtifacts(String groupId, String artifactId) {
+    Set<ArtifactKey> keys = workspaceArtifactVersions.get(new ArtifactKey(groupId, artifactId, null, null));
+    if(keys == null) {
+      return Map.of();
+    }
     Map<ArtifactKey, Collection<IFile>> artifacts = new HashMap<>();
-    workspaceArtifacts.forEach((wsKey, files) -> {
-      if(!files.isEmpty() && groupId.equals(wsKey.groupId()) && artifactId.equals(wsKey.artifactId())) {
-        artifacts.computeIfAbsent(wsKey, k -> new HashSet<>()).addAll(files);
+    for(ArtifactKey key : keys) {
+      Set<IFile> files = workspaceArtifacts.get(key);
+      if(files != null && !files.isEmpty()) {
+        artifacts.put(key, new HashSet<>(files));
       }
-    });
+    }
     return artifacts;
   }
 
   protected void clear() {
     workspaceArtifacts.clear();
+    workspaceArtifactVersions.clear();
     workspacePoms.clear();
     workspacePomFiles.clear();
     requiredCapabilities.clear();
     projectCapabilities.clear();
     projectRequirements.clear();
+    owned.clear();
   }
 
   public boolean isValid() {
@@ -151,8 +192,9 @@ abstract class BasicProjectRegistry implements Serializable {
   }
 
   private boolean areFacadesValid() {
-    for(MavenProjectFacade facade : workspacePoms.values()) {
-      if(facade == null || facade.getPom() == null || facade.getPom().getLocation() == null) {
+    // check the keys only, facades read from the workspace state are not materialized before they are requested
+    for(IFile pom : workspacePoms.keySet()) {
+      if(pom == null || pom.getLocation() == null) {
         return false;
       }
     }
@@ -16,8 +16,10 @@ package org.eclipse.m2e.core.internal.project.registry;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -36,6 +38,12 @@ public class DependencyResolutionContext {
 
   private final Map<IFile, IStatus> statusMap = new HashMap<>();
 
+  /** Profile of the refresh or {@code null} if it is not profiled */
+  private RefreshProfile profile;
+
+  /** Pom files popped in this refresh, only tracked while profiling */
+  private final Set<IFile> processed = new HashSet<>();
+
   public DependencyResolutionContext(Collection<IFile> pomFiles) {
     this.pomFiles = new LinkedHashSet<>(pomFiles);
   }
@@ -45,14 +53,27 @@ public class DependencyResolutionContext {
   }
 
   public synchronized void forcePomFiles(Collection<IFile> pomFiles) {
-    this.pomFiles.addAll(pomFiles);
+    for(IFile pom : pomFiles) {
+      if(this.pomFiles.add(pom)) {
+        requeued(pom);
+      }
+    }
+  }
 
+  /**
+   * Queues the given pom files for the next phase of the refresh, they are not counted as requeued.
+   */
+  synchronized void queuePomFiles(Collection<IFile> pomFiles) {
+    this.pomFiles.addAll(pomFiles);
   }
 
   public synchronized IFile pop() {
     Iterator<IFile> i = pomFiles.iterator();
     IFile pom = i.next();
     i.remove();
+    if(profile != null) {
+      processed.add(pom);
+    }
     return pom;
   }
 
@@ -60,14 +81,48 @@ public class DependencyResolutionContext {
     return new LinkedHashSet<>(pomFiles);
   }
 
+  /**
+   * Moves the given pom files to the front of the queue, in the given order.
+   */
+  synchronized void prioritize(List<IFile> order) {
+    Set<IFile> reordered = new LinkedHashSet<>(pomFiles.size());
+    for(IFile pom : order) {
+      if(pomFiles.contains(pom)) {
+        reordered.add(pom);
+      }
+    }
+    reordered.addAll(pomFiles);
+    pomFiles.clear();
+    pomFiles.addAll(reordered);
+  }
+
   /**
    * @param file
    */
   public void forcePomFile(IFile file) {
-    pomFiles.add(file);
+    if(pomFiles.add(file)) {
+      requeued(file);
+    }
     statusMap.remove(file);
   }
 
+  /**
+   * Counts a pom file that is queued again after it was processed in this refresh.
+   */
+  private void requeued(IFile pom) {
+    if(profile != null && processed.contains(pom)) {
+      profile.requeued(pom);
+    }
+  }
+
+  RefreshProfile getProfile() {
+    return profile;
+  }
+
+  void setProfile(RefreshProfile profile) {
+    this.profile = profile;
+  }
+
   public IStatus getStatus(IFile file) {
     return statusMap.getOrDefault(file, Status.OK_STATUS);
   }
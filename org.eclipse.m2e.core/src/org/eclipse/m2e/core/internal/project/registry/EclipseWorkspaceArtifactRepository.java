@@ -205,11 +205,8 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
       return versions;
     }
 
-    for(MavenProjectFacade facade : context.state.getProjects()) {
-      ArtifactKey artifactKey = facade.getArtifactKey();
-      if(groupId.equals(artifactKey.groupId()) && artifactId.equals(artifactKey.artifactId())) {
-        versions.add(artifactKey.version());
-      }
+    for(ArtifactKey artifactKey : context.state.getWorkspaceArtifacts(groupId, artifactId).keySet()) {
+      versions.add(artifactKey.version());
     }
 
     return versions;
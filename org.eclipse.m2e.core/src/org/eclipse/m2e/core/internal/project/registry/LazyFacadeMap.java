@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Supplier;
+
+
+/**
+ * Map of {@link MavenProjectFacade}s that can hold facades that were not yet read from the persisted workspace state.
+ * Such facades are materialized when they are first requested. Operations that do not expose values, like
+ * {@link #containsKey(Object)}, {@link #keySet()} or {@link #size()}, never materialize a facade.
+ */
+final class LazyFacadeMap<K> extends AbstractMap<K, MavenProjectFacade> implements Serializable {
+
+  private static final long serialVersionUID = -1570934372180834186L;
+
+  private final PersistentHashMap<K, FacadeRef> refs = new PersistentHashMap<>();
+
+  @Override
+  public MavenProjectFacade get(Object key) {
+    FacadeRef ref = refs.get(key);
+    return ref != null ? ref.get() : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return refs.containsKey(key);
+  }
+
+  @Override
+  public MavenProjectFacade put(K key, MavenProjectFacade facade) {
+    FacadeRef old = refs.put(key, new FacadeRef(facade));
+    return old != null ? old.get() : null;
+  }
+
+  @Override
+  public MavenProjectFacade remove(Object key) {
+    FacadeRef old = refs.remove(key);
+    return old != null ? old.get() : null;
+  }
+
+  @Override
+  public int size() {
+    return refs.size();
+  }
+
+  @Override
+  public void clear() {
+    refs.clear();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return refs.keySet();
+  }
+
+  @Override
+  public Set<Entry<K, MavenProjectFacade>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<K, MavenProjectFacade>> iterator() {
+        Iterator<Entry<K, FacadeRef>> iterator = refs.entrySet().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<K, MavenProjectFacade> next() {
+            Entry<K, FacadeRef> entry = iterator.next();
+            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get());
+          }
+
+          @Override
+          public void remove() {
+            iterator.remove();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return refs.size();
+      }
+    };
+  }
+
+  /**
+   * Adds a facade that is only read from the workspace state when it is first requested.
+   */
+  void putLazy(K key, File pomFile, Supplier<MavenProjectFacade> loader) {
+    refs.put(key, new FacadeRef(pomFile, loader));
+  }
+
+  /**
+   * Replaces the content of this map with the facades of the other map in constant time, without materializing any
+   * facade.
+   */
+  void copyFrom(LazyFacadeMap<K> other) {
+    refs.copyFrom(other.refs);
+  }
+
+  Collection<FacadeRef> refs() {
+    return refs.values();
+  }
+
+  void putRef(K key, FacadeRef ref) {
+    refs.put(key, ref);
+  }
+
+  FacadeRef removeRef(Object key) {
+    return refs.remove(key);
+  }
+
+  /**
+   * Reports all keys whose facade differs between this and the newer map. Facades shared by both maps are skipped
+   * without being looked at, in particular they are not materialized.
+   */
+  void diff(LazyFacadeMap<K> newer, PersistentHashMap.DiffVisitor<K, FacadeRef> visitor) {
+    refs.diff(newer.refs, visitor);
+  }
+
+  /**
+   * Reference to a facade that is either already known or read on demand.
+   */
+  static final class FacadeRef implements Serializable {
+
+    private static final long serialVersionUID = 2914316271470357207L;
+
+    private final File pomFile;
+
+    private transient Supplier<MavenProjectFacade> loader;
+
+    private MavenProjectFacade facade;
+
+    FacadeRef(MavenProjectFacade facade) {
+      this.facade = facade;
+      this.pomFile = facade != null ? facade.getPomFile() : null;
+    }
+
+    FacadeRef(File pomFile, Supplier<MavenProjectFacade> loader) {
+      this.pomFile = pomFile;
+      this.loader = loader;
+    }
+
+    synchronized MavenProjectFacade get() {
+      if(loader != null) {
+        facade = loader.get();
+        loader = null;
+      }
+      return facade;
+    }
+
+    File getPomFile() {
+      return pomFile;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      get();
+      out.defaultWriteObject();
+    }
+  }
+}
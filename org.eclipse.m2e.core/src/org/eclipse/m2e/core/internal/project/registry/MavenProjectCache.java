@@ -13,13 +13,18 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.osgi.service.component.annotations.Component;
@@ -28,10 +33,13 @@ import org.osgi.service.component.annotations.Reference;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalCause;
 import com.google.common.cache.RemovalNotification;
 
 import org.eclipse.core.runtime.CoreException;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Model;
 import org.apache.maven.plugin.ExtensionRealmCache;
 import org.apache.maven.plugin.PluginArtifactsCache;
 import org.apache.maven.plugin.PluginRealmCache;
@@ -50,6 +58,10 @@ import org.eclipse.m2e.core.project.IProjectConfiguration;
 
 /**
  * MavenProjectCache
+ * <p>
+ * The number of cached artifacts is limited by {@code m2e.project.cache.size}. If {@code m2e.project.cache.heapBudget}
+ * is set, projects are evicted based on an estimate of the heap they retain instead. Evicted projects can optionally be
+ * kept softly reachable, so they are only discarded when the heap runs short.
  *
  * @author christoph
  */
@@ -58,6 +70,29 @@ public class MavenProjectCache {
 
   private static final int MAX_CACHE_SIZE = Integer.getInteger("m2e.project.cache.size", 50);
 
+  /**
+   * Estimated heap in KB the cached projects may retain, or {@code null} to limit the number of cached artifacts. The
+   * estimate is not calibrated against the retained size of real projects, so it is not used by default.
+   */
+  private static final Long MAX_CACHE_WEIGHT = Long.getLong("m2e.project.cache.heapBudget");
+
+  /**
+   * Keep evicted projects softly reachable, they are reused if requested before they are garbage collected.
+   */
+  private static final boolean SOFT_SPILL = Boolean.getBoolean("m2e.project.cache.softSpill");
+
+  /**
+   * Rough weights in KB of the parts of a maven project, the resolved dependencies and the plugin configurations
+   * dominate the size of large projects.
+   */
+  private static final int PROJECT_WEIGHT = 64;
+
+  private static final int ARTIFACT_WEIGHT = 2;
+
+  private static final int DEPENDENCY_WEIGHT = 1;
+
+  private static final int PLUGIN_WEIGHT = 8;
+
   private static final String CTX_MAVENPROJECTS = MavenProjectCache.class.getName() + "/mavenProjects";
 
   @Reference
@@ -65,18 +100,66 @@ public class MavenProjectCache {
 
   private LoadingCache<CacheKey, CacheLine> loadingCache;
 
+  private final Map<CacheKey, SpilledLine> spilled = new ConcurrentHashMap<>();
+
+  private final ReferenceQueue<CacheLine> spillQueue = new ReferenceQueue<>();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder loadCount = new LongAdder();
+
+  private final LongAdder totalLoadTime = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  private final LongAdder spillHitCount = new LongAdder();
+
+  /**
+   * Budget in KB, or {@code -1} if the number of cached artifacts is limited
+   */
+  private final long maxWeight;
+
+  private final boolean softSpill;
 
   public MavenProjectCache() {
-    this.loadingCache = CacheBuilder.newBuilder() //
-        .maximumSize(MAX_CACHE_SIZE) //
+    this(MAX_CACHE_SIZE, MAX_CACHE_WEIGHT != null ? MAX_CACHE_WEIGHT : -1, SOFT_SPILL);
+  }
+
+  /**
+   * @param maxSize the maximum number of cached artifacts, only used if maxWeight is negative
+   * @param maxWeight the estimated heap in KB the cached projects may retain
+   * @param softSpill whether evicted projects are kept softly reachable
+   */
+  MavenProjectCache(int maxSize, long maxWeight, boolean softSpill) {
+    this.maxWeight = maxWeight;
+    this.softSpill = softSpill;
+    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+    if(maxWeight < 0) {
+      builder.maximumSize(maxSize);
+    } else {
+      builder.maximumWeight(maxWeight).weigher((CacheKey key, CacheLine line) -> line.weight);
+    }
+    this.loadingCache = builder //
         .removalListener((RemovalNotification<CacheKey, CacheLine> removed) -> {
-          Map<IMavenProjectFacade, MavenProject> contextProjects = getContextProjectMap();
-          removed.getValue().projects.values().forEach(mavenProject -> {
-            if(!contextProjects.containsValue(mavenProject)) {
-              flushMavenCaches(mavenProject.getFile(), removed.getKey().artifactKey(), false);
+          if(removed.getCause() == RemovalCause.REPLACED) {
+            // the line was put again to update its weight
+            return;
+          }
+          if(removed.wasEvicted()) {
+            evictionCount.increment();
+          }
+          CacheLine line = removed.getValue();
+          if(softSpill && removed.getCause() == RemovalCause.SIZE) {
+            SpilledLine previous = spilled.put(removed.getKey(), new SpilledLine(removed.getKey(), line, spillQueue));
+            if(previous != null) {
+              previous.clear();
             }
-          });
-        }).build(CacheLoader.from(CacheLine::new));
+            return;
+          }
+          flushMavenCaches(removed.getKey(), line.projects.keySet());
+        }).build(CacheLoader.from(this::loadCacheLine));
   }
 
   /**
@@ -85,7 +168,13 @@ public class MavenProjectCache {
    * @param facade the facade to invalidate
    */
   public void invalidateProjectFacade(IMavenProjectFacade facade) {
-    CacheLine cacheLine = loadingCache.getIfPresent(new CacheKey(facade.getArtifactKey(), facade.getConfiguration()));
+    expungeSpilledLines();
+    CacheKey key = new CacheKey(facade.getArtifactKey(), facade.getConfiguration());
+    CacheLine cacheLine = loadingCache.getIfPresent(key);
+    if(cacheLine == null) {
+      SpilledLine spilledLine = spilled.get(key);
+      cacheLine = spilledLine != null ? spilledLine.get() : null;
+    }
     if(cacheLine != null) {
       cacheLine.remove(facade.getPomFile());
     }
@@ -116,11 +205,100 @@ public class MavenProjectCache {
       invalidateProjectFacade(facade);
       return;
     }
+    expungeSpilledLines();
     ArtifactKey artifactKey = facade.getArtifactKey();
     CacheLine cacheLine = loadingCache.getUnchecked(new CacheKey(artifactKey, facade.getConfiguration()));
     cacheLine.updateProject(facade, mavenProject);
   }
 
+  /**
+   * @return the current statistics of this cache
+   */
+  public Statistics getStatistics() {
+    long weight = 0;
+    int projectCount = 0;
+    for(CacheLine line : loadingCache.asMap().values()) {
+      weight += line.weight;
+      projectCount += line.projects.size();
+    }
+    return new Statistics(hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTime.sum(), evictionCount.sum(),
+        spillHitCount.sum(), projectCount, weight, maxWeight);
+  }
+
+  private CacheLine loadCacheLine(CacheKey key) {
+    expungeSpilledLines();
+    SpilledLine spilledLine = spilled.remove(key);
+    if(spilledLine != null) {
+      CacheLine line = spilledLine.get();
+      if(line != null) {
+        spillHitCount.increment();
+        return line;
+      }
+      // collected but not yet polled from the queue, the new line must not lose its caches later
+      flushMavenCaches(key, spilledLine.pomFiles);
+    }
+    return new CacheLine(key);
+  }
+
+  /**
+   * Flushes the maven caches of spilled lines that have been garbage collected.
+   */
+  private void expungeSpilledLines() {
+    SpilledLine spilledLine;
+    while((spilledLine = (SpilledLine) spillQueue.poll()) != null) {
+      if(spilled.remove(spilledLine.key, spilledLine)) {
+        flushMavenCaches(spilledLine.key, spilledLine.pomFiles);
+      }
+    }
+  }
+
+  private void flushMavenCaches(CacheKey key, Collection<File> pomFiles) {
+    Map<IMavenProjectFacade, MavenProject> contextProjects = getContextProjectMap();
+    for(File pomFile : pomFiles) {
+      if(contextProjects.values().stream().noneMatch(p -> pomFile.equals(p.getFile()))) {
+        flushMavenCaches(pomFile, key.artifactKey(), false);
+      }
+    }
+  }
+
+  /**
+   * Updates the weight of the cache line, Guava only weighs a line when it is put into the cache.
+   */
+  private void reweigh(CacheLine line) {
+    int weight = 0;
+    for(MavenProject project : line.projects.values()) {
+      weight += estimateWeight(project);
+    }
+    if(weight != line.weight) {
+      line.weight = weight;
+      if(maxWeight >= 0) {
+        loadingCache.asMap().replace(line.key, line, line);
+      }
+    }
+  }
+
+  /**
+   * Estimates the heap retained by the given project in KB, the parent project is weighed by its own cache line.
+   */
+  static int estimateWeight(MavenProject project) {
+    long weight = PROJECT_WEIGHT;
+    Set<Artifact> artifacts = project.getArtifacts();
+    if(artifacts != null) {
+      weight += (long) artifacts.size() * ARTIFACT_WEIGHT;
+    }
+    Model model = project.getModel();
+    if(model != null) {
+      weight += (long) model.getDependencies().size() * DEPENDENCY_WEIGHT;
+      if(model.getDependencyManagement() != null) {
+        weight += (long) model.getDependencyManagement().getDependencies().size() * DEPENDENCY_WEIGHT;
+      }
+      if(model.getBuild() != null) {
+        weight += (long) model.getBuild().getPlugins().size() * PLUGIN_WEIGHT;
+      }
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
   /**
    * Flushes caches maintained by Maven core.
    */
@@ -168,10 +346,23 @@ public class MavenProjectCache {
 
   private final class CacheLine {
 
+    private final CacheKey key;
+
     private ConcurrentMap<File, MavenProject> projects = new ConcurrentHashMap<>(1);
 
+    /**
+     * Estimated weight of the projects of this line in KB.
+     */
+    volatile int weight;
+
+    CacheLine(CacheKey key) {
+      this.key = key;
+    }
+
     void remove(File pomFile) {
-      projects.remove(pomFile);
+      if(projects.remove(pomFile) != null) {
+        reweigh(this);
+      }
     }
 
     void updateProject(IMavenProjectFacade facade, MavenProject mavenProject) {
@@ -180,19 +371,33 @@ public class MavenProjectCache {
         distributeProjectToCache(mavenProject, facade.getConfiguration());
         return mavenProject;
       });
-
+      reweigh(this);
     }
 
     MavenProject getProject(IMavenProjectFacade facade, Function<IMavenProjectFacade, MavenProject> loader) {
       File pomFile = facade.getPomFile();
       if(loader == null) {
-        return projects.get(pomFile);
+        MavenProject mavenProject = projects.get(pomFile);
+        (mavenProject != null ? hitCount : missCount).increment();
+        return mavenProject;
       }
-      return projects.computeIfAbsent(pomFile, f -> {
+      boolean[] loaded = new boolean[1];
+      MavenProject result = projects.computeIfAbsent(pomFile, f -> {
+        long start = System.nanoTime();
         MavenProject mavenProject = loader.apply(facade);
+        totalLoadTime.add(System.nanoTime() - start);
+        loadCount.increment();
+        loaded[0] = true;
         distributeProjectToCache(mavenProject, facade.getConfiguration());
         return mavenProject;
       });
+      if(loaded[0]) {
+        missCount.increment();
+        reweigh(this);
+      } else {
+        hitCount.increment();
+      }
+      return result;
     }
 
   }
@@ -207,9 +412,10 @@ public class MavenProjectCache {
       //check if this is a workspace artifact
       if(file != null) {
         ArtifactKey projectKey = new ArtifactKey(parent.getArtifact());
-        MavenProject cacheItem = loadingCache.getUnchecked(new CacheKey(projectKey, configuration)).projects
-            .computeIfAbsent(file, x -> parent);
+        CacheLine parentLine = loadingCache.getUnchecked(new CacheKey(projectKey, configuration));
+        MavenProject cacheItem = parentLine.projects.computeIfAbsent(file, x -> parent);
         if(cacheItem == parent) {
+          reweigh(parentLine);
           //the project was cached, go on with the parent of the parent...
           distributeProjectToCache(parent, configuration);
         } else {
@@ -223,4 +429,37 @@ public class MavenProjectCache {
   private static final record CacheKey(ArtifactKey artifactKey, IProjectConfiguration configuration) {
   }
 
+  /**
+   * Evicted cache line that is kept until it is garbage collected, remembers the poms to flush the maven caches for.
+   */
+  private static final class SpilledLine extends SoftReference<CacheLine> {
+
+    final CacheKey key;
+
+    final List<File> pomFiles;
+
+    SpilledLine(CacheKey key, CacheLine line, ReferenceQueue<CacheLine> queue) {
+      super(line, queue);
+      this.key = key;
+      this.pomFiles = List.copyOf(line.projects.keySet());
+    }
+  }
+
+  /**
+   * Statistics of the cache, project loads are counted as misses.
+   *
+   * @param hitCount number of project requests served from the cache
+   * @param missCount number of project requests not served from the cache
+   * @param loadCount number of projects loaded into the cache
+   * @param totalLoadTime total time in nanoseconds spent loading projects
+   * @param evictionCount number of cache lines evicted to stay within the budget
+   * @param spillHitCount number of evicted cache lines reused before they were garbage collected
+   * @param projectCount number of cached projects
+   * @param weight estimated heap retained by the cached projects in KB
+   * @param maxWeight budget of the cache in KB or {@code -1} if the number of cached artifacts is limited instead
+   */
+  public record Statistics(long hitCount, long missCount, long loadCount, long totalLoadTime, long evictionCount,
+      long spillHitCount, int projectCount, long weight, long maxWeight) {
+  }
+
 }
@@ -14,6 +14,7 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -212,6 +213,110 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     this.timestamp = Arrays.copyOf(other.timestamp, other.timestamp.length);
   }
 
+  /**
+   * Reads a facade persisted by {@link #writeState(WorkspaceStateOutput)}.
+   */
+  MavenProjectFacade(ProjectRegistryManager manager, WorkspaceStateInput in) throws IOException {
+    this.manager = manager;
+    this.pom = in.readFile();
+    this.pomFile = in.readJavaFile();
+    this.resolverConfiguration = new MavenProjectConfiguration(in);
+    this.timestamp = in.readLongs();
+
+    this.artifactKey = in.readArtifactKey();
+    this.packaging = in.readString();
+    this.modules = readList(in.readStrings());
+
+    this.resourceLocations = readList(in.readPaths());
+    this.testResourceLocations = readList(in.readPaths());
+    this.compileSourceLocations = readList(in.readPaths());
+    this.testCompileSourceLocations = readList(in.readPaths());
+
+    this.outputLocation = in.readPath();
+    this.buildOutputLocation = in.readPath();
+    this.testOutputLocation = in.readPath();
+    this.finalName = in.readString();
+
+    this.artifactRepositories = readRepositoryReferences(in);
+    this.pluginArtifactRepositories = readRepositoryReferences(in);
+
+    int artifactCount = in.readSize();
+    if(artifactCount >= 0) {
+      Set<ArtifactRef> artifactRefs = new LinkedHashSet<>(artifactCount * 2);
+      for(int i = 0; i < artifactCount; i++ ) {
+        artifactRefs.add(new ArtifactRef(in.readArtifactKey(), in.readString()));
+      }
+      this.artifacts = Collections.unmodifiableSet(artifactRefs);
+    }
+
+    this.lifecycleMappingId = in.readString();
+    this.mojoExecutionMapping = in.readMojoExecutionMapping();
+  }
+
+  private static <T> List<T> readList(List<T> values) throws IOException {
+    if(values == null || values.contains(null)) {
+      throw new IOException("Missing list values in workspace state"); //$NON-NLS-1$
+    }
+    return List.copyOf(values);
+  }
+
+  /**
+   * Writes all persistent state of this facade, session properties are not preserved.
+   */
+  void writeState(WorkspaceStateOutput out) throws IOException {
+    out.writeFile(pom);
+    out.writeJavaFile(pomFile);
+    MavenProjectConfiguration.write(resolverConfiguration, out);
+    out.writeLongs(timestamp);
+
+    out.writeArtifactKey(artifactKey);
+    out.writeString(packaging);
+    out.writeStrings(modules);
+
+    out.writePaths(resourceLocations);
+    out.writePaths(testResourceLocations);
+    out.writePaths(compileSourceLocations);
+    out.writePaths(testCompileSourceLocations);
+
+    out.writePath(outputLocation);
+    out.writePath(buildOutputLocation);
+    out.writePath(testOutputLocation);
+    out.writeString(finalName);
+
+    writeRepositoryReferences(artifactRepositories, out);
+    writeRepositoryReferences(pluginArtifactRepositories, out);
+
+    out.writeSize(artifacts);
+    if(artifacts != null) {
+      for(ArtifactRef artifact : artifacts) {
+        out.writeArtifactKey(artifact.artifactKey());
+        out.writeString(artifact.scope());
+      }
+    }
+
+    out.writeString(lifecycleMappingId);
+    out.writeMojoExecutionMapping(mojoExecutionMapping);
+  }
+
+  private static Set<ArtifactRepositoryRef> readRepositoryReferences(WorkspaceStateInput in) throws IOException {
+    int size = in.readSize();
+    Set<ArtifactRepositoryRef> repositories = new LinkedHashSet<>();
+    for(int i = 0; i < size; i++ ) {
+      repositories.add(new ArtifactRepositoryRef(in.readString(), in.readString(), in.readString()));
+    }
+    return repositories;
+  }
+
+  private static void writeRepositoryReferences(Set<ArtifactRepositoryRef> repositories, WorkspaceStateOutput out)
+      throws IOException {
+    out.writeSize(repositories);
+    for(ArtifactRepositoryRef repository : repositories) {
+      out.writeString(repository.id());
+      out.writeString(repository.url());
+      out.writeString(repository.username());
+    }
+  }
+
   /**
    * Returns project relative paths of resource directories
    */
@@ -680,6 +785,28 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
       this.inactiveProfiles = List.copyOf(baseConfiguration.getInactiveProfileList());
     }
 
+    private MavenProjectConfiguration(WorkspaceStateInput in) throws IOException {
+      this.multiModuleProjectDirectory = in.readJavaFile();
+      this.mappingId = in.readString();
+      this.properties = Map.copyOf(in.readStringMap());
+      this.userProperties = Map.copyOf(in.readStringMap());
+      this.resolveWorkspace = in.readBoolean();
+      this.profiles = in.readString();
+      this.activeProfiles = readList(in.readStrings());
+      this.inactiveProfiles = readList(in.readStrings());
+    }
+
+    static void write(IProjectConfiguration configuration, WorkspaceStateOutput out) throws IOException {
+      out.writeJavaFile(configuration.getMultiModuleProjectDirectory());
+      out.writeString(configuration.getLifecycleMappingId());
+      out.writeStringMap(configuration.getConfigurationProperties());
+      out.writeStringMap(configuration.getUserProperties());
+      out.writeBoolean(configuration.isResolveWorkspaceProjects());
+      out.writeString(configuration.getSelectedProfiles());
+      out.writeStrings(configuration.getActiveProfileList());
+      out.writeStrings(configuration.getInactiveProfileList());
+    }
+
     @Override
     public Map<String, String> getConfigurationProperties() {
       return properties;
@@ -71,7 +71,7 @@ public class MavenProjectManager implements IMavenProjectRegistry {
     File bundleStateLocation = result.toFile();
     this.workspaceStateFile = new File(bundleStateLocation, STATE_FILENAME);
     boolean updateProjectsOnStartup = configuration.isUpdateProjectsOnStartup();
-    if(updateProjectsOnStartup || manager.getProjects().isEmpty()) {
+    if(updateProjectsOnStartup || manager.isEmpty()) {
       refresh(new MavenUpdateRequest(Arrays.asList(workspace.getRoot().getProjects()), //
           configuration.isOffline() /*offline*/, false /* updateSnapshots */));
     }
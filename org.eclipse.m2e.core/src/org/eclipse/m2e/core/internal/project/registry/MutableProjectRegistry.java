@@ -27,6 +27,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.project.registry.LazyFacadeMap.FacadeRef;
 
 
 /**
@@ -45,9 +46,12 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
   private boolean closed;
 
   public MutableProjectRegistry(ProjectRegistry state) {
-    super(state);
     this.parent = state;
-    this.parentVersion = state.getVersion();
+    synchronized(state) {
+      // constant time, the maps are shared with the parent until they are modified
+      replaceWith(state);
+      this.parentVersion = state.getVersion();
+    }
   }
 
   private void assertNotClosed() {
@@ -60,20 +64,21 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     assertNotClosed();
 
     // remove
-    MavenProjectFacade oldFacade = workspacePoms.remove(pom);
-    if(oldFacade != null) {
-      Set<IFile> paths = workspaceArtifacts.get(oldFacade.getArtifactKey());
-      if(paths != null) {
-        paths.remove(pom);
+    FacadeRef oldRef = workspacePoms.removeRef(pom);
+    if(oldRef != null) {
+      workspacePomFiles.removeRef(oldRef.getPomFile());
+      MavenProjectFacade oldFacade = oldRef.get();
+      if(oldFacade != null) {
+        removeWorkspaceArtifact(oldFacade.getArtifactKey(), pom);
       }
     }
     if(facade != null) {
       // Add the project to workspaceProjects map
       workspacePoms.put(pom, facade);
+      workspacePomFiles.put(facade.getPomFile(), facade);
 
       // Add the project to workspaceArtifacts map
-      Set<IFile> paths = workspaceArtifacts.computeIfAbsent(facade.getArtifactKey(), k -> new LinkedHashSet<>());
-      paths.add(pom);
+      addWorkspaceArtifact(facade.getArtifactKey(), pom);
     }
   }
 
@@ -84,21 +89,94 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     removeRequiredCapabilities(pom);
 
     // Remove the project from workspaceProjects, projectRequirements and projectCapabilities maps
-    MavenProjectFacade facade = workspacePoms.remove(pom);
+    FacadeRef ref = workspacePoms.removeRef(pom);
     projectRequirements.remove(pom);
     projectCapabilities.remove(pom);
 
     // Remove the project from workspaceArtifacts map
     if(mavenProject != null) {
-      Set<IFile> paths = workspaceArtifacts.get(mavenProject);
-      if(paths != null) {
-        paths.remove(pom);
+      removeWorkspaceArtifact(mavenProject, pom);
+    }
+
+    if(ref != null) {
+      workspacePomFiles.removeRef(ref.getPomFile());
+    }
+  }
+
+  private void addWorkspaceArtifact(ArtifactKey key, IFile pom) {
+    Set<IFile> paths = workspaceArtifacts.get(key);
+    if(paths != null && paths.contains(pom)) {
+      return;
+    }
+    if(paths == null || paths.isEmpty()) {
+      ArtifactKey versionlessKey = versionless(key);
+      Set<ArtifactKey> versions = editable(workspaceArtifactVersions.get(versionlessKey));
+      versions.add(key);
+      workspaceArtifactVersions.put(versionlessKey, versions);
+    }
+    paths = editable(paths);
+    paths.add(pom);
+    workspaceArtifacts.put(key, paths);
+  }
+
+  private void removeWorkspaceArtifact(ArtifactKey key, IFile pom) {
+    Set<IFile> paths = workspaceArtifacts.get(key);
+    if(paths == null || !paths.contains(pom)) {
+      return;
+    }
+    if(paths.size() > 1) {
+      paths = editable(paths);
+      paths.remove(pom);
+      workspaceArtifacts.put(key, paths);
+      return;
+    }
+    // last project of the artifact, also remove it from the versions index
+    workspaceArtifacts.remove(key);
+    ArtifactKey versionlessKey = versionless(key);
+    Set<ArtifactKey> versions = workspaceArtifactVersions.get(versionlessKey);
+    if(versions != null && versions.contains(key)) {
+      if(versions.size() > 1) {
+        versions = editable(versions);
+        versions.remove(key);
+        workspaceArtifactVersions.put(versionlessKey, versions);
+      } else {
+        workspaceArtifactVersions.remove(versionlessKey);
       }
     }
+  }
 
-    if(facade != null) {
-      workspacePomFiles.remove(facade.getPomFile());
+  /**
+   * Returns a set that can be modified by this registry, sets shared with other registries are copied.
+   */
+  private <T> Set<T> editable(Set<T> set) {
+    if(set == null) {
+      return owned(new LinkedHashSet<>());
+    }
+    return isOwned(set) ? set : owned(new LinkedHashSet<>(set));
+  }
+
+  /**
+   * Returns the requirements of the given capability, copied if they are shared with other registries.
+   */
+  private Map<RequiredCapability, Set<IFile>> editableRequiredCapabilities(VersionlessKey key) {
+    Map<RequiredCapability, Set<IFile>> rs = requiredCapabilities.get(key);
+    if(rs == null || !isOwned(rs)) {
+      rs = owned(rs != null ? new HashMap<>(rs) : new HashMap<>());
+      requiredCapabilities.put(key, rs);
     }
+    return rs;
+  }
+
+  /**
+   * Returns the projects that require the given capability, copied if they are shared with other registries.
+   */
+  private Set<IFile> editableRequiringPoms(Map<RequiredCapability, Set<IFile>> rs, RequiredCapability requirement) {
+    Set<IFile> poms = rs.get(requirement);
+    if(poms == null || !isOwned(poms)) {
+      poms = owned(poms != null ? new HashSet<>(poms) : new HashSet<>());
+      rs.put(requirement, poms);
+    }
+    return poms;
   }
 
   static boolean isSameProject(IResource r1, IResource r2) {
@@ -191,6 +269,9 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     if(rs == null) {
       return Collections.emptySet();
     }
+    if(remove) {
+      rs = editableRequiredCapabilities(capability.getVersionlessKey());
+    }
     Set<IFile> result = new LinkedHashSet<>();
     rs.entrySet().removeIf(entry -> {
       if(entry.getKey().isPotentialMatch(capability, versionMatch)) {
@@ -233,8 +314,8 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     removeRequiredCapabilities(pom);
     if(requirements != null) {
       for(RequiredCapability requirement : requirements) {
-        var poms = requiredCapabilities.computeIfAbsent(requirement.getVersionlessKey(), k -> new HashMap<>());
-        poms.computeIfAbsent(requirement, r -> new HashSet<>()).add(pom);
+        var poms = editableRequiredCapabilities(requirement.getVersionlessKey());
+        editableRequiringPoms(poms, requirement).add(pom);
       }
       return projectRequirements.put(pom, requirements);
     }
@@ -243,13 +324,21 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
 
   private void removeRequiredCapabilities(IFile pom) {
     for(RequiredCapability requiredCapability : projectRequirements.getOrDefault(pom, Set.of())) {
-      requiredCapabilities.computeIfPresent(requiredCapability.getVersionlessKey(), (k, rc2pom) -> {
-        rc2pom.computeIfPresent(requiredCapability, (rc, requiringPoms) -> {
-          requiringPoms.remove(pom);
-          return !requiringPoms.isEmpty() ? requiringPoms : null; // remove if was last project that required this capability 
-        });
-        return !rc2pom.isEmpty() ? rc2pom : null; // remove if was last project that required this capability version-less key
-      });
+      VersionlessKey key = requiredCapability.getVersionlessKey();
+      Map<RequiredCapability, Set<IFile>> rc2pom = requiredCapabilities.get(key);
+      Set<IFile> requiringPoms = rc2pom != null ? rc2pom.get(requiredCapability) : null;
+      if(requiringPoms == null || !requiringPoms.contains(pom)) {
+        continue;
+      }
+      rc2pom = editableRequiredCapabilities(key);
+      requiringPoms = editableRequiringPoms(rc2pom, requiredCapability);
+      requiringPoms.remove(pom);
+      if(requiringPoms.isEmpty()) {
+        rc2pom.remove(requiredCapability); // remove if was last project that required this capability
+        if(rc2pom.isEmpty()) {
+          requiredCapabilities.remove(key); // remove if was last project that required this capability version-less key
+        }
+      }
     }
   }
 }
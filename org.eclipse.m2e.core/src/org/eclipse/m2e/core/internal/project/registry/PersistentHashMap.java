@@ -0,0 +1,541 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+
+/**
+ * Hash array mapped trie that can share its structure with other maps. {@link #copyFrom(PersistentHashMap)} takes
+ * constant time, afterwards both maps copy only the trie nodes on the path to the entries they modify. Nodes created by
+ * a map are modified in place until the map shares them again.
+ * <p>
+ * Like {@link java.util.HashMap} this map is not thread safe. Iterators work on a snapshot of the map and never throw
+ * {@link java.util.ConcurrentModificationException}.
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 4313296476340346325L;
+
+  private static final Object NULL_KEY = new Object();
+
+  private static final Object NOT_FOUND = new Object();
+
+  private static final int BITS = 5;
+
+  private transient Node root = BitmapNode.EMPTY;
+
+  private transient int size;
+
+  /**
+   * Identifies nodes owned by this map, replaced whenever nodes become shared.
+   */
+  private transient Object edit = new Object();
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    Object k = maskNull(key);
+    Object value = root.find(0, hash(k), k);
+    return value != NOT_FOUND ? (V) value : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Object k = maskNull(key);
+    return root.find(0, hash(k), k) != NOT_FOUND;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(K key, V value) {
+    Object k = maskNull(key);
+    Box box = new Box();
+    root = root.put(edit, 0, hash(k), k, value, box);
+    if(box.value == NOT_FOUND) {
+      size++ ;
+      return null;
+    }
+    return (V) box.value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(Object key) {
+    Object k = maskNull(key);
+    Box box = new Box();
+    Node node = root.remove(edit, 0, hash(k), k, box);
+    root = node != null ? node : BitmapNode.EMPTY;
+    if(box.value == NOT_FOUND) {
+      return null;
+    }
+    size-- ;
+    return (V) box.value;
+  }
+
+  @Override
+  public void clear() {
+    root = BitmapNode.EMPTY;
+    size = 0;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * Replaces the content of this map with the content of the other map in constant time.
+   */
+  void copyFrom(PersistentHashMap<K, V> other) {
+    root = other.root;
+    size = other.size;
+    // the nodes are shared now, neither map may modify them in place anymore
+    edit = new Object();
+    other.edit = new Object();
+  }
+
+  /**
+   * Reports all entries that differ between this and the newer map, values are compared by identity. Parts of the trie
+   * shared by both maps are skipped, so the cost depends on the number of modifications since the maps were copied
+   * rather than on their size. Missing entries are reported as {@code null} values.
+   */
+  void diff(PersistentHashMap<K, V> newer, DiffVisitor<K, V> visitor) {
+    diff(root, newer.root, visitor);
+  }
+
+  private static void diff(Node a, Node b, DiffVisitor<?, ?> visitor) {
+    if(a == b) {
+      return;
+    }
+    if(a instanceof BitmapNode ba && b instanceof BitmapNode bb) {
+      int bits = ba.bitmap | bb.bitmap;
+      while(bits != 0) {
+        int bit = Integer.lowestOneBit(bits);
+        bits ^= bit;
+        Object ka = null;
+        Object va = null;
+        Object kb = null;
+        Object vb = null;
+        if((ba.bitmap & bit) != 0) {
+          int i = 2 * ba.index(bit);
+          ka = ba.array[i];
+          va = ba.array[i + 1];
+        }
+        if((bb.bitmap & bit) != 0) {
+          int i = 2 * bb.index(bit);
+          kb = bb.array[i];
+          vb = bb.array[i + 1];
+        }
+        if(ka == null && va instanceof Node na && kb == null && vb instanceof Node nb) {
+          diff(na, nb, visitor);
+        } else {
+          diffEntries(collect(ka, va, new LinkedHashMap<>()), collect(kb, vb, new LinkedHashMap<>()), visitor);
+        }
+      }
+    } else {
+      diffEntries(collect(null, a, new LinkedHashMap<>()), collect(null, b, new LinkedHashMap<>()), visitor);
+    }
+  }
+
+  /**
+   * Collects the entries of a trie slot, which is either a single entry, a sub-trie, or empty.
+   */
+  private static Map<Object, Object> collect(Object key, Object value, Map<Object, Object> entries) {
+    if(key != null) {
+      entries.put(key, value);
+    } else if(value instanceof Node node) {
+      for(int i = 0; i < node.array.length; i += 2) {
+        collect(node.array[i], node.array[i + 1], entries);
+      }
+    }
+    return entries;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void diffEntries(Map<Object, Object> a, Map<Object, Object> b, DiffVisitor visitor) {
+    a.forEach((key, value) -> {
+      Object other = b.getOrDefault(key, NOT_FOUND);
+      if(other == NOT_FOUND) {
+        visitor.visit(unmaskNull(key), value, null);
+      } else if(other != value) {
+        visitor.visit(unmaskNull(key), value, other);
+      }
+    });
+    b.forEach((key, value) -> {
+      if(!a.containsKey(key)) {
+        visitor.visit(unmaskNull(key), null, value);
+      }
+    });
+  }
+
+  private static Object maskNull(Object key) {
+    return key != null ? key : NULL_KEY;
+  }
+
+  private static Object unmaskNull(Object key) {
+    return key != NULL_KEY ? key : null;
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static int bitpos(int hash, int shift) {
+    return 1 << ((hash >>> shift) & 0x1F);
+  }
+
+  private static Node createNode(Object edit, int shift, Object key1, Object value1, int hash2, Object key2,
+      Object value2) {
+    int hash1 = hash(key1);
+    if(hash1 == hash2) {
+      return new CollisionNode(edit, hash1, new Object[] {key1, value1, key2, value2});
+    }
+    Box box = new Box();
+    return BitmapNode.EMPTY.put(edit, shift, hash1, key1, value1, box).put(edit, shift, hash2, key2, value2, box);
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(size);
+    for(Entry<K, V> entry : entrySet()) {
+      out.writeObject(entry.getKey());
+      out.writeObject(entry.getValue());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    root = BitmapNode.EMPTY;
+    edit = new Object();
+    int count = in.readInt();
+    for(int i = 0; i < count; i++ ) {
+      put((K) in.readObject(), (V) in.readObject());
+    }
+  }
+
+  @FunctionalInterface
+  interface DiffVisitor<K, V> {
+    void visit(K key, V oldValue, V newValue);
+  }
+
+  /**
+   * Receives the previous value of a put or remove operation.
+   */
+  private static final class Box {
+    Object value = NOT_FOUND;
+  }
+
+  /**
+   * A trie node. The array holds key/value pairs, a {@code null} key means the value is a child node.
+   */
+  private abstract static class Node {
+
+    final Object edit;
+
+    Object[] array;
+
+    Node(Object edit, Object[] array) {
+      this.edit = edit;
+      this.array = array;
+    }
+
+    abstract Object find(int shift, int hash, Object key);
+
+    abstract Node put(Object edit, int shift, int hash, Object key, Object value, Box box);
+
+    /**
+     * @return the node without the given key, or {@code null} if the node became empty
+     */
+    abstract Node remove(Object edit, int shift, int hash, Object key, Box box);
+
+    static Object[] removePair(Object[] array, int i) {
+      Object[] result = new Object[array.length - 2];
+      System.arraycopy(array, 0, result, 0, i);
+      System.arraycopy(array, i + 2, result, i, array.length - i - 2);
+      return result;
+    }
+  }
+
+  private static final class BitmapNode extends Node {
+
+    static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+    int bitmap;
+
+    BitmapNode(Object edit, int bitmap, Object[] array) {
+      super(edit, array);
+      this.bitmap = bitmap;
+    }
+
+    int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    Object find(int shift, int hash, Object key) {
+      int bit = bitpos(hash, shift);
+      if((bitmap & bit) == 0) {
+        return NOT_FOUND;
+      }
+      int i = 2 * index(bit);
+      Object k = array[i];
+      Object v = array[i + 1];
+      if(k == null) {
+        return ((Node) v).find(shift + BITS, hash, key);
+      }
+      return key.equals(k) ? v : NOT_FOUND;
+    }
+
+    @Override
+    Node put(Object edit, int shift, int hash, Object key, Object value, Box box) {
+      int bit = bitpos(hash, shift);
+      int i = 2 * index(bit);
+      if((bitmap & bit) == 0) {
+        Object[] result = new Object[array.length + 2];
+        System.arraycopy(array, 0, result, 0, i);
+        result[i] = key;
+        result[i + 1] = value;
+        System.arraycopy(array, i, result, i + 2, array.length - i);
+        if(this.edit == edit) {
+          bitmap |= bit;
+          array = result;
+          return this;
+        }
+        return new BitmapNode(edit, bitmap | bit, result);
+      }
+      Object k = array[i];
+      Object v = array[i + 1];
+      if(k == null) {
+        Node child = ((Node) v).put(edit, shift + BITS, hash, key, value, box);
+        return child == v ? this : editable(edit).set(i + 1, child);
+      }
+      if(key.equals(k)) {
+        box.value = v;
+        return v == value ? this : editable(edit).set(i + 1, value);
+      }
+      return editable(edit).set(i, null).set(i + 1, createNode(edit, shift + BITS, k, v, hash, key, value));
+    }
+
+    @Override
+    Node remove(Object edit, int shift, int hash, Object key, Box box) {
+      int bit = bitpos(hash, shift);
+      if((bitmap & bit) == 0) {
+        return this;
+      }
+      int i = 2 * index(bit);
+      Object k = array[i];
+      Object v = array[i + 1];
+      if(k == null) {
+        Node child = ((Node) v).remove(edit, shift + BITS, hash, key, box);
+        if(child == v) {
+          return this;
+        }
+        if(child != null) {
+          return editable(edit).set(i + 1, child);
+        }
+      } else if(!key.equals(k)) {
+        return this;
+      } else {
+        box.value = v;
+      }
+      if(bitmap == bit) {
+        return null;
+      }
+      if(this.edit == edit) {
+        bitmap ^= bit;
+        array = removePair(array, i);
+        return this;
+      }
+      return new BitmapNode(edit, bitmap ^ bit, removePair(array, i));
+    }
+
+    private BitmapNode editable(Object edit) {
+      return this.edit == edit ? this : new BitmapNode(edit, bitmap, array.clone());
+    }
+
+    private BitmapNode set(int i, Object value) {
+      array[i] = value;
+      return this;
+    }
+  }
+
+  /**
+   * Holds keys with the same hash code.
+   */
+  private static final class CollisionNode extends Node {
+
+    final int hash;
+
+    CollisionNode(Object edit, int hash, Object[] array) {
+      super(edit, array);
+      this.hash = hash;
+    }
+
+    private int indexOf(Object key) {
+      for(int i = 0; i < array.length; i += 2) {
+        if(key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Object find(int shift, int hash, Object key) {
+      int i = hash == this.hash ? indexOf(key) : -1;
+      return i >= 0 ? array[i + 1] : NOT_FOUND;
+    }
+
+    @Override
+    Node put(Object edit, int shift, int hash, Object key, Object value, Box box) {
+      if(hash != this.hash) {
+        // nest this node into a bitmap node that can tell the hashes apart
+        return new BitmapNode(edit, bitpos(this.hash, shift), new Object[] {null, this}).put(edit, shift, hash, key,
+            value, box);
+      }
+      int i = indexOf(key);
+      Object[] result;
+      if(i >= 0) {
+        box.value = array[i + 1];
+        if(array[i + 1] == value) {
+          return this;
+        }
+        result = this.edit == edit ? array : array.clone();
+        result[i + 1] = value;
+      } else {
+        result = new Object[array.length + 2];
+        System.arraycopy(array, 0, result, 0, array.length);
+        result[array.length] = key;
+        result[array.length + 1] = value;
+      }
+      if(this.edit == edit) {
+        array = result;
+        return this;
+      }
+      return new CollisionNode(edit, hash, result);
+    }
+
+    @Override
+    Node remove(Object edit, int shift, int hash, Object key, Box box) {
+      int i = hash == this.hash ? indexOf(key) : -1;
+      if(i < 0) {
+        return this;
+      }
+      box.value = array[i + 1];
+      if(array.length == 2) {
+        return null;
+      }
+      if(this.edit == edit) {
+        array = removePair(array, i);
+        return this;
+      }
+      return new CollisionNode(edit, hash, removePair(array, i));
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+    // bitmap nodes for all 7 hash levels plus a collision node
+    private final Object[][] arrays = new Object[8][];
+
+    private final int[] positions = new int[8];
+
+    private int depth;
+
+    private Entry<K, V> next;
+
+    private Entry<K, V> last;
+
+    EntryIterator() {
+      // iterate a snapshot, later modifications must not change the nodes in place
+      edit = new Object();
+      arrays[0] = root.array;
+      advance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+      while(depth >= 0) {
+        Object[] array = arrays[depth];
+        int i = positions[depth];
+        if(i >= array.length) {
+          depth-- ;
+          continue;
+        }
+        positions[depth] = i + 2;
+        if(array[i] == null) {
+          depth++ ;
+          arrays[depth] = ((Node) array[i + 1]).array;
+          positions[depth] = 0;
+        } else {
+          next = new SimpleImmutableEntry<>((K) unmaskNull(array[i]), (V) array[i + 1]);
+          return;
+        }
+      }
+      next = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if(next == null) {
+        throw new NoSuchElementException();
+      }
+      last = next;
+      advance();
+      return last;
+    }
+
+    @Override
+    public void remove() {
+      if(last == null) {
+        throw new IllegalStateException();
+      }
+      PersistentHashMap.this.remove(last.getKey());
+      last = null;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.IFile;
+
+
+/**
+ * Dependency graph between the projects of a refresh, used to prioritize workspace dependencies. Dependencies of a
+ * project should be resolved before the project itself, otherwise the changed capabilities of the dependency force the
+ * project to be resolved again. The graph is built from versionless keys, so it may contain more edges than necessary,
+ * which only affects the order.
+ * <p>
+ * The order only reduces repeated resolutions of the sequential refresh. Projects are neither resolved concurrently nor
+ * at most once, a project is still resolved again when a dependency resolved after it changes.
+ */
+final class ProjectDependencyGraph {
+
+  /**
+   * Maps each project to the projects it depends on.
+   */
+  private final Map<IFile, Set<IFile>> dependencies = new LinkedHashMap<>();
+
+  /**
+   * @param poms the projects to order
+   * @param provided the capability provided by a project, may return {@code null}
+   * @param required the capabilities required by a project
+   */
+  ProjectDependencyGraph(Collection<IFile> poms, Function<IFile, VersionlessKey> provided,
+      Function<IFile, Collection<VersionlessKey>> required) {
+    Map<VersionlessKey, List<IFile>> providers = new HashMap<>();
+    for(IFile pom : poms) {
+      VersionlessKey key = provided.apply(pom);
+      if(key != null) {
+        providers.computeIfAbsent(key, k -> new ArrayList<>(1)).add(pom);
+      }
+    }
+    for(IFile pom : poms) {
+      Set<IFile> pomDependencies = new LinkedHashSet<>();
+      for(VersionlessKey key : required.apply(pom)) {
+        for(IFile provider : providers.getOrDefault(key, List.of())) {
+          if(!provider.equals(pom)) {
+            pomDependencies.add(provider);
+          }
+        }
+      }
+      dependencies.put(pom, pomDependencies);
+    }
+  }
+
+  /**
+   * Returns the projects with dependencies first, independent projects keep their original order. Projects that are
+   * part of a dependency cycle, or depend on one, are returned last in their original order.
+   */
+  List<IFile> getResolutionOrder() {
+    List<IFile> order = new ArrayList<>();
+    Set<IFile> done = new HashSet<>();
+    Set<IFile> remaining = new LinkedHashSet<>(dependencies.keySet());
+    while(!remaining.isEmpty()) {
+      // projects whose dependencies all come earlier
+      List<IFile> ready = new ArrayList<>();
+      for(IFile pom : remaining) {
+        if(done.containsAll(dependencies.get(pom))) {
+          ready.add(pom);
+        }
+      }
+      if(ready.isEmpty()) {
+        // cycle, leave it to the iterative processing of the refresh
+        order.addAll(remaining);
+        break;
+      }
+      order.addAll(ready);
+      done.addAll(ready);
+      remaining.removeAll(ready);
+    }
+    return order;
+  }
+
+  /**
+   * Returns the number of projects that are resolved before one of their dependencies when processed in the given
+   * order, each of them is likely resolved a second time.
+   */
+  int countOutOfOrder(Collection<IFile> order) {
+    Map<IFile, Integer> positions = new HashMap<>();
+    for(IFile pom : order) {
+      positions.putIfAbsent(pom, positions.size());
+    }
+    int count = 0;
+    for(Map.Entry<IFile, Set<IFile>> entry : dependencies.entrySet()) {
+      Integer position = positions.get(entry.getKey());
+      if(position != null) {
+        for(IFile dependency : entry.getValue()) {
+          Integer dependencyPosition = positions.get(dependency);
+          if(dependencyPosition != null && dependencyPosition > position) {
+            count++ ;
+            break;
+          }
+        }
+      }
+    }
+    return count;
+  }
+}
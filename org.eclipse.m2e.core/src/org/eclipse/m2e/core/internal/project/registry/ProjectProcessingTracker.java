@@ -43,6 +43,10 @@ public class ProjectProcessingTracker {
 
   private int iterations;
 
+  private Set<IFile> allProcessed = new LinkedHashSet<>();
+
+  private int resolutions;
+
   /**
    * @param allProcessedPoms
    */
@@ -103,10 +107,26 @@ public class ProjectProcessingTracker {
    */
   public boolean shouldProcess(IFile pom) {
     if(processed.add(pom)) {
+      allProcessed.add(pom);
+      resolutions++ ;
       return true;
     }
     changedWhileRunning.add(pom);
     return false;
   }
 
+  /**
+   * @return the number of distinct projects processed so far
+   */
+  int getProjectCount() {
+    return allProcessed.size();
+  }
+
+  /**
+   * @return the number of times projects were processed so far, including repeated processing of the same project
+   */
+  int getResolutionCount() {
+    return resolutions;
+  }
+
 }
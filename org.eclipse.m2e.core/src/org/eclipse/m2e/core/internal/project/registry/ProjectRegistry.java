@@ -58,6 +58,10 @@ public class ProjectRegistry extends BasicProjectRegistry implements IProjectReg
     return super.getWorkspaceArtifacts(groupId, artifactId);
   }
 
+  public synchronized boolean isEmpty() {
+    return workspacePoms.isEmpty();
+  }
+
   public synchronized List<MavenProjectChangedEvent> apply(MutableProjectRegistry newState)
       throws StaleMutableProjectRegistryException {
     if(newState.isStale()) {
@@ -65,24 +69,25 @@ public class ProjectRegistry extends BasicProjectRegistry implements IProjectReg
     }
 
     ArrayList<MavenProjectChangedEvent> events = new ArrayList<>();
+    ArrayList<MavenProjectChangedEvent> changes = new ArrayList<>();
 
-    // removed projects
-    for(MavenProjectFacade facade : workspacePoms.values()) {
-      if(!newState.workspacePoms.containsKey(facade.getPom())) {
+    // only projects that differ are visited, unchanged projects are not even read from the workspace state
+    workspacePoms.diff(newState.workspacePoms, (pom, oldRef, newRef) -> {
+      MavenProjectFacade old = oldRef != null ? oldRef.get() : null;
+      if(newRef == null) {
+        // removed project
         MavenProjectChangedEvent event = new MavenProjectChangedEvent( //
-            facade.getPom(), //
+            pom, //
             MavenProjectChangedEvent.KIND_REMOVED, //
             MavenProjectChangedEvent.FLAG_NONE, //
-            facade /*old*/, //
+            old /*old*/, //
             null /*new*/);
         events.add(event);
+        return;
       }
-    }
-
-    // changed and new projects
-    for(MavenProjectFacade facade : newState.workspacePoms.values()) {
-      MavenProjectFacade old = workspacePoms.get(facade.getPom());
-      if(facade != old) { // not the same instance!
+      // changed and new projects
+      MavenProjectFacade facade = newRef.get();
+      if(facade != null && facade != old) { // not the same instance!
         MavenProjectChangedEvent event;
         if(old != null) {
           int flags = hasDependencyChange(old.getPom(), newState) ? MavenProjectChangedEvent.FLAG_DEPENDENCIES
@@ -100,9 +105,10 @@ public class ProjectRegistry extends BasicProjectRegistry implements IProjectReg
               null /*old*/, //
               facade /*new*/);
         }
-        events.add(event);
+        changes.add(event);
       }
-    }
+    });
+    events.addAll(changes);
 
     replaceWith(newState);
 
@@ -111,6 +117,16 @@ public class ProjectRegistry extends BasicProjectRegistry implements IProjectReg
     return events;
   }
 
+  /**
+   * Returns a copy of this registry in constant time, the copy shares its structure with this registry.
+   */
+  synchronized ProjectRegistry copy() {
+    ProjectRegistry copy = new ProjectRegistry();
+    copy.replaceWith(this);
+    copy.version = version;
+    return copy;
+  }
+
   public synchronized int getVersion() {
     return version;
   }
@@ -15,8 +15,11 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,7 +36,15 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -42,6 +53,7 @@ import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -78,6 +90,7 @@ import org.apache.maven.execution.DefaultMavenExecutionResult;
 import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenExecutionResult;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
 import org.apache.maven.model.building.ModelProblem;
@@ -107,6 +120,7 @@ import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetad
 import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
 import org.eclipse.m2e.core.internal.markers.MarkerUtils;
 import org.eclipse.m2e.core.internal.project.ResolverConfigurationIO;
+import org.eclipse.m2e.core.internal.project.registry.RefreshProfile.Phase;
 import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
 import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
@@ -125,6 +139,23 @@ import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
 public class ProjectRegistryManager implements ISaveParticipant {
   static final Logger log = LoggerFactory.getLogger(ProjectRegistryManager.class);
 
+  /**
+   * Delay in milliseconds before the workspace state journal is compacted, so changes of a refresh are compacted at
+   * once.
+   */
+  private static final long STATE_COMPACTION_DELAY = 10_000;
+
+  /**
+   * Number of threads used to read poms during the first phase of a refresh, poms are read by the refreshing thread
+   * only unless configured otherwise.
+   */
+  static final int READ_THREADS = Integer.getInteger("m2e.project.refresh.readThreads", 1);
+
+  /**
+   * File each refresh appends its profile to, see {@link RefreshProfile}.
+   */
+  private static final String PROFILE_FILE = System.getProperty("m2e.project.refresh.profile");
+
   static final String ARTIFACT_TYPE_POM = "pom"; //$NON-NLS-1$
 
   static final String ARTIFACT_TYPE_JAR = "jar"; //$NON-NLS-1$
@@ -149,6 +180,22 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
   private ProjectRegistry projectRegistry;
 
+  /**
+   * Compacts the workspace state journal into a new snapshot in the background.
+   */
+  private final Job stateCompactionJob = Job.createSystem(Messages.ProjectRegistryManager_compactWorkspaceState,
+      monitor -> {
+        if(stateReader != null && projectRegistry != null) {
+          stateReader.writeSnapshot(projectRegistry);
+        }
+      });
+
+  /**
+   * Threads reading poms during the first phase of a refresh, created by the first refresh reading in parallel. Idle
+   * threads terminate after a while, so they are not kept between refreshes.
+   */
+  private ThreadPoolExecutor readExecutor;
+
   @Reference
   IMaven maven;
 
@@ -172,6 +219,8 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
   private final Set<IMavenProjectChangedListener> projectChangeListeners = new LinkedHashSet<>();
 
+  private final List<RefreshProfileListener> refreshProfileListeners = new CopyOnWriteArrayList<>();
+
   private volatile Thread syncRefreshThread;
 
   /**
@@ -192,10 +241,25 @@ public class ProjectRegistryManager implements ISaveParticipant {
     } else {
       state = stateReader.readWorkspaceState(this);
     }
-    this.projectRegistry = (state != null && state.isValid()) ? state : new ProjectRegistry();
+    if(state != null && state.isValid()) {
+      this.projectRegistry = state;
+    } else {
+      this.projectRegistry = new ProjectRegistry();
+    }
 
   }
 
+  @Deactivate
+  void shutdown() {
+    synchronized(this) {
+      if(readExecutor != null) {
+        readExecutor.shutdownNow();
+      }
+    }
+    stopStateCompaction();
+    writeWorkspaceState();
+  }
+
   /**
    * Creates or returns cached MavenProjectFacade for the given project. This method will not block if called from
    * IMavenProjectChangedListener#mavenProjectChanged
@@ -338,6 +402,8 @@ public class ProjectRegistryManager implements ISaveParticipant {
     URLConnectionCaches.assertDisabled();
 
     DependencyResolutionContext context = new DependencyResolutionContext(pomFiles);
+    RefreshProfile profile = isProfilingRefresh() ? new RefreshProfile() : null;
+    context.setProfile(profile);
 
     // safety net -- do not force refresh of the same installed/resolved artifact more than once
     Set<ArtifactKey> installedArtifacts = new HashSet<>();
@@ -376,6 +442,10 @@ public class ProjectRegistryManager implements ISaveParticipant {
     } finally {
       maven.removeLocalRepositoryListener(listener);
       log.debug("Refresh takes {} ms", (System.currentTimeMillis() - start)); //$NON-NLS-1$
+      if(profile != null) {
+        profile.finish();
+        notifyRefreshProfileListeners(profile);
+      }
     }
   }
 
@@ -387,13 +457,18 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
     Map<IFile, Set<Capability>> originalCapabilities = new HashMap<>();
     Map<IFile, Set<RequiredCapability>> originalRequirements = new HashMap<>();
+    Map<IFile, Set<VersionlessKey>> declaredDependencies = new HashMap<>();
 
     // phase 1: build projects without dependencies and populate workspace with known projects
     while(!context.isEmpty()) { // context may be augmented, so we need to keep processing
       List<IFile> pomsForUpdate = calculateFacadesForUpdate(newState, context, allProcessedPoms::add,
           allNewFacades::contains, monitor);
       context.clearErrors(pomsForUpdate);
+      long readStart = System.nanoTime();
       Map<IFile, MavenProjectFacade> newFacades = readMavenProjectFacades(pomsForUpdate, newState, context, monitor);
+      if(context.getProfile() != null) {
+        context.getProfile().addShared(pomsForUpdate, Phase.MODEL_BUILDING, System.nanoTime() - readStart);
+      }
       for(Entry<IFile, MavenProjectFacade> entry : newFacades.entrySet()) {
         IFile pom = entry.getKey();
         MavenProjectFacade newFacade = entry.getValue();
@@ -426,6 +501,15 @@ public class ProjectRegistryManager implements ISaveParticipant {
           DefaultMavenDependencyResolver.addProjectStructureRequirements(requirements, mavenProject);
           Set<RequiredCapability> oldRequirements = newState.setRequirements(pom, requirements);
           originalRequirements.putIfAbsent(pom, oldRequirements);
+
+          // remember declared dependencies to resolve workspace dependencies first in phase 2
+          Set<VersionlessKey> dependencyKeys = new HashSet<>();
+          for(Dependency dependency : mavenProject.getDependencies()) {
+            dependencyKeys.add(MavenCapability.createMavenArtifact(
+                new ArtifactKey(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), null))
+                .getVersionlessKey());
+          }
+          declaredDependencies.put(pom, dependencyKeys);
         }
       }
       allNewFacades.addAll(newFacades.keySet());
@@ -442,9 +526,30 @@ public class ProjectRegistryManager implements ISaveParticipant {
       }
     }
 
-    context.forcePomFiles(allProcessedPoms);
+    context.queuePomFiles(allProcessedPoms);
+
+    // phase 2: resolve project dependencies, workspace dependencies first
+    Set<IFile> phase2Poms = context.getCurrent();
+    ProjectDependencyGraph graph = new ProjectDependencyGraph(phase2Poms, pom -> {
+      MavenProjectFacade facade = newState.getProjectFacade(pom);
+      return facade != null ? MavenCapability.createMavenArtifact(facade.getArtifactKey()).getVersionlessKey() : null;
+    }, pom -> {
+      Set<VersionlessKey> keys = new HashSet<>(declaredDependencies.getOrDefault(pom, Set.of()));
+      Set<RequiredCapability> requirements = originalRequirements.containsKey(pom) ? originalRequirements.get(pom)
+          : newState.getProjectRequirements(pom);
+      if(requirements != null) {
+        for(RequiredCapability requirement : requirements) {
+          if(MavenCapability.NS_MAVEN_ARTIFACT.equals(requirement.getVersionlessKey().namespace())) {
+            keys.add(requirement.getVersionlessKey());
+          }
+        }
+      }
+      return keys;
+    });
+    List<IFile> order = graph.getResolutionOrder();
+    int avoidedResolutions = graph.countOutOfOrder(phase2Poms) - graph.countOutOfOrder(order);
+    context.prioritize(order);
 
-    // phase 2: resolve project dependencies
     ProjectProcessingTracker tracker = new ProjectProcessingTracker(context);
     do {
       while(!context.isEmpty()) {
@@ -467,7 +572,9 @@ public class ProjectRegistryManager implements ISaveParticipant {
             MavenProject mavenProject = getMavenProject(newFacade);
             if(!allProcessedPoms.contains(newFacade.getPom())) {
               // facade from workspace state that has not been refreshed yet
+              long readStart = System.nanoTime();
               newFacade = readMavenProjectFacades(Collections.singletonList(pom), newState, context, monitor).get(pom);
+              profile(context, pom, Phase.MODEL_BUILDING, readStart);
               if ( newFacade == null ) {
                 // https://github.com/eclipse-m2e/m2e-core/issues/1605
                 // projects that fail even minimal validation, e.g. unresolvable parent pom, cannot be read
@@ -499,6 +606,8 @@ public class ProjectRegistryManager implements ISaveParticipant {
         }
       }
     } while(tracker.needsImprovement());
+    log.debug("Resolved {} projects {} times, dependency order avoided about {} repeated resolutions", //$NON-NLS-1$
+        tracker.getProjectCount(), tracker.getResolutionCount(), avoidedResolutions);
   }
 
   private List<IFile> calculateFacadesForUpdate(MutableProjectRegistry registry, DependencyResolutionContext context,
@@ -524,7 +633,10 @@ public class ProjectRegistryManager implements ISaveParticipant {
       monitor.subTask(NLS.bind(Messages.ProjectRegistryManager_task_project, pom.getProject().getName()));
       MavenProjectFacade oldFacade = registry.getProjectFacade(pom);
 
-      context.forcePomFiles(flushCaches(oldFacade, isForceDependencyUpdate()));
+      long flushStart = System.nanoTime();
+      Set<IFile> affectedPoms = flushCaches(oldFacade, isForceDependencyUpdate());
+      profile(context, pom, Phase.CACHE_FLUSH, flushStart);
+      context.forcePomFiles(affectedPoms);
       if(oldFacade != null) {
         putMavenProject(oldFacade, null); // maintain maven project cache
       }
@@ -564,7 +676,9 @@ public class ProjectRegistryManager implements ISaveParticipant {
     if(newFacade != null) {
       monitor.subTask(NLS.bind(Messages.ProjectRegistryManager_task_project, newFacade.getProject().getName()));
 
+      long mappingStart = System.nanoTime();
       setupLifecycleMapping(monitor, newFacade);
+      profile(context, pom, Phase.LIFECYCLE_MAPPING, mappingStart);
 
       capabilities = new LinkedHashSet<>();
       requirements = new LinkedHashSet<>();
@@ -580,10 +694,12 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
       AbstractMavenDependencyResolver resolver = getMavenDependencyResolver(newFacade, monitor);
       resolver.setContextProjectRegistry(newState);
+      long resolutionStart = System.nanoTime();
       try {
         resolver.resolveProjectDependencies(newFacade, capabilities, requirements, monitor);
       } finally {
         resolver.setContextProjectRegistry(null);
+        profile(context, pom, Phase.DEPENDENCY_RESOLUTION, resolutionStart);
       }
 
       newState.setProject(pom, newFacade);
@@ -643,6 +759,13 @@ public class ProjectRegistryManager implements ISaveParticipant {
     }
   }
 
+  private static void profile(DependencyResolutionContext context, IFile pom, Phase phase, long start) {
+    RefreshProfile profile = context.getProfile();
+    if(profile != null) {
+      profile.add(pom, phase, System.nanoTime() - start);
+    }
+  }
+
   private void setupLifecycleMapping(IProgressMonitor monitor, MavenProjectFacade newFacade) throws CoreException {
     LifecycleMappingResult mappingResult = LifecycleMappingFactory.calculateLifecycleMapping(getMavenProject(newFacade),
         newFacade.getMojoExecutions(), newFacade.getConfiguration().getLifecycleMappingId(), monitor);
@@ -755,6 +878,10 @@ public class ProjectRegistryManager implements ISaveParticipant {
       return resolverConfiguration;
     }, LinkedHashMap::new, Collectors.toCollection(LinkedHashSet::new)));
 
+    Map<File, MavenExecutionResult> preread = READ_THREADS > 1 && poms.size() > 1
+        ? readMavenProjectsInParallel(groupsToImport, state)
+        : Map.of();
+
     Map<IFile, MavenProjectFacade> result = new LinkedHashMap<>(poms.size(), 1.f);
     for(Entry<IProjectConfiguration, Collection<IFile>> entry : groupsToImport.entrySet()) {
       IProjectConfiguration resolverConfiguration = entry.getKey();
@@ -770,8 +897,19 @@ public class ProjectRegistryManager implements ISaveParticipant {
           Map<IFile, File> pomFiles = fileList.stream().filter(IFile::isAccessible)
               .collect(Collectors.toMap(Function.identity(), ProjectRegistryManager::toJavaIoFile));
           ProjectBuildingRequest buildingRequest = ctx.newProjectBuildingRequest();
-          Map<File, MavenExecutionResult> mavenResults = IMavenToolbox.of(ctx).readMavenProjects(pomFiles.values(),
-              buildingRequest);
+          Map<File, MavenExecutionResult> mavenResults = new HashMap<>(pomFiles.size(), 1.f);
+          List<File> toRead = new ArrayList<>();
+          for(File file : pomFiles.values()) {
+            MavenExecutionResult prereadResult = preread.get(file);
+            if(prereadResult != null) {
+              mavenResults.put(file, prereadResult);
+            } else {
+              toRead.add(file);
+            }
+          }
+          if(!toRead.isEmpty()) {
+            mavenResults.putAll(IMavenToolbox.of(ctx).readMavenProjects(toRead, buildingRequest));
+          }
           Map<IFile, MavenProjectFacade> facades = new HashMap<>(mavenResults.size(), 1.f);
           Map<MavenProject, MavenProjectFacade> facadeMap = new HashMap<>();
           for(var fileEntry : pomFiles.entrySet()) {
@@ -818,6 +956,119 @@ public class ProjectRegistryManager implements ISaveParticipant {
     return result;
   }
 
+  /**
+   * Reads the given poms on up to {@link #READ_THREADS} threads. Each thread reads complete parent chains with its own
+   * execution context, the execution requests are still created on the calling thread to inherit the configuration of
+   * an enclosing execution context. Poms that could not be read are missing from the result and have to be read by the
+   * caller.
+   */
+  private Map<File, MavenExecutionResult> readMavenProjectsInParallel(
+      Map<IProjectConfiguration, Collection<IFile>> groups, IProjectRegistry state) {
+    List<Callable<Map<File, MavenExecutionResult>>> tasks = new ArrayList<>();
+    for(Entry<IProjectConfiguration, Collection<IFile>> entry : groups.entrySet()) {
+      IProjectConfiguration resolverConfiguration = entry.getKey();
+      File moduleProjectDirectory = resolverConfiguration.getMultiModuleProjectDirectory();
+      for(List<IFile> batch : partitionByParentChain(entry.getValue(), READ_THREADS)) {
+        MavenExecutionContext context = new MavenExecutionContext(
+            containerManager.getComponentLookup(moduleProjectDirectory), moduleProjectDirectory, moduleProjectDirectory,
+            null);
+        try {
+          configureExecutionRequest(context.getExecutionRequest(), state, batch.size() == 1 ? batch.get(0) : null,
+              resolverConfiguration);
+        } catch(CoreException ex) {
+          log.debug("Can not read {} in parallel", batch, ex); //$NON-NLS-1$
+          continue;
+        }
+        List<File> pomFiles = batch.stream().map(ProjectRegistryManager::toJavaIoFile).toList();
+        tasks.add(() -> context.execute(
+            (ctx, mon) -> IMavenToolbox.of(ctx).readMavenProjects(pomFiles, ctx.newProjectBuildingRequest()), null));
+      }
+    }
+    if(tasks.size() <= 1) {
+      return Map.of(); // nothing to gain, read in the calling thread
+    }
+    Map<File, MavenExecutionResult> results = new HashMap<>();
+    try {
+      // invokeAll cancels the remaining tasks if it is interrupted
+      for(Future<Map<File, MavenExecutionResult>> future : getReadExecutor().invokeAll(tasks)) {
+        try {
+          results.putAll(future.get());
+        } catch(ExecutionException ex) {
+          log.debug("Reading projects in parallel failed", ex.getCause()); //$NON-NLS-1$
+        }
+      }
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new OperationCanceledException();
+    }
+    return results;
+  }
+
+  private synchronized ExecutorService getReadExecutor() {
+    if(readExecutor == null) {
+      readExecutor = new ThreadPoolExecutor(READ_THREADS, READ_THREADS, 60L, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "m2e project reader"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+          });
+      readExecutor.allowCoreThreadTimeOut(true);
+    }
+    return readExecutor;
+  }
+
+  /**
+   * Partitions the given poms into at most the given number of batches, keeping parent chains together. The parent of a
+   * pom is assumed to be the pom in the parent directory, as this is Maven's default parent relative path. The top-most
+   * pom of each tree is not part of the chains below it, otherwise all modules of a reactor would end up in one chain.
+   * Modules read without their parent still find it through the relative path or in a later pass of the refresh.
+   */
+  static List<List<IFile>> partitionByParentChain(Collection<IFile> poms, int maxBatches) {
+    Map<File, IFile> byLocation = new HashMap<>();
+    for(IFile pom : poms) {
+      File file = toJavaIoFile(pom);
+      if(file != null) {
+        byLocation.put(file, pom);
+      }
+    }
+    Map<IFile, List<IFile>> chains = new LinkedHashMap<>();
+    for(Entry<File, IFile> entry : byLocation.entrySet()) {
+      File head = entry.getKey();
+      File parent = getDefaultParent(head, byLocation);
+      while(parent != null) {
+        File grandParent = getDefaultParent(parent, byLocation);
+        if(grandParent == null) {
+          break; // parent is the top-most pom
+        }
+        head = parent;
+        parent = grandParent;
+      }
+      chains.computeIfAbsent(byLocation.get(head), h -> new ArrayList<>()).add(entry.getValue());
+    }
+
+    List<List<IFile>> sorted = new ArrayList<>(chains.values());
+    sorted.sort((c1, c2) -> Integer.compare(c2.size(), c1.size()));
+    List<List<IFile>> batches = new ArrayList<>();
+    for(List<IFile> chain : sorted) {
+      if(batches.size() < maxBatches) {
+        batches.add(new ArrayList<>(chain));
+      } else {
+        // largest chains first, always into the currently smallest batch
+        batches.stream().min((b1, b2) -> Integer.compare(b1.size(), b2.size())).get().addAll(chain);
+      }
+    }
+    return batches;
+  }
+
+  private static File getDefaultParent(File pom, Map<File, IFile> poms) {
+    File directory = pom.getParentFile();
+    if(directory == null || directory.getParentFile() == null) {
+      return null;
+    }
+    File parent = new File(directory.getParentFile(), IMavenConstants.POM_FILE_NAME);
+    return poms.containsKey(parent) ? parent : null;
+  }
+
   private void executeParticipants(IMavenExecutionContext ctx, List<MavenProject> projects,
       Set<AbstractMavenLifecycleParticipant> executed, ProjectBuildingRequest buildingRequest) throws CoreException {
     Collection<AbstractMavenLifecycleParticipant> participants = ctx.getComponentLookup()
@@ -886,6 +1137,36 @@ public class ProjectRegistryManager implements ISaveParticipant {
     }
   }
 
+  @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+  public void addRefreshProfileListener(RefreshProfileListener listener) {
+    refreshProfileListeners.add(listener);
+  }
+
+  public void removeRefreshProfileListener(RefreshProfileListener listener) {
+    refreshProfileListeners.remove(listener);
+  }
+
+  private boolean isProfilingRefresh() {
+    return PROFILE_FILE != null || !refreshProfileListeners.isEmpty();
+  }
+
+  private void notifyRefreshProfileListeners(RefreshProfile profile) {
+    if(PROFILE_FILE != null) {
+      try {
+        profile.appendTo(Path.of(PROFILE_FILE));
+      } catch(IOException | InvalidPathException ex) {
+        log.warn("Can't write refresh profile to {}", PROFILE_FILE, ex);
+      }
+    }
+    for(RefreshProfileListener listener : refreshProfileListeners) {
+      try {
+        listener.refreshProfiled(profile);
+      } catch(RuntimeException ex) {
+        log.error("Refresh profile listener failed", ex);
+      }
+    }
+  }
+
   public void notifyProjectChangeListeners(List<MavenProjectChangedEvent> events, IProgressMonitor monitor) {
     if(!events.isEmpty()) {
       List<IMavenProjectChangedListener> listeners = new ArrayList<>();
@@ -957,6 +1238,13 @@ public class ProjectRegistryManager implements ISaveParticipant {
     return projectRegistry.getProjects();
   }
 
+  /**
+   * @return {@code true} if no Maven project is known, this does not read any facade from the workspace state
+   */
+  boolean isEmpty() {
+    return projectRegistry.isEmpty();
+  }
+
   public IMavenProjectFacade getProject(IProject project) {
     return projectRegistry.getProjectFacade(getPom(project));
   }
@@ -1042,13 +1330,37 @@ public class ProjectRegistryManager implements ISaveParticipant {
    *           been created
    */
   void applyMutableProjectRegistry(MutableProjectRegistry newState, IProgressMonitor monitor) {
-    List<MavenProjectChangedEvent> events = projectRegistry.apply(newState);
-    //stateReader.writeWorkspaceState(projectRegistry);
+    ProjectRegistry previous;
+    ProjectRegistry current;
+    List<MavenProjectChangedEvent> events;
+    synchronized(projectRegistry) {
+      previous = projectRegistry.copy();
+      events = projectRegistry.apply(newState);
+      current = projectRegistry.copy();
+    }
+    if(stateReader.appendDelta(previous, current) && stateCompactionJob.getState() == Job.NONE) {
+      // a pending compaction writes the changes of this apply too, rescheduling it would postpone it on every apply
+      stateCompactionJob.schedule(STATE_COMPACTION_DELAY);
+    }
     notifyProjectChangeListeners(events, monitor);
   }
 
+  /**
+   * Cancels a scheduled compaction of the workspace state and waits for a running one, so the state location is not
+   * written concurrently with or after the final state.
+   */
+  private void stopStateCompaction() {
+    stateCompactionJob.cancel();
+    try {
+      stateCompactionJob.join();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   public void writeWorkspaceState() {
     if(stateReader != null && projectRegistry != null) {
+      // unchanged registries are not written, this also keeps facades read from the workspace state unmaterialized
       stateReader.writeWorkspaceState(projectRegistry);
     }
   }
@@ -1200,6 +1512,9 @@ public class ProjectRegistryManager implements ISaveParticipant {
 
   @Override
   public void saving(ISaveContext context) {
+    if(context.getKind() == ISaveContext.FULL_SAVE) {
+      stopStateCompaction();
+    }
     writeWorkspaceState();
   }
 }
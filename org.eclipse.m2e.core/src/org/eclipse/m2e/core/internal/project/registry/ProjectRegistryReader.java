@@ -13,35 +13,44 @@
 
 package org.eclipse.m2e.core.internal.project.registry;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
-import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
-import org.osgi.framework.FrameworkUtil;
-import org.osgi.framework.Version;
-import org.osgi.framework.VersionRange;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.IWorkspaceRoot;
-import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Platform;
 
+import org.eclipse.m2e.core.internal.project.registry.LazyFacadeMap.FacadeRef;
+
 
 /**
- * Workspace state reader
+ * Workspace state reader. The state is stored as a snapshot of the whole registry and a journal of the changes applied
+ * to the registry since the snapshot was written, so saving the workspace only needs to write the registry when the
+ * journal is not usable. The snapshot and the journal carry a generation, a journal is only replayed on top of the
+ * snapshot of the same generation.
  *
  * @author Eugene Kuleshov
  */
@@ -49,10 +58,46 @@ import org.eclipse.core.runtime.Platform;
 public class ProjectRegistryReader {
   private static final Logger log = LoggerFactory.getLogger(ProjectRegistryReader.class);
 
-  private static final String WORKSPACE_STATE = "workspaceState.ser"; //$NON-NLS-1$
+  private static final String WORKSPACE_STATE = "workspaceState.dat"; //$NON-NLS-1$
+
+  private static final String WORKSPACE_STATE_JOURNAL = "workspaceState.journal"; //$NON-NLS-1$
+
+  /**
+   * Java serialized state written by older versions, it is discarded and the workspace is refreshed instead.
+   */
+  private static final String LEGACY_WORKSPACE_STATE = "workspaceState.ser"; //$NON-NLS-1$
+
+  static final int JOURNAL_MAGIC = 0x4D32_574A; // "M2WJ"
+
+  private static final int JOURNAL_HEADER_SIZE = 16;
+
+  /**
+   * Size of the journal in bytes above which it is compacted into a new snapshot.
+   */
+  static final long MAX_JOURNAL_SIZE = Long.getLong("m2e.workspaceState.maxJournalSize", 4L * 1024 * 1024);
 
   private File stateFile;
 
+  private File journalFile;
+
+  private File legacyStateFile;
+
+  /**
+   * Generation of the current snapshot and journal.
+   */
+  private long generation;
+
+  /**
+   * Registry version the snapshot and the journal are up to date with, or {@code -1} if the registry has to be
+   * written to a new snapshot.
+   */
+  private int persistedVersion = -1;
+
+  /**
+   * Deltas appended while a snapshot is written, they are added to the journal of the new snapshot once it is written.
+   */
+  private List<Delta> pendingDeltas;
+
   @Activate
   void init(BundleContext bundleContext) {
     IPath result = Platform.getStateLocation(bundleContext.getBundle());
@@ -62,12 +107,37 @@ public class ProjectRegistryReader {
 
   public void setStateLocation(File bundleStateLocation) {
     this.stateFile = new File(bundleStateLocation, WORKSPACE_STATE);
+    this.journalFile = new File(bundleStateLocation, WORKSPACE_STATE_JOURNAL);
+    this.legacyStateFile = new File(bundleStateLocation, LEGACY_WORKSPACE_STATE);
+  }
+
+  File getStateFile() {
+    return stateFile;
   }
 
+  /**
+   * Reads the workspace state and replays its journal, facades are only read when they are first requested from the
+   * returned registry.
+   */
   public ProjectRegistry readWorkspaceState(final ProjectRegistryManager managerImpl) {
+    if(legacyStateFile.isFile() && !legacyStateFile.delete()) {
+      log.warn("Can't delete legacy workspace state {}", legacyStateFile);
+    }
     if(stateFile.exists()) {
-      try (ObjectInputStream is = createObjectInputStream(managerImpl)) {
-        return (ProjectRegistry) is.readObject();
+      try {
+        WorkspaceStateInput in = WorkspaceStateInput.open(Files.readAllBytes(stateFile.toPath()));
+        if(in == null) {
+          log.info("Discarding workspace state {} written in an unsupported format", stateFile);
+          return null;
+        }
+        long stateGeneration = in.readLong();
+        ProjectRegistry state = readRegistry(in, managerImpl);
+        boolean journalComplete = replayJournal(state, stateGeneration, managerImpl);
+        synchronized(this) {
+          generation = stateGeneration;
+          persistedVersion = journalComplete && state.isValid() ? state.getVersion() : -1;
+        }
+        return state;
       } catch(Exception ex) {
         log.error("Can't read workspace state", ex);
       }
@@ -75,138 +145,442 @@ public class ProjectRegistryReader {
     return null;
   }
 
-  private ObjectInputStream createObjectInputStream(ProjectRegistryManager managerImpl) throws IOException {
-    return new ObjectInputStream(new BufferedInputStream(new FileInputStream(stateFile))) {
-      {
-        enableResolveObject(true);
-      }
-
-      @Override
-      protected Object resolveObject(Object o) throws IOException {
-        if(o instanceof IPathReplace pathReplace) {
-          return pathReplace.getPath();
-        } else if(o instanceof IFileReplace fileReplace) {
-          return fileReplace.getFile();
-        } else if(o instanceof MavenProjectManagerImplReplace) {
-          return managerImpl;
+  /**
+   * Applies all complete deltas of the journal to the given state.
+   *
+   * @return {@code true} if the journal belongs to the state and was read completely, more deltas can be appended
+   */
+  private boolean replayJournal(ProjectRegistry state, long stateGeneration, ProjectRegistryManager manager)
+      throws IOException {
+    if(!journalFile.isFile()) {
+      return false;
+    }
+    byte[] journal = Files.readAllBytes(journalFile.toPath());
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(journal));
+    if(journal.length < JOURNAL_HEADER_SIZE || in.readInt() != JOURNAL_MAGIC
+        || in.readInt() != WorkspaceStateOutput.FORMAT_VERSION || in.readLong() != stateGeneration) {
+      log.debug("Ignoring workspace state journal {} of an other snapshot", journalFile);
+      return false;
+    }
+    int deltas = 0;
+    boolean complete = true;
+    while(in.available() > 0) {
+      List<Runnable> changes;
+      try {
+        int length = in.readInt();
+        if(length < 0 || length > in.available()) {
+          throw new EOFException();
         }
-        return super.resolveObject(o);
+        byte[] delta = new byte[length];
+        in.readFully(delta);
+        WorkspaceStateInput deltaIn = WorkspaceStateInput.open(delta);
+        if(deltaIn == null) {
+          throw new IOException("Malformed workspace state delta"); //$NON-NLS-1$
+        }
+        changes = readDelta(state, deltaIn, manager);
+      } catch(IOException ex) {
+        // most likely the last delta was not written completely
+        log.warn("Ignoring incomplete workspace state journal entry after {} deltas", deltas, ex);
+        complete = false;
+        break;
       }
+      changes.forEach(Runnable::run);
+      deltas++ ;
+    }
+    if(deltas > 0) {
+      state.buildIndexes();
+    }
+    log.debug("Replayed {} workspace state deltas from {}", deltas, journalFile);
+    return complete;
+  }
 
-      @Override
-      protected Class<?> resolveClass(java.io.ObjectStreamClass desc) throws IOException, ClassNotFoundException {
-        String symbolicName = (String) readObject();
-        if(symbolicName == null) {
-          return super.resolveClass(desc);
-        }
-        String versionStr = (String) readObject();
-        Version version = Version.parseVersion(versionStr);
-        VersionRange range = new VersionRange(VersionRange.LEFT_CLOSED, version, version, VersionRange.RIGHT_CLOSED);
-        Bundle[] bundles = Platform.getBundles(symbolicName, range.toString());
-        if(bundles == null || bundles.length != 1) {
-          throw new ClassNotFoundException("Could not find bundle " + symbolicName + "/" + version //$NON-NLS-1$ //$NON-NLS-2$
-              + " required to load class " + desc.getName()); //$NON-NLS-1$
-        }
-        return bundles[0].loadClass(desc.getName());
+  /**
+   * Writes the workspace state to a new snapshot, unless the snapshot and its journal already contain the current
+   * state. The registry is only locked to take a copy of it.
+   *
+   * @return {@code true} if the state was written successfully
+   */
+  public boolean writeWorkspaceState(ProjectRegistry state) {
+    synchronized(this) {
+      if(persistedVersion == state.getVersion() && pendingDeltas == null) {
+        return true;
       }
-    };
+    }
+    return writeSnapshot(state);
   }
 
-  public void writeWorkspaceState(ProjectRegistry state) {
-    try (ObjectOutputStream os = createObjectOutputStream()) {
-      synchronized(state) { // see MNGECLIPSE-860
-        os.writeObject(state);
+  /**
+   * Writes the whole registry to a new snapshot and starts a new empty journal for it.
+   *
+   * @return {@code true} if the state was written successfully, {@code false} if it failed or a snapshot is already
+   *         being written
+   */
+  public boolean writeSnapshot(ProjectRegistry state) {
+    ProjectRegistry copy;
+    long snapshotGeneration;
+    synchronized(this) {
+      if(pendingDeltas != null) {
+        return false;
+      }
+      pendingDeltas = new ArrayList<>();
+      copy = state.copy();
+      snapshotGeneration = Math.max(generation + 1, System.currentTimeMillis());
+    }
+    try {
+      WorkspaceStateOutput out = new WorkspaceStateOutput();
+      out.writeLong(snapshotGeneration);
+      writeRegistry(copy, out);
+      File tempFile = new File(stateFile.getParentFile(), stateFile.getName() + ".tmp"); //$NON-NLS-1$
+      try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+        out.writeTo(os);
       }
+      synchronized(this) {
+        // a crash after the move leaves the old journal of the previous generation, which is ignored
+        Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        generation = snapshotGeneration;
+        persistedVersion = -1;
+        try (DataOutputStream os = new DataOutputStream(new FileOutputStream(journalFile))) {
+          os.writeInt(JOURNAL_MAGIC);
+          os.writeInt(WorkspaceStateOutput.FORMAT_VERSION);
+          os.writeLong(snapshotGeneration);
+        }
+        persistedVersion = copy.getVersion();
+      }
+      return true;
     } catch(Exception ex) {
       log.error("Can't write workspace state", ex);
+      return false;
+    } finally {
+      synchronized(this) {
+        List<Delta> deltas = pendingDeltas;
+        pendingDeltas = null;
+        for(Delta delta : deltas) {
+          // deltas already contained in the snapshot are skipped
+          appendToJournal(delta);
+        }
+      }
     }
   }
 
-  private ObjectOutputStream createObjectOutputStream() throws IOException {
-    ClassLoader thisClassloader = getClass().getClassLoader();
-    return new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(stateFile))) {
-      {
-        enableReplaceObject(true);
+  /**
+   * Appends the changes between two versions of the registry to the journal. The journal is only appended to if it is
+   * up to date with the previous version, otherwise the changes are written with the next snapshot.
+   *
+   * @return {@code true} if a new snapshot should be written because the journal became too large or can not be
+   *         appended to
+   */
+  public boolean appendDelta(ProjectRegistry previous, ProjectRegistry current) {
+    Delta delta;
+    try {
+      WorkspaceStateOutput out = new WorkspaceStateOutput();
+      writeDelta(previous, current, out);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      out.writeTo(bytes);
+      delta = new Delta(previous.getVersion(), current.getVersion(), bytes.toByteArray());
+    } catch(IOException ex) {
+      log.error("Can't write workspace state delta", ex);
+      synchronized(this) {
+        persistedVersion = -1;
       }
-
-      @Override
-      protected Object replaceObject(Object o) throws IOException {
-        if(o instanceof IPath path) {
-          return new IPathReplace(path);
-        } else if(o instanceof IFile file) {
-          return new IFileReplace(file);
-        } else if(o instanceof ProjectRegistryManager) {
-          return new MavenProjectManagerImplReplace();
-        }
-        return super.replaceObject(o);
+      return true;
+    }
+    synchronized(this) {
+      if(pendingDeltas != null) {
+        pendingDeltas.add(delta);
+        return false;
       }
+      return !appendToJournal(delta) || journalFile.length() > MAX_JOURNAL_SIZE;
+    }
+  }
 
-      @Override
-      protected void annotateClass(Class<?> cl) throws IOException {
-        // if the class is visible through this classloader, assume it will be during reading stream back
-        try {
-          Class<?> target = cl;
-          while(target.isArray()) {
-            target = target.getComponentType();
-          }
-
-          if(target.isPrimitive() || target.equals(thisClassloader.loadClass(target.getName()))) {
-            writeObject(null); // TODO is there a better way?
-            return;
-          }
-        } catch(ClassNotFoundException ex) {
-          // fall through
-        }
+  /**
+   * @return {@code true} if the journal is up to date with the new version of the delta
+   */
+  private boolean appendToJournal(Delta delta) {
+    if(persistedVersion < 0 || delta.fromVersion() != persistedVersion) {
+      return persistedVersion >= 0 && delta.toVersion() <= persistedVersion;
+    }
+    persistedVersion = -1;
+    try (DataOutputStream os = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(journalFile, true), delta.data().length + 4))) {
+      os.writeInt(delta.data().length);
+      os.write(delta.data());
+    } catch(IOException ex) {
+      log.error("Can't append to workspace state journal", ex);
+      return false;
+    }
+    persistedVersion = delta.toVersion();
+    return true;
+  }
 
-        // foreign class
-        Bundle bundle = FrameworkUtil.getBundle(cl);
-        if(bundle != null) {
-          writeObject(bundle.getSymbolicName());
-          writeObject(bundle.getVersion().toString());
-        }
+  static void writeRegistry(BasicProjectRegistry state, WorkspaceStateOutput out) throws IOException {
+    // facades that could not be read from the previous workspace state are null
+    List<MavenProjectFacade> facades = state.getProjects();
+    out.writeSize(facades);
+    for(MavenProjectFacade facade : facades) {
+      out.writeFile(facade.getPom());
+      writeFacade(facade, out);
+    }
+    writeMap(state.workspaceArtifacts, out, WorkspaceStateOutput::writeArtifactKey, WorkspaceStateOutput::writeFiles);
+    writeMap(state.projectCapabilities, out, WorkspaceStateOutput::writeFile, ProjectRegistryReader::writeCapabilities);
+    writeMap(state.projectRequirements, out, WorkspaceStateOutput::writeFile,
+        ProjectRegistryReader::writeRequirements);
+    writeMap(state.requiredCapabilities, out, ProjectRegistryReader::writeVersionlessKey,
+        ProjectRegistryReader::writeRequiringPoms);
+  }
+
+  static ProjectRegistry readRegistry(WorkspaceStateInput in, ProjectRegistryManager manager) throws IOException {
+    ProjectRegistry state = new ProjectRegistry();
+
+    int size = in.readSize();
+    for(int i = 0; i < size; i++ ) {
+      IFile pom = in.readFile();
+      readFacadeEntry(pom, in, manager).run(state);
+    }
+    readMap(state.workspaceArtifacts, in, WorkspaceStateInput::readArtifactKey, WorkspaceStateInput::readFiles);
+    readMap(state.projectCapabilities, in, WorkspaceStateInput::readFile, ProjectRegistryReader::readCapabilities);
+    readMap(state.projectRequirements, in, WorkspaceStateInput::readFile, ProjectRegistryReader::readRequirements);
+    readMap(state.requiredCapabilities, in, ProjectRegistryReader::readVersionlessKey,
+        ProjectRegistryReader::readRequiringPoms);
+    state.buildIndexes();
+    return state;
+  }
 
-        // TODO this will likely fail during desirialization
+  /**
+   * Writes all entries that differ between the two registries, in the same order as {@link #writeRegistry}.
+   */
+  static void writeDelta(BasicProjectRegistry previous, BasicProjectRegistry current, WorkspaceStateOutput out)
+      throws IOException {
+    Map<IFile, FacadeRef> facades = new LinkedHashMap<>();
+    previous.workspacePoms.diff(current.workspacePoms, (pom, oldRef, newRef) -> facades.put(pom, newRef));
+    out.writeVarInt(facades.size());
+    for(Entry<IFile, FacadeRef> entry : facades.entrySet()) {
+      MavenProjectFacade facade = entry.getValue() != null ? entry.getValue().get() : null;
+      out.writeFile(entry.getKey());
+      out.writeBoolean(facade != null);
+      if(facade != null) {
+        writeFacade(facade, out);
       }
-    };
+    }
+    writeChanges(previous.workspaceArtifacts, current.workspaceArtifacts, out, WorkspaceStateOutput::writeArtifactKey,
+        WorkspaceStateOutput::writeFiles);
+    writeChanges(previous.projectCapabilities, current.projectCapabilities, out, WorkspaceStateOutput::writeFile,
+        ProjectRegistryReader::writeCapabilities);
+    writeChanges(previous.projectRequirements, current.projectRequirements, out, WorkspaceStateOutput::writeFile,
+        ProjectRegistryReader::writeRequirements);
+    writeChanges(previous.requiredCapabilities, current.requiredCapabilities, out,
+        ProjectRegistryReader::writeVersionlessKey, ProjectRegistryReader::writeRequiringPoms);
   }
 
   /**
-   * IPath replacement used for object serialization
+   * Reads a delta written by {@link #writeDelta}, the changes are returned instead of being applied so an incomplete
+   * delta does not modify the registry.
    */
-  private static final class IPathReplace implements Serializable {
-    private static final long serialVersionUID = -2361259525684491181L;
+  static List<Runnable> readDelta(BasicProjectRegistry state, WorkspaceStateInput in, ProjectRegistryManager manager)
+      throws IOException {
+    List<Runnable> changes = new ArrayList<>();
+    int size = in.readVarInt();
+    for(int i = 0; i < size; i++ ) {
+      IFile pom = in.readFile();
+      if(in.readBoolean()) {
+        FacadeLoader loader = readFacadeEntry(pom, in, manager);
+        changes.add(() -> loader.run(state));
+      } else {
+        changes.add(() -> state.workspacePoms.removeRef(pom));
+      }
+    }
+    readChanges(state.workspaceArtifacts, in, changes, WorkspaceStateInput::readArtifactKey,
+        WorkspaceStateInput::readFiles);
+    readChanges(state.projectCapabilities, in, changes, WorkspaceStateInput::readFile,
+        ProjectRegistryReader::readCapabilities);
+    readChanges(state.projectRequirements, in, changes, WorkspaceStateInput::readFile,
+        ProjectRegistryReader::readRequirements);
+    readChanges(state.requiredCapabilities, in, changes, ProjectRegistryReader::readVersionlessKey,
+        ProjectRegistryReader::readRequiringPoms);
+    return changes;
+  }
+
+  private static <K, V> void writeMap(Map<K, V> map, WorkspaceStateOutput out, ValueWriter<K> keyWriter,
+      ValueWriter<V> valueWriter) throws IOException {
+    out.writeSize(map);
+    for(Entry<K, V> entry : map.entrySet()) {
+      keyWriter.write(out, entry.getKey());
+      valueWriter.write(out, entry.getValue());
+    }
+  }
 
-    private final String path;
+  private static <K, V> void readMap(Map<K, V> map, WorkspaceStateInput in, ValueReader<K> keyReader,
+      ValueReader<V> valueReader) throws IOException {
+    int size = in.readSize();
+    for(int i = 0; i < size; i++ ) {
+      map.put(keyReader.read(in), valueReader.read(in));
+    }
+  }
 
-    public IPathReplace(IPath path) {
-      this.path = path.toPortableString();
+  private static <K, V> void writeChanges(PersistentHashMap<K, V> previous, PersistentHashMap<K, V> current,
+      WorkspaceStateOutput out, ValueWriter<K> keyWriter, ValueWriter<V> valueWriter) throws IOException {
+    Map<K, V> changes = new LinkedHashMap<>();
+    Set<K> removed = new LinkedHashSet<>();
+    previous.diff(current, (key, oldValue, newValue) -> {
+      if(newValue != null || current.containsKey(key)) {
+        changes.put(key, newValue);
+      } else {
+        removed.add(key);
+      }
+    });
+    out.writeVarInt(changes.size() + removed.size());
+    for(Entry<K, V> entry : changes.entrySet()) {
+      keyWriter.write(out, entry.getKey());
+      out.writeBoolean(true);
+      valueWriter.write(out, entry.getValue());
     }
+    for(K key : removed) {
+      keyWriter.write(out, key);
+      out.writeBoolean(false);
+    }
+  }
 
-    public IPath getPath() {
-      return IPath.fromPortableString(path);
+  private static <K, V> void readChanges(Map<K, V> map, WorkspaceStateInput in, List<Runnable> changes,
+      ValueReader<K> keyReader, ValueReader<V> valueReader) throws IOException {
+    int size = in.readVarInt();
+    for(int i = 0; i < size; i++ ) {
+      K key = keyReader.read(in);
+      if(in.readBoolean()) {
+        V value = valueReader.read(in);
+        changes.add(() -> map.put(key, value));
+      } else {
+        changes.add(() -> map.remove(key));
+      }
     }
   }
 
-  /**
-   * IFile replacement used for object serialization
-   */
-  private static final class IFileReplace implements Serializable {
-    private static final long serialVersionUID = -7266001068347075329L;
+  private static void writeFacade(MavenProjectFacade facade, WorkspaceStateOutput out) throws IOException {
+    out.writeJavaFile(facade.getPomFile());
+    out.writeRecord(facade::writeState);
+  }
+
+  private static FacadeLoader readFacadeEntry(IFile pom, WorkspaceStateInput in, ProjectRegistryManager manager)
+      throws IOException {
+    File pomFile = in.readJavaFile();
+    WorkspaceStateInput record = in.readRecord();
+    return state -> state.workspacePoms.putLazy(pom, pomFile, () -> readFacade(pom, record, manager));
+  }
 
-    private final String path;
+  private static MavenProjectFacade readFacade(IFile pom, WorkspaceStateInput record, ProjectRegistryManager manager) {
+    try {
+      return new MavenProjectFacade(manager, record);
+    } catch(IOException | RuntimeException ex) {
+      // facades are read lazily, a corrupt state must not fail the caller that happens to request it
+      log.error("Can't read workspace state of " + pom, ex);
+      return null;
+    }
+  }
 
-    public IFileReplace(IFile file) {
-      this.path = file.getFullPath().toPortableString();
+  private static void writeCapabilities(WorkspaceStateOutput out, Set<Capability> capabilities) throws IOException {
+    out.writeSize(capabilities);
+    for(Capability capability : capabilities) {
+      writeCapability(capability, out);
     }
+  }
 
-    public IFile getFile() {
-      IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-      return root.getFile(IPath.fromPortableString(path));
+  private static Set<Capability> readCapabilities(WorkspaceStateInput in) throws IOException {
+    int count = in.readSize();
+    Set<Capability> capabilities = new LinkedHashSet<>();
+    for(int j = 0; j < count; j++ ) {
+      capabilities.add(MavenCapability.create(in.readString(), in.readString(), in.readString()));
     }
+    return capabilities;
   }
 
-  static final class MavenProjectManagerImplReplace implements Serializable {
-    private static final long serialVersionUID = 1995671440438776471L;
+  private static void writeRequirements(WorkspaceStateOutput out, Set<RequiredCapability> requirements)
+      throws IOException {
+    out.writeSize(requirements);
+    for(RequiredCapability requirement : requirements) {
+      writeRequirement(requirement, out);
+    }
+  }
+
+  private static Set<RequiredCapability> readRequirements(WorkspaceStateInput in) throws IOException {
+    int count = in.readSize();
+    Set<RequiredCapability> requirements = new LinkedHashSet<>();
+    for(int j = 0; j < count; j++ ) {
+      requirements.add(readRequirement(in));
+    }
+    return requirements;
+  }
+
+  private static void writeVersionlessKey(WorkspaceStateOutput out, VersionlessKey key) throws IOException {
+    out.writeString(key.namespace());
+    out.writeString(key.id());
+  }
+
+  private static VersionlessKey readVersionlessKey(WorkspaceStateInput in) throws IOException {
+    return new VersionlessKey(in.readString(), in.readString());
+  }
+
+  private static void writeRequiringPoms(WorkspaceStateOutput out, Map<RequiredCapability, Set<IFile>> requirements)
+      throws IOException {
+    out.writeSize(requirements);
+    for(Entry<RequiredCapability, Set<IFile>> requirement : requirements.entrySet()) {
+      writeRequirement(requirement.getKey(), out);
+      out.writeFiles(requirement.getValue());
+    }
+  }
+
+  private static Map<RequiredCapability, Set<IFile>> readRequiringPoms(WorkspaceStateInput in) throws IOException {
+    int count = in.readSize();
+    Map<RequiredCapability, Set<IFile>> requirements = new LinkedHashMap<>();
+    for(int j = 0; j < count; j++ ) {
+      requirements.put(readRequirement(in), in.readFiles());
+    }
+    return requirements;
+  }
+
+  private static void writeCapability(Capability capability, WorkspaceStateOutput out) throws IOException {
+    if(!(capability instanceof MavenCapability mavenCapability)) {
+      throw new IOException("Can't write capability of type " + capability.getClass().getName()); //$NON-NLS-1$
+    }
+    out.writeString(mavenCapability.getVersionlessKey().namespace());
+    out.writeString(mavenCapability.getVersionlessKey().id());
+    out.writeString(mavenCapability.getVersion());
+  }
+
+  private static void writeRequirement(RequiredCapability requirement, WorkspaceStateOutput out) throws IOException {
+    if(!(requirement instanceof MavenRequiredCapability mavenRequirement)) {
+      throw new IOException("Can't write requirement of type " + requirement.getClass().getName()); //$NON-NLS-1$
+    }
+    out.writeString(mavenRequirement.getVersionlessKey().namespace());
+    out.writeString(mavenRequirement.getVersionlessKey().id());
+    out.writeString(mavenRequirement.getVersionRange());
+    out.writeString(mavenRequirement.getScope());
+    out.writeBoolean(mavenRequirement.isOptional());
+    out.writeBoolean(mavenRequirement.isResolved());
+  }
+
+  private static RequiredCapability readRequirement(WorkspaceStateInput in) throws IOException {
+    return MavenRequiredCapability.create(in.readString(), in.readString(), in.readString(), in.readString(),
+        in.readBoolean(), in.readBoolean());
+  }
+
+  @FunctionalInterface
+  private interface ValueWriter<T> {
+    void write(WorkspaceStateOutput out, T value) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface ValueReader<T> {
+    T read(WorkspaceStateInput in) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface FacadeLoader {
+    void run(BasicProjectRegistry state);
+  }
+
+  /**
+   * Encoded changes between two registry versions.
+   */
+  private record Delta(int fromVersion, int toVersion, byte[] data) {
   }
 
 }
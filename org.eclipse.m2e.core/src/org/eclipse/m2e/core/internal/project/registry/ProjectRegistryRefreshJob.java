@@ -15,10 +15,13 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -27,7 +30,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
@@ -45,6 +50,7 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChange
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
+import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.embedder.MavenImpl;
 import org.eclipse.m2e.core.internal.jobs.IBackgroundProcessingQueue;
@@ -60,8 +66,27 @@ public class ProjectRegistryRefreshJob extends MavenJob
 
   private static final long SCHEDULE_DELAY = 1000L;
 
+  /**
+   * Requests are processed once no further request was queued for this long, bursts of changes are processed together.
+   */
+  static final long QUIET_PERIOD = SCHEDULE_DELAY;
+
+  /**
+   * Longest time in milliseconds the processing of requests is postponed by further requests.
+   */
+  static final long MAX_DEBOUNCE = Long.getLong("m2e.project.refresh.maxDebounce", 10_000L);
+
   private final Set<MavenUpdateRequest> queue = new LinkedHashSet<>();
 
+  private long firstQueued;
+
+  private long lastQueued;
+
+  /**
+   * Number of requests to prioritize each pom, e.g. one per editor the pom is open in
+   */
+  private final Map<IFile, Integer> priorityPoms = new ConcurrentHashMap<>();
+
   @Reference
   ProjectRegistryManager manager;
 
@@ -91,70 +116,116 @@ public class ProjectRegistryRefreshJob extends MavenJob
     }
   }
 
+  /**
+   * Refreshes the given pom before others, e.g. because it is open in an editor. Each call has to be paired with a
+   * call of {@link #removePriorityPom(IFile)}.
+   */
+  public void addPriorityPom(IFile pom) {
+    priorityPoms.merge(pom, 1, Integer::sum);
+  }
+
+  public void removePriorityPom(IFile pom) {
+    priorityPoms.computeIfPresent(pom, (p, count) -> count > 1 ? count - 1 : null);
+  }
+
   // Job
 
   @Override
   public IStatus run(final IProgressMonitor monitor) {
-    monitor.beginTask(Messages.ProjectRegistryRefreshJob_task_refreshing, IProgressMonitor.UNKNOWN);
     List<MavenUpdateRequest> requests;
     synchronized(this.queue) {
+      long delay = getProcessingDelay(firstQueued, lastQueued, System.currentTimeMillis());
+      if(!queue.isEmpty() && delay > 0) {
+        // more requests are coming in, e.g. while many poms are changed by a checkout, process them together
+        schedule(delay);
+        return Status.OK_STATUS;
+      }
       requests = new ArrayList<>(this.queue);
       this.queue.clear();
     }
+    monitor.beginTask(Messages.ProjectRegistryRefreshJob_task_refreshing, IProgressMonitor.UNKNOWN);
+    try {
+      process(requests, monitor);
+    } finally {
+      monitor.done();
+    }
+    return Status.OK_STATUS;
+  }
+
+  /**
+   * @return the time in milliseconds the processing of the queued requests is postponed by, {@code 0} to process them
+   *         now
+   */
+  static long getProcessingDelay(long firstQueued, long lastQueued, long now) {
+    long quietIn = lastQueued + QUIET_PERIOD - now;
+    long deadlineIn = firstQueued + MAX_DEBOUNCE - now;
+    return Math.max(0, Math.min(quietIn, deadlineIn));
+  }
+
+  /**
+   * Refreshes the poms of the given requests, prioritized poms first. Poms not refreshed because the registry became
+   * stale are queued again.
+   */
+  void process(List<MavenUpdateRequest> requests, IProgressMonitor monitor) {
+    // merge requests, each pom is refreshed once in the mode that covers all requests for it
+    Map<IFile, RefreshMode> modes = new LinkedHashMap<>();
+    for(MavenUpdateRequest request : requests) {
+      RefreshMode mode = new RefreshMode(request.isOffline(), request.isForceDependencyUpdate());
+      for(IFile pom : request.getPomFiles()) {
+        modes.merge(pom, mode, RefreshMode::merge);
+      }
+    }
+    // prioritized poms are refreshed and applied first, so they are available early and are not lost if the registry
+    // becomes stale while the other poms are refreshed
+    Map<IFile, RefreshMode> prioritized = new LinkedHashMap<>();
+    Map<IFile, RefreshMode> others = new LinkedHashMap<>();
+    modes.forEach((pom, mode) -> (isPrioritized(pom) ? prioritized : others).put(pom, mode));
+    List<Map<IFile, RefreshMode>> slices = new ArrayList<>(2);
+    if(!prioritized.isEmpty()) {
+      slices.add(prioritized);
+    }
+    if(!others.isEmpty()) {
+      slices.add(others);
+    }
 
+    Map<IFile, RefreshMode> remaining = new LinkedHashMap<>(modes);
+    try {
+      for(Map<IFile, RefreshMode> slice : slices) {
+        refresh(slice, monitor);
+        remaining.keySet().removeAll(slice.keySet());
+      }
+    } catch(CoreException ex) {
+      log.error(ex.getMessage(), ex);
+    } catch(OperationCanceledException ex) {
+      log.info("{} was canceled", getClass().getName());
+    } catch(StaleMutableProjectRegistryException e) {
+      requeue(remaining);
+    } catch(Exception ex) {
+      log.error(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Refreshes the given poms in a new mutable registry and applies it.
+   */
+  void refresh(Map<IFile, RefreshMode> poms, IProgressMonitor monitor) throws CoreException {
     try (MutableProjectRegistry newState = manager.newMutableProjectRegistry()) {
       maven.createExecutionContext().execute((context, theMonitor) -> {
         SubMonitor subMonitor = SubMonitor.convert(theMonitor);
-        // group requests
-        Set<IFile> offlineForceDependencyUpdate = new HashSet<>();
-        Set<IFile> offlineNotForceDependencyUpdate = new HashSet<>();
-        Set<IFile> notOfflineForceDependencyUpdate = new HashSet<>();
-        Set<IFile> notOfflineNotForceDependencyUpdate = new HashSet<>();
-        for(MavenUpdateRequest request : requests) {
+        // group poms by mode, the groups do not overlap
+        Map<RefreshMode, Set<IFile>> groups = new HashMap<>();
+        poms.forEach((pom, mode) -> groups.computeIfAbsent(mode, m -> new LinkedHashSet<>()).add(pom));
+        // process requests
+        for(RefreshMode mode : RefreshMode.ORDER) {
           subMonitor.checkCanceled();
-          if(request.isOffline() && request.isForceDependencyUpdate()) {
-            offlineForceDependencyUpdate.addAll(request.getPomFiles());
-          } else if(request.isOffline() && !request.isForceDependencyUpdate()) {
-            offlineNotForceDependencyUpdate.addAll(request.getPomFiles());
-          } else if(!request.isOffline() && request.isForceDependencyUpdate()) {
-            notOfflineForceDependencyUpdate.addAll(request.getPomFiles());
-          } else if(!request.isOffline() && !request.isForceDependencyUpdate()) {
-            notOfflineNotForceDependencyUpdate.addAll(request.getPomFiles());
+          Set<IFile> group = groups.get(mode);
+          if(group != null) {
+            MavenImpl.execute(maven, mode.offline(), mode.forceDependencyUpdate(), (aContext, aMonitor) -> {
+              manager.refresh(newState, group, aMonitor);
+              return null;
+            }, theMonitor);
           }
         }
-        // process requests
-        // true * true
-        subMonitor.checkCanceled();
-        if(!offlineForceDependencyUpdate.isEmpty()) {
-          MavenImpl.execute(maven, true, true, (aContext, aMonitor) -> {
-            manager.refresh(newState, offlineForceDependencyUpdate, aMonitor);
-            return null;
-          }, theMonitor);
-        }
-        // true*false
-        subMonitor.checkCanceled();
-        if(!offlineNotForceDependencyUpdate.isEmpty()) {
-          MavenImpl.execute(maven, true, false, (aContext, aMonitor) -> {
-            manager.refresh(newState, offlineNotForceDependencyUpdate, aMonitor);
-            return null;
-          }, theMonitor);
-        }
-        // false*true
-        subMonitor.checkCanceled();
-        if(!notOfflineForceDependencyUpdate.isEmpty()) {
-          MavenImpl.execute(maven, false, true, (aContext, aMonitor) -> {
-            manager.refresh(newState, notOfflineForceDependencyUpdate, aMonitor);
-            return null;
-          }, theMonitor);
-        }
-        // false*false
-        subMonitor.checkCanceled();
-        if(!notOfflineNotForceDependencyUpdate.isEmpty()) {
-          MavenImpl.execute(maven, false, false, (aContext, aMonitor) -> {
-            manager.refresh(newState, notOfflineNotForceDependencyUpdate, aMonitor);
-            return null;
-          }, theMonitor);
-        }
 
         ISchedulingRule rule = ResourcesPlugin.getWorkspace().getRoot();
         getJobManager().beginRule(rule, monitor);
@@ -165,27 +236,39 @@ public class ProjectRegistryRefreshJob extends MavenJob
         }
         return null;
       }, monitor);
-    } catch(CoreException ex) {
-      log.error(ex.getMessage(), ex);
-    } catch(OperationCanceledException ex) {
-      log.info("{} was canceled", getClass().getName());
-    } catch(StaleMutableProjectRegistryException e) {
-      synchronized(this.queue) {
-        // must preserve order of requests here
-        requests.addAll(this.queue);
-        this.queue.clear();
-        this.queue.addAll(requests);
-        if(!this.queue.isEmpty()) {
-          schedule(SCHEDULE_DELAY);
-        }
+    }
+  }
+
+  /**
+   * Queues the poms that were not refreshed again, before any request queued in the meantime.
+   */
+  private void requeue(Map<IFile, RefreshMode> poms) {
+    Map<RefreshMode, MavenUpdateRequest> requests = new LinkedHashMap<>();
+    poms.forEach((pom, mode) -> requests
+        .computeIfAbsent(mode, m -> new MavenUpdateRequest(m.offline(), m.forceDependencyUpdate())).addPomFile(pom));
+    synchronized(this.queue) {
+      // must preserve order of requests here
+      List<MavenUpdateRequest> all = new ArrayList<>(requests.values());
+      all.addAll(this.queue);
+      this.queue.clear();
+      this.queue.addAll(all);
+      if(!this.queue.isEmpty()) {
+        schedule(SCHEDULE_DELAY);
       }
-    } catch(Exception ex) {
-      log.error(ex.getMessage(), ex);
-    } finally {
-      monitor.done();
     }
+  }
 
-    return Status.OK_STATUS;
+  boolean isPrioritized(IFile pom) {
+    if(priorityPoms.containsKey(pom)) {
+      return true;
+    }
+    try {
+      // poms that failed to load, resolve or build
+      return pom.exists()
+          && pom.findMaxProblemSeverity(IMavenConstants.MARKER_ID, true, IResource.DEPTH_ZERO) == IMarker.SEVERITY_ERROR;
+    } catch(CoreException ex) {
+      return false;
+    }
   }
 
   // IResourceChangeListener
@@ -231,6 +314,11 @@ public class ProjectRegistryRefreshJob extends MavenJob
 
   private void queue(MavenUpdateRequest updateRequest) {
     synchronized(queue) {
+      long now = System.currentTimeMillis();
+      if(queue.isEmpty()) {
+        firstQueued = now;
+      }
+      lastQueued = now;
       queue.add(updateRequest);
       log.debug("Queued refresh request: {}", updateRequest); //$NON-NLS-1$
     }
@@ -253,4 +341,29 @@ public class ProjectRegistryRefreshJob extends MavenJob
     }
   }
 
+  List<MavenUpdateRequest> getQueuedRequests() {
+    synchronized(queue) {
+      return new ArrayList<>(queue);
+    }
+  }
+
+  /**
+   * Offline and force dependency update mode of a refresh.
+   */
+  record RefreshMode(boolean offline, boolean forceDependencyUpdate) {
+
+    /**
+     * Order in which the modes are processed.
+     */
+    static final List<RefreshMode> ORDER = List.of(new RefreshMode(true, true), new RefreshMode(true, false),
+        new RefreshMode(false, true), new RefreshMode(false, false));
+
+    /**
+     * @return the mode satisfying both modes, online and forced dependency updates take precedence
+     */
+    RefreshMode merge(RefreshMode other) {
+      return new RefreshMode(offline && other.offline, forceDependencyUpdate || other.forceDependencyUpdate);
+    }
+  }
+
 }
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.core.resources.IFile;
+
+
+/**
+ * Time spent per pom in the phases of a single project registry refresh.
+ *
+ * @see RefreshProfileListener
+ */
+public final class RefreshProfile {
+
+  public enum Phase {
+    /** Reading the pom and building the maven model, shared evenly by poms read together */
+    MODEL_BUILDING,
+    /** Resolving the dependencies of the project */
+    DEPENDENCY_RESOLUTION,
+    /** Calculating the lifecycle mapping of the project */
+    LIFECYCLE_MAPPING,
+    /** Flushing cached maven projects and maven core caches */
+    CACHE_FLUSH
+  }
+
+  /**
+   * Profile of a single pom.
+   *
+   * @param pom the pom
+   * @param requeueCount number of times the pom was queued again after it was processed in the refresh, the queuing of
+   *          all read poms for the dependency resolution phase is not counted
+   */
+  public record PomProfile(IFile pom, long modelBuilding, long dependencyResolution, long lifecycleMapping,
+      long cacheFlush, int requeueCount) {
+
+    /**
+     * @return the time in nanoseconds spent in the given phase
+     */
+    public long getTime(Phase phase) {
+      return switch(phase) {
+        case MODEL_BUILDING -> modelBuilding;
+        case DEPENDENCY_RESOLUTION -> dependencyResolution;
+        case LIFECYCLE_MAPPING -> lifecycleMapping;
+        case CACHE_FLUSH -> cacheFlush;
+      };
+    }
+
+    /**
+     * @return the time in nanoseconds spent in all phases
+     */
+    public long getTotalTime() {
+      return modelBuilding + dependencyResolution + lifecycleMapping + cacheFlush;
+    }
+  }
+
+  private final Map<IFile, Entry> entries = new ConcurrentHashMap<>();
+
+  private final long start = System.nanoTime();
+
+  private long duration;
+
+  void add(IFile pom, Phase phase, long nanos) {
+    if(pom != null) {
+      entry(pom).times.addAndGet(phase.ordinal(), nanos);
+    }
+  }
+
+  void addShared(Collection<IFile> poms, Phase phase, long nanos) {
+    if(!poms.isEmpty()) {
+      long share = nanos / poms.size();
+      poms.forEach(pom -> add(pom, phase, share));
+    }
+  }
+
+  void requeued(IFile pom) {
+    entry(pom).requeueCount.incrementAndGet();
+  }
+
+  void finish() {
+    duration = System.nanoTime() - start;
+  }
+
+  private Entry entry(IFile pom) {
+    return entries.computeIfAbsent(pom, p -> new Entry());
+  }
+
+  /**
+   * @return the duration of the whole refresh in nanoseconds
+   */
+  public long getDuration() {
+    return duration;
+  }
+
+  /**
+   * @return the profiles of all poms of the refresh, the most expensive first
+   */
+  public List<PomProfile> getPoms() {
+    List<PomProfile> poms = new ArrayList<>(entries.size());
+    entries.forEach((pom, entry) -> poms.add(new PomProfile(pom, entry.times.get(0), entry.times.get(1),
+        entry.times.get(2), entry.times.get(3), entry.requeueCount.get())));
+    poms.sort(Comparator.comparingLong(PomProfile::getTotalTime).reversed());
+    return poms;
+  }
+
+  /**
+   * Appends the profile as comma separated values to the given file, one line per pom, times are in milliseconds.
+   */
+  void appendTo(Path file) throws IOException {
+    boolean header = !Files.exists(file);
+    long refresh = System.currentTimeMillis();
+    try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+      if(header) {
+        out.println("refresh,pom,modelBuilding,dependencyResolution,lifecycleMapping,cacheFlush,requeued"); //$NON-NLS-1$
+      }
+      for(PomProfile pom : getPoms()) {
+        out.printf("%d,%s,%d,%d,%d,%d,%d%n", refresh, pom.pom().getFullPath(), pom.modelBuilding() / 1_000_000, //$NON-NLS-1$
+            pom.dependencyResolution() / 1_000_000, pom.lifecycleMapping() / 1_000_000, pom.cacheFlush() / 1_000_000,
+            pom.requeueCount());
+      }
+    }
+  }
+
+  private static final class Entry {
+
+    final AtomicLongArray times = new AtomicLongArray(Phase.values().length);
+
+    final AtomicInteger requeueCount = new AtomicInteger();
+  }
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+/**
+ * Receives the profile of each project registry refresh, register an implementation as OSGi service. Refreshes are
+ * only profiled while a listener is registered or the {@code m2e.project.refresh.profile} system property names a
+ * file to append the profiles to.
+ */
+public interface RefreshProfileListener {
+
+  /**
+   * Called once the refresh completed, before the refreshed registry is applied.
+   */
+  void refreshProfiled(RefreshProfile profile);
+}
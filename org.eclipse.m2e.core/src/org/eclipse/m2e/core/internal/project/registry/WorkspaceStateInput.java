@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Reads the binary workspace state format written by {@link WorkspaceStateOutput}.
+ */
+final class WorkspaceStateInput {
+
+  private final String[] strings;
+
+  private final DataInputStream in;
+
+  private final IWorkspaceRoot root;
+
+  private WorkspaceStateInput(String[] strings, byte[] data, int offset, IWorkspaceRoot root) {
+    this.strings = strings;
+    this.in = new DataInputStream(new ByteArrayInputStream(data, offset, data.length - offset));
+    this.root = root;
+  }
+
+  /**
+   * Reads header and string table of the given workspace state.
+   *
+   * @return the input positioned at the first data item or {@code null} if the data is not in the expected format or
+   *         was written by an other version
+   */
+  static WorkspaceStateInput open(byte[] data) throws IOException {
+    DataInputStream header = new DataInputStream(new ByteArrayInputStream(data));
+    if(data.length < 8 || header.readInt() != WorkspaceStateOutput.MAGIC
+        || header.readInt() != WorkspaceStateOutput.FORMAT_VERSION) {
+      return null;
+    }
+    String[] strings = new String[readVarInt(header) + 1];
+    for(int i = 1; i < strings.length; i++ ) {
+      byte[] bytes = new byte[readVarInt(header)];
+      header.readFully(bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    int offset = data.length - header.available();
+    return new WorkspaceStateInput(strings, data, offset, ResourcesPlugin.getWorkspace().getRoot());
+  }
+
+  /**
+   * Reads a record written with {@link WorkspaceStateOutput#writeRecord}, the returned input only holds a copy of the
+   * record data and can be read at any later time.
+   */
+  WorkspaceStateInput readRecord() throws IOException {
+    byte[] record = new byte[readVarInt()];
+    in.readFully(record);
+    return new WorkspaceStateInput(strings, record, 0, root);
+  }
+
+  int readVarInt() throws IOException {
+    return readVarInt(in);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    for(int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable length integer"); //$NON-NLS-1$
+  }
+
+  boolean readBoolean() throws IOException {
+    return in.readBoolean();
+  }
+
+  byte readByte() throws IOException {
+    return in.readByte();
+  }
+
+  long readLong() throws IOException {
+    return in.readLong();
+  }
+
+  long[] readLongs() throws IOException {
+    long[] values = new long[readVarInt()];
+    for(int i = 0; i < values.length; i++ ) {
+      values[i] = in.readLong();
+    }
+    return values;
+  }
+
+  String readString() throws IOException {
+    int index = readVarInt();
+    if(index >= strings.length) {
+      throw new IOException("Invalid string reference " + index); //$NON-NLS-1$
+    }
+    return strings[index]; // index 0 is null
+  }
+
+  /**
+   * @return the size of the next collection or {@code -1} if it is {@code null}
+   */
+  int readSize() throws IOException {
+    return readVarInt() - 1;
+  }
+
+  List<String> readStrings() throws IOException {
+    int size = readSize();
+    if(size < 0) {
+      return null;
+    }
+    String[] values = new String[size];
+    for(int i = 0; i < size; i++ ) {
+      values[i] = readString();
+    }
+    return Arrays.asList(values);
+  }
+
+  Map<String, String> readStringMap() throws IOException {
+    int size = readSize();
+    if(size < 0) {
+      return null;
+    }
+    Map<String, String> values = new LinkedHashMap<>(size * 2);
+    for(int i = 0; i < size; i++ ) {
+      values.put(readString(), readString());
+    }
+    return values;
+  }
+
+  IPath readPath() throws IOException {
+    String path = readString();
+    return path != null ? IPath.fromPortableString(path) : null;
+  }
+
+  List<IPath> readPaths() throws IOException {
+    int size = readSize();
+    if(size < 0) {
+      return null;
+    }
+    List<IPath> paths = new ArrayList<>(size);
+    for(int i = 0; i < size; i++ ) {
+      paths.add(readPath());
+    }
+    return paths;
+  }
+
+  IFile readFile() throws IOException {
+    IPath path = readPath();
+    return path != null ? root.getFile(path) : null;
+  }
+
+  Set<IFile> readFiles() throws IOException {
+    int size = readSize();
+    if(size < 0) {
+      return null;
+    }
+    Set<IFile> files = new LinkedHashSet<>(size * 2);
+    for(int i = 0; i < size; i++ ) {
+      files.add(readFile());
+    }
+    return files;
+  }
+
+  File readJavaFile() throws IOException {
+    String path = readString();
+    return path != null ? new File(path) : null;
+  }
+
+  ArtifactKey readArtifactKey() throws IOException {
+    if(!readBoolean()) {
+      return null;
+    }
+    return new ArtifactKey(readString(), readString(), readString(), readString());
+  }
+
+  Map<MojoExecutionKey, List<IPluginExecutionMetadata>> readMojoExecutionMapping() throws IOException {
+    int size = readSize();
+    if(size < 0) {
+      return null;
+    }
+    Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mapping = new LinkedHashMap<>(size * 2);
+    for(int i = 0; i < size; i++ ) {
+      MojoExecutionKey key = new MojoExecutionKey(readString(), readString(), readString(), readString(),
+          readString(), readString());
+      int executionCount = readSize();
+      List<IPluginExecutionMetadata> executions = null;
+      if(executionCount >= 0) {
+        executions = new ArrayList<>(executionCount);
+        for(int j = 0; j < executionCount; j++ ) {
+          executions.add(readPluginExecutionMetadata());
+        }
+      }
+      mapping.put(key, executions);
+    }
+    return mapping;
+  }
+
+  private IPluginExecutionMetadata readPluginExecutionMetadata() throws IOException {
+    byte type = readByte();
+    switch(type) {
+      case WorkspaceStateOutput.METADATA_NULL:
+        return null;
+      case WorkspaceStateOutput.METADATA_PLUGIN_EXECUTION:
+        PluginExecutionMetadata execution = new PluginExecutionMetadata();
+        if(readBoolean()) {
+          PluginExecutionFilter filter = new PluginExecutionFilter();
+          filter.setGroupId(readString());
+          filter.setArtifactId(readString());
+          String versionRange = readString();
+          if(versionRange != null) {
+            filter.setVersionRange(versionRange);
+          }
+          List<String> goals = readStrings();
+          if(goals != null) {
+            goals.forEach(filter::addGoal);
+          }
+          int parameterCount = readSize();
+          for(int i = 0; i < parameterCount; i++ ) {
+            filter.getParameters().put(readString(), readString());
+          }
+          execution.setFilter(filter);
+        }
+        execution.setActionDom(readDom());
+        execution.setComment(readString());
+        return execution;
+      case WorkspaceStateOutput.METADATA_SERIALIZED:
+        byte[] bytes = new byte[readVarInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream is = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (IPluginExecutionMetadata) is.readObject();
+        } catch(ClassNotFoundException ex) {
+          throw new IOException(ex);
+        }
+      default:
+        throw new IOException("Unknown plugin execution metadata type " + type); //$NON-NLS-1$
+    }
+  }
+
+  private Xpp3Dom readDom() throws IOException {
+    if(!readBoolean()) {
+      return null;
+    }
+    Xpp3Dom dom = new Xpp3Dom(readString());
+    dom.setValue(readString());
+    int attributeCount = readVarInt();
+    for(int i = 0; i < attributeCount; i++ ) {
+      dom.setAttribute(readString(), readString());
+    }
+    int childCount = readVarInt();
+    for(int i = 0; i < childCount; i++ ) {
+      dom.addChild(readDom());
+    }
+    return dom;
+  }
+}
@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Writes the binary workspace state format read by {@link WorkspaceStateInput}. All strings are written once to a
+ * string table and referenced by index afterwards, GAVs and paths repeated across projects therefore only cost a few
+ * bytes each. Integers are written as variable length quantities.
+ */
+final class WorkspaceStateOutput {
+
+  static final int MAGIC = 0x4D32_5753; // "M2WS"
+
+  /**
+   * Must be increased with every incompatible change of the format, states of other versions are discarded.
+   */
+  static final int FORMAT_VERSION = 2;
+
+  static final byte METADATA_NULL = 0;
+
+  static final byte METADATA_PLUGIN_EXECUTION = 1;
+
+  static final byte METADATA_SERIALIZED = 2;
+
+  private final Map<String, Integer> strings = new HashMap<>();
+
+  private final List<String> stringTable = new ArrayList<>();
+
+  private ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+
+  private DataOutputStream out = new DataOutputStream(buffer);
+
+  /**
+   * Writes header, string table and all data written so far to the given stream.
+   */
+  void writeTo(OutputStream target) throws IOException {
+    DataOutputStream os = new DataOutputStream(target);
+    os.writeInt(MAGIC);
+    os.writeInt(FORMAT_VERSION);
+    ByteArrayOutputStream header = new ByteArrayOutputStream(stringTable.size() * 32);
+    DataOutputStream headerOut = new DataOutputStream(header);
+    writeVarInt(headerOut, stringTable.size());
+    for(String string : stringTable) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(headerOut, bytes.length);
+      headerOut.write(bytes);
+    }
+    header.writeTo(os);
+    buffer.writeTo(os);
+    os.flush();
+  }
+
+  /**
+   * Writes a length prefixed record that can be read independently of the surrounding data, see
+   * {@link WorkspaceStateInput#readRecord()}.
+   */
+  void writeRecord(RecordWriter writer) throws IOException {
+    ByteArrayOutputStream parentBuffer = buffer;
+    DataOutputStream parentOut = out;
+    buffer = new ByteArrayOutputStream(1024);
+    out = new DataOutputStream(buffer);
+    ByteArrayOutputStream record;
+    try {
+      writer.write(this);
+    } finally {
+      record = buffer;
+      buffer = parentBuffer;
+      out = parentOut;
+    }
+    writeVarInt(record.size());
+    record.writeTo(out);
+  }
+
+  void writeVarInt(int value) throws IOException {
+    writeVarInt(out, value);
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  void writeBoolean(boolean value) throws IOException {
+    out.writeBoolean(value);
+  }
+
+  void writeByte(int value) throws IOException {
+    out.writeByte(value);
+  }
+
+  void writeLong(long value) throws IOException {
+    out.writeLong(value);
+  }
+
+  void writeLongs(long[] values) throws IOException {
+    writeVarInt(values.length);
+    for(long value : values) {
+      out.writeLong(value);
+    }
+  }
+
+  /**
+   * Writes a reference into the string table, {@code null} is a valid value.
+   */
+  void writeString(String value) throws IOException {
+    if(value == null) {
+      writeVarInt(0);
+      return;
+    }
+    Integer index = strings.get(value);
+    if(index == null) {
+      index = stringTable.size() + 1;
+      strings.put(value, index);
+      stringTable.add(value);
+    }
+    writeVarInt(index);
+  }
+
+  /**
+   * Writes the size of a collection, or the special size for {@code null}.
+   */
+  void writeSize(Collection<?> collection) throws IOException {
+    writeVarInt(collection != null ? collection.size() + 1 : 0);
+  }
+
+  void writeSize(Map<?, ?> map) throws IOException {
+    writeVarInt(map != null ? map.size() + 1 : 0);
+  }
+
+  void writeStrings(Collection<String> values) throws IOException {
+    writeSize(values);
+    if(values != null) {
+      for(String value : values) {
+        writeString(value);
+      }
+    }
+  }
+
+  void writeStringMap(Map<String, String> values) throws IOException {
+    writeSize(values);
+    if(values != null) {
+      for(Map.Entry<String, String> entry : values.entrySet()) {
+        writeString(entry.getKey());
+        writeString(entry.getValue());
+      }
+    }
+  }
+
+  void writePath(IPath path) throws IOException {
+    writeString(path != null ? path.toPortableString() : null);
+  }
+
+  void writePaths(Collection<IPath> paths) throws IOException {
+    writeSize(paths);
+    if(paths != null) {
+      for(IPath path : paths) {
+        writePath(path);
+      }
+    }
+  }
+
+  void writeFile(IFile file) throws IOException {
+    writePath(file != null ? file.getFullPath() : null);
+  }
+
+  void writeFiles(Collection<IFile> files) throws IOException {
+    writeSize(files);
+    if(files != null) {
+      for(IFile file : files) {
+        writeFile(file);
+      }
+    }
+  }
+
+  void writeJavaFile(File file) throws IOException {
+    writeString(file != null ? file.getPath() : null);
+  }
+
+  void writeArtifactKey(ArtifactKey key) throws IOException {
+    writeBoolean(key != null);
+    if(key != null) {
+      writeString(key.groupId());
+      writeString(key.artifactId());
+      writeString(key.version());
+      writeString(key.classifier());
+    }
+  }
+
+  void writeMojoExecutionMapping(Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mapping) throws IOException {
+    writeSize(mapping);
+    if(mapping == null) {
+      return;
+    }
+    for(Map.Entry<MojoExecutionKey, List<IPluginExecutionMetadata>> entry : mapping.entrySet()) {
+      MojoExecutionKey key = entry.getKey();
+      writeString(key.groupId());
+      writeString(key.artifactId());
+      writeString(key.version());
+      writeString(key.goal());
+      writeString(key.lifecyclePhase());
+      writeString(key.executionId());
+      List<IPluginExecutionMetadata> executions = entry.getValue();
+      writeSize(executions);
+      if(executions != null) {
+        for(IPluginExecutionMetadata metadata : executions) {
+          writePluginExecutionMetadata(metadata);
+        }
+      }
+    }
+  }
+
+  private void writePluginExecutionMetadata(IPluginExecutionMetadata metadata) throws IOException {
+    if(metadata == null) {
+      writeByte(METADATA_NULL);
+    } else if(metadata instanceof PluginExecutionMetadata execution) {
+      writeByte(METADATA_PLUGIN_EXECUTION);
+      PluginExecutionFilter filter = execution.getFilter();
+      writeBoolean(filter != null);
+      if(filter != null) {
+        writeString(filter.getGroupId());
+        writeString(filter.getArtifactId());
+        writeString(filter.getVersionRange());
+        writeStrings(filter.getGoals());
+        Map<Object, String> parameters = filter.getParameters();
+        writeSize(parameters);
+        if(parameters != null) {
+          for(Map.Entry<Object, String> parameter : parameters.entrySet()) {
+            writeString((String) parameter.getKey());
+            writeString(parameter.getValue());
+          }
+        }
+      }
+      writeDom((Xpp3Dom) execution.getActionDom());
+      writeString(execution.getComment());
+    } else if(metadata instanceof Serializable) {
+      // not created from lifecycle mapping metadata, e.g. default mappings, rare enough to not need a compact form
+      writeByte(METADATA_SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream os = new ObjectOutputStream(bytes)) {
+        os.writeObject(metadata);
+      }
+      writeVarInt(bytes.size());
+      bytes.writeTo(out);
+    } else {
+      throw new IOException("Can't write plugin execution metadata of type " + metadata.getClass().getName()); //$NON-NLS-1$
+    }
+  }
+
+  private void writeDom(Xpp3Dom dom) throws IOException {
+    writeBoolean(dom != null);
+    if(dom == null) {
+      return;
+    }
+    writeString(dom.getName());
+    writeString(dom.getValue());
+    String[] attributeNames = dom.getAttributeNames();
+    writeVarInt(attributeNames.length);
+    for(String attributeName : attributeNames) {
+      writeString(attributeName);
+      writeString(dom.getAttribute(attributeName));
+    }
+    writeVarInt(dom.getChildCount());
+    for(Xpp3Dom child : dom.getChildren()) {
+      writeDom(child);
+    }
+  }
+
+  @FunctionalInterface
+  interface RecordWriter {
+    void write(WorkspaceStateOutput out) throws IOException;
+  }
+}
@@ -18,10 +18,10 @@ import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,7 +141,7 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
 
   private final List<MavenPomEditorPage> mavenpomEditorPages = new ArrayList<>();
 
-  private final Map<String, org.eclipse.aether.graph.DependencyNode> rootNodes = new HashMap<>();
+  private final Map<String, org.eclipse.aether.graph.DependencyNode> rootNodes = new ConcurrentHashMap<>();
 
   IStructuredModel structuredModel;
 
@@ -153,6 +153,11 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
 
   IFile pomFile;
 
+  /**
+   * Pom refreshed before others while this editor is open
+   */
+  private IFile priorityPom;
+
   MavenPomActivationListener activationListener;
 
   List<IPomFileChangedListener> fileChangeListeners = new ArrayList<>();
@@ -645,7 +650,7 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
     }
   }
 
-  public synchronized org.eclipse.aether.graph.DependencyNode readDependencyTree(boolean force, String classpath,
+  public org.eclipse.aether.graph.DependencyNode readDependencyTree(boolean force, String classpath,
       IProgressMonitor monitor) throws CoreException {
     if(force || !rootNodes.containsKey(classpath)) {
       monitor.setTaskName(Messages.MavenPomEditor_task_reading);
@@ -663,7 +668,7 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
       }
 
       DependencyNode root = MavenPlugin.getMavenModelManager().readDependencyTree(facade, mavenProject, classpath,
-          monitor);
+          force, monitor);
       root.setData("LEVEL", "ROOT");
       for(DependencyNode nd : root.getChildren()) {
         nd.setData("LEVEL", "DIRECT");
@@ -731,6 +736,9 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
     sourcePage.dispose();
 
     MavenPluginActivator.getDefault().getMavenProjectManager().removeMavenProjectChangedListener(this);
+    if(priorityPom != null) {
+      MavenPluginActivator.getDefault().getProjectManagerRefreshJob().removePriorityPom(priorityPom);
+    }
 
     if(structuredModel != null) { //#336331
       structuredModel.releaseFromEdit();
@@ -778,8 +786,11 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
     setPartName(editorInput.getToolTipText());
     // setContentDescription(name);
     super.init(site, editorInput);
-    if(editorInput instanceof IFileEditorInput) {
+    if(editorInput instanceof IFileEditorInput fileInput) {
       ResourcesPlugin.getWorkspace().addResourceChangeListener(this);
+      // refresh the edited pom before others
+      priorityPom = fileInput.getFile();
+      MavenPluginActivator.getDefault().getProjectManagerRefreshJob().addPriorityPom(priorityPom);
     }
 
     reloadMavenProjectCache();
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.m2e.jdt.IClasspathManager;
+import org.eclipse.m2e.jdt.internal.ClasspathContainerStore;
+import org.eclipse.m2e.jdt.internal.MavenClasspathContainer;
+
+
+public class ClasspathContainerStoreTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Path file = temp.getRoot().toPath().resolve("containers.state");
+    IClasspathAttribute[] attributes = {JavaCore.newClasspathAttribute("maven.groupId", "org.example"),
+        JavaCore.newClasspathAttribute(IClasspathAttribute.TEST, "true")};
+    IAccessRule[] accessRules = {JavaCore.newAccessRule(IPath.fromPortableString("org/example/internal/**"),
+        IAccessRule.K_DISCOURAGED | IAccessRule.IGNORE_IF_BETTER)};
+    IClasspathEntry library = JavaCore.newLibraryEntry(IPath.fromOSString("/repo/org/example/a/1.0/a-1.0.jar"),
+        IPath.fromOSString("/repo/org/example/a/1.0/a-1.0-sources.jar"), null, accessRules, attributes, true);
+    IClasspathEntry project = JavaCore.newProjectEntry(IPath.fromPortableString("/b"), new IAccessRule[0], false,
+        attributes, false);
+    IClasspathContainer a = new MavenClasspathContainer(IPath.fromOSString(IClasspathManager.CONTAINER_ID),
+        new IClasspathEntry[] {library, project});
+    IClasspathContainer b = new MavenClasspathContainer(IPath.fromOSString(IClasspathManager.CONTAINER_ID),
+        new IClasspathEntry[] {library});
+
+    ClasspathContainerStore store = new ClasspathContainerStore(file);
+    store.put("a", a);
+    store.put("b", b);
+    store.put("c", b);
+    store.remove("c");
+    store.flush();
+
+    ClasspathContainerStore restored = new ClasspathContainerStore(file);
+    assertContainerEquals(a, restored.get("a"));
+    assertContainerEquals(b, restored.get("b"));
+    assertNull(restored.get("c"));
+  }
+
+  @Test
+  public void testReplacedFileDeletedAfterSave() throws Exception {
+    Path file = temp.getRoot().toPath().resolve("containers.state");
+    Path legacy = temp.newFile("a.container").toPath();
+    IClasspathContainer a = new MavenClasspathContainer(IPath.fromOSString(IClasspathManager.CONTAINER_ID),
+        new IClasspathEntry[0]);
+
+    ClasspathContainerStore store = new ClasspathContainerStore(file);
+    store.put("a", a);
+    store.deleteAfterSave(legacy);
+    assertTrue(Files.exists(legacy));
+
+    store.flush();
+    assertTrue(Files.exists(file));
+    assertFalse(Files.exists(legacy));
+  }
+
+  private static void assertContainerEquals(IClasspathContainer expected, IClasspathContainer actual) {
+    assertEquals(expected.getPath(), actual.getPath());
+    assertArrayEquals(expected.getClasspathEntries(), actual.getClasspathEntries());
+  }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.jdt.MavenJdtPlugin;
+import org.eclipse.m2e.jdt.internal.BuildPathManager;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class DownloadSourcesJobTest extends AbstractMavenProjectTestCase {
+
+  private static final int DEPENDENCIES = 12;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testDownloadSourcesOfSharedDependencies() throws Exception {
+    // unique coordinates, nothing of it can be in the local repository yet
+    String groupId = "org.eclipse.m2e.tests.sources" + System.currentTimeMillis();
+    Path remote = temp.newFolder("remote").toPath();
+    for(int i = 0; i < DEPENDENCIES; i++ ) {
+      deploy(remote, groupId, "dependency" + i);
+    }
+    Path basedir = temp.newFolder("projects").toPath();
+    writePom(basedir.resolve("a"), groupId, remote);
+    writePom(basedir.resolve("b"), groupId, remote);
+    IProject[] projects = importProjects(basedir.toFile().getCanonicalPath(), new String[] {"a/pom.xml", "b/pom.xml"},
+        new ResolverConfiguration());
+    waitForJobsToComplete();
+
+    for(IProject project : projects) {
+      MavenJdtPlugin.getDefault().getBuildpathManager().scheduleDownload(project, true, false);
+    }
+    waitForJobsToComplete();
+
+    for(IProject project : projects) {
+      IClasspathEntry[] entries = BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(project))
+          .getClasspathEntries();
+      assertEquals(DEPENDENCIES, entries.length);
+      for(IClasspathEntry entry : entries) {
+        assertNotNull(entry.getPath().toString(), entry.getSourceAttachmentPath());
+        assertTrue(entry.getSourceAttachmentPath().toString(),
+            entry.getSourceAttachmentPath().lastSegment().endsWith("-sources.jar"));
+      }
+    }
+  }
+
+  private static void deploy(Path repository, String groupId, String artifactId) throws IOException {
+    Path directory = repository.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve("1.0");
+    Files.createDirectories(directory);
+    Files.writeString(directory.resolve(artifactId + "-1.0.pom"), """
+        <project>
+          <modelVersion>4.0.0</modelVersion>
+          <groupId>%s</groupId>
+          <artifactId>%s</artifactId>
+          <version>1.0</version>
+        </project>
+        """.formatted(groupId, artifactId));
+    writeJar(directory.resolve(artifactId + "-1.0.jar"), artifactId + "/A.class");
+    writeJar(directory.resolve(artifactId + "-1.0-sources.jar"), artifactId + "/A.java");
+  }
+
+  private static void writeJar(Path file, String entry) throws IOException {
+    try (OutputStream os = Files.newOutputStream(file); JarOutputStream jar = new JarOutputStream(os)) {
+      jar.putNextEntry(new JarEntry(entry));
+      jar.closeEntry();
+    }
+  }
+
+  private static void writePom(Path project, String groupId, Path repository) throws IOException {
+    StringBuilder dependencies = new StringBuilder();
+    for(int i = 0; i < DEPENDENCIES; i++ ) {
+      dependencies.append("""
+              <dependency>
+                <groupId>%s</groupId>
+                <artifactId>dependency%d</artifactId>
+                <version>1.0</version>
+              </dependency>
+          """.formatted(groupId, i));
+    }
+    Files.createDirectories(project);
+    Files.writeString(project.resolve("pom.xml"), """
+        <project>
+          <modelVersion>4.0.0</modelVersion>
+          <groupId>org.eclipse.m2e.tests</groupId>
+          <artifactId>%s</artifactId>
+          <version>1.0</version>
+          <repositories>
+            <repository>
+              <id>sources-test</id>
+              <url>%s</url>
+            </repository>
+          </repositories>
+          <dependencies>
+        %s  </dependencies>
+        </project>
+        """.formatted(project.getFileName(), repository.toUri(), dependencies));
+  }
+}
@@ -115,6 +115,7 @@ public class MavenJdtPlugin extends Plugin {
         IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.POST_CHANGE);
 
     projectManager.addMavenProjectChangedListener(this.buildpathManager);
+    MavenPlugin.getMaven().addLocalRepositoryListener(this.buildpathManager);
 
     workspaceSourceDownloadJob = new WorkspaceSourceDownloadJob();
 
@@ -169,6 +170,7 @@ public class MavenJdtPlugin extends Plugin {
    */
   @Override
   public void stop(BundleContext context) throws Exception {
+    buildpathManager.saveContainerStates();
     super.stop(context);
 
     IWorkspace workspace = ResourcesPlugin.getWorkspace();
@@ -179,6 +181,7 @@ public class MavenJdtPlugin extends Plugin {
       IMavenProjectRegistry projectManager = mplugin.getMavenProjectManager();
       projectManager.removeMavenProjectChangedListener(buildpathManager);
       projectManager.removeMavenProjectChangedListener(launchConfigurationListener);
+      mplugin.getMaven().removeLocalRepositoryListener(buildpathManager);
     }
 
     DebugPlugin dplugin = DebugPlugin.getDefault();
@@ -78,6 +78,7 @@ import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ILocalRepositoryListener;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
 import org.eclipse.m2e.core.internal.IMavenConstants;
@@ -96,7 +97,8 @@ import org.eclipse.m2e.jdt.IClasspathManagerDelegate;
  * This class is responsible for mapping Maven classpath to JDT and back.
  */
 @SuppressWarnings("restriction")
-public class BuildPathManager implements IMavenProjectChangedListener, IResourceChangeListener, IClasspathManager {
+public class BuildPathManager
+    implements IMavenProjectChangedListener, IResourceChangeListener, ILocalRepositoryListener, IClasspathManager {
   private static final Logger log = LoggerFactory.getLogger(BuildPathManager.class);
 
   public static final int SOURCE_DOWNLOAD_PRIORITY = Job.DECORATE;//Low priority
@@ -124,6 +126,10 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   public static final ArtifactFilter SCOPE_FILTER_TEST = new ScopeArtifactFilter(Artifact.SCOPE_TEST);
 
+  private static final String CONTAINER_STORE_NAME = "classpathContainers.state"; //$NON-NLS-1$
+
+  private static final String MODULE_INFO_CACHE_NAME = "moduleInfos.state"; //$NON-NLS-1$
+
   final IMavenProjectRegistry projectManager;
 
   final IMavenConfiguration mavenConfiguration;
@@ -136,6 +142,20 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   final Map<URI, InternalModuleInfo> moduleInfosMap = new ConcurrentHashMap<>();
 
+  /**
+   * Sources and javadoc artifacts looked up in the local repository so far, shared by all projects
+   */
+  private final Map<AttachedArtifact, AttachedArtifactFile> attachedArtifactFiles = new ConcurrentHashMap<>();
+
+  /**
+   * Javadoc paths found in javadoc archives so far, by archive file
+   */
+  private final Map<File, JavaDocPath> javaDocPaths = new ConcurrentHashMap<>();
+
+  private final ClasspathContainerStore containerStore;
+
+  private final ModuleInfoCache moduleInfoCache;
+
   private final DownloadSourcesJob downloadSourcesJob;
 
   private final DefaultClasspathManagerDelegate defaultDelegate;
@@ -145,6 +165,8 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     this.mavenConfiguration = MavenPlugin.getMavenConfiguration();
     this.bundleContext = bundleContext;
     this.stateLocationDir = stateLocationDir;
+    this.containerStore = new ClasspathContainerStore(new File(stateLocationDir, CONTAINER_STORE_NAME).toPath());
+    this.moduleInfoCache = new ModuleInfoCache(new File(stateLocationDir, MODULE_INFO_CACHE_NAME).toPath());
     this.maven = MavenPlugin.getMaven();
     this.downloadSourcesJob = new DownloadSourcesJob(this);
     downloadSourcesJob.setPriority(SOURCE_DOWNLOAD_PRIORITY);
@@ -209,28 +231,49 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
   }
 
   private void saveContainerState(IProject project, IClasspathContainer container) {
+    containerStore.put(project.getName(), container);
     File containerStateFile = getContainerStateFile(project);
-    try (FileOutputStream is = new FileOutputStream(containerStateFile)) {
-      new MavenClasspathContainerSaveHelper().writeContainer(container, is);
-    } catch(IOException ex) {
-      log.error("Can't save classpath container state for " + project.getName(), ex); //$NON-NLS-1$
+    if(containerStateFile.exists()) {
+      // the state of an older version is kept until the store holds the container
+      containerStore.deleteAfterSave(containerStateFile.toPath());
     }
   }
 
   public IClasspathContainer getSavedContainer(IProject project) throws CoreException {
+    try {
+      IClasspathContainer container = containerStore.get(project.getName());
+      if(container != null) {
+        return container;
+      }
+    } catch(IOException ex) {
+      throw new CoreException(Status.error("Can't read classpath container state for " + project.getName(), ex));
+    }
+
+    // state of an older version, replaced by the store on the next classpath update
     File containerStateFile = getContainerStateFile(project);
     if(!containerStateFile.exists()) {
       return null;
     }
 
     try (FileInputStream is = new FileInputStream(containerStateFile)) {
-      ;
       return new MavenClasspathContainerSaveHelper().readContainer(is);
     } catch(IOException | ClassNotFoundException ex) {
       throw new CoreException(Status.error("Can't read classpath container state for " + project.getName(), ex));
     }
   }
 
+  /**
+   * Writes classpath container and module descriptor changes not saved yet.
+   */
+  public void saveContainerStates() {
+    containerStore.flush();
+    moduleInfoCache.flush();
+  }
+
+  ModuleInfoCache getModuleInfoCache() {
+    return moduleInfoCache;
+  }
+
   private IClasspathEntry[] getClasspath(IMavenProjectFacade projectFacade, final int kind,
       final Properties sourceAttachment, boolean uniquePaths, final IProgressMonitor monitor) throws CoreException {
 
@@ -551,6 +594,7 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
       }
 
       // remove classpath container state
+      containerStore.remove(project.getName());
       File containerState = getContainerStateFile(project);
       if(containerState.exists() && !containerState.delete()) {
         log.error("Can't delete " + containerState.getAbsolutePath()); //$NON-NLS-1$
@@ -688,15 +732,28 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
    * Resolves artifact from local repository. Returns null if the artifact is not available locally
    */
   private File getAttachedArtifactFile(ArtifactKey a, String classifier) {
+    AttachedArtifact key = new AttachedArtifact(maven.getLocalRepositoryPath(), a.groupId(), a.artifactId(),
+        a.version(), classifier);
+    AttachedArtifactFile cached = attachedArtifactFiles.get(key);
+    if(cached != null) {
+      if(cached.file() != null ? cached.file().canRead() : !cached.candidate().canRead()) {
+        return cached.file();
+      }
+      // deleted or added outside of m2e
+      attachedArtifactFiles.remove(key);
+    }
     // can't use Maven resolve methods since they mark artifacts as not-found even if they could be resolved remotely
     try {
       ArtifactRepository localRepository = maven.getLocalRepository();
       String relPath = maven.getArtifactPath(localRepository, a.groupId(), a.artifactId(), a.version(), "jar", //$NON-NLS-1$
           classifier);
-      File file = new File(localRepository.getBasedir(), relPath).getCanonicalFile();
+      File candidate = new File(localRepository.getBasedir(), relPath);
+      File file = candidate.getCanonicalFile();
       if(file.canRead()) {
+        attachedArtifactFiles.put(key, new AttachedArtifactFile(candidate, file));
         return file;
       }
+      attachedArtifactFiles.put(key, new AttachedArtifactFile(candidate, null));
     } catch(CoreException ex) {
       // fall through
     } catch(IOException ex) {
@@ -705,13 +762,33 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     return null;
   }
 
+  @Override
+  public void artifactInstalled(File repositoryBasedir, ArtifactKey baseArtifact, ArtifactKey artifact,
+      File artifactFile) {
+    if(artifact.classifier() != null) {
+      attachedArtifactFiles.entrySet().removeIf(e -> {
+        AttachedArtifact k = e.getKey();
+        if(k.groupId().equals(artifact.groupId()) && k.artifactId().equals(artifact.artifactId())
+            && artifact.classifier().equals(k.classifier())
+            && (k.version().equals(artifact.version()) || k.version().equals(baseArtifact.version()))) {
+          if(e.getValue().file() != null) {
+            javaDocPaths.remove(e.getValue().file());
+          }
+          return true;
+        }
+        return false;
+      });
+      javaDocPaths.remove(artifactFile);
+    }
+  }
+
   private String getJavaDocUrl(ArtifactKey base) {
     File file = getAttachedArtifactFile(base, CLASSIFIER_JAVADOC);
 
     return getJavaDocUrl(file);
   }
 
-  static String getJavaDocUrl(File file) {
+  String getJavaDocUrl(File file) {
     try {
       if(file != null) {
         URL fileUrl = file.toURI().toURL();
@@ -724,16 +801,25 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     return null;
   }
 
-  private static String getJavaDocPathInArchive(File file) {
+  private String getJavaDocPathInArchive(File file) {
+    long lastModified = file.lastModified();
+    JavaDocPath cached = javaDocPaths.get(file);
+    if(cached != null && cached.lastModified() == lastModified) {
+      return cached.path();
+    }
     try (ZipFile jarFile = new ZipFile(file);) {
       String marker = "package-list"; //$NON-NLS-1$
+      String path = ""; //$NON-NLS-1$
       for(Enumeration<? extends ZipEntry> en = jarFile.entries(); en.hasMoreElements();) {
         ZipEntry entry = en.nextElement();
         String entryName = entry.getName();
         if(entryName.endsWith(marker)) {
-          return entry.getName().substring(0, entryName.length() - marker.length());
+          path = entry.getName().substring(0, entryName.length() - marker.length());
+          break;
         }
       }
+      javaDocPaths.put(file, new JavaDocPath(lastModified, path));
+      return path;
     } catch(IOException ex) {
       // ignore
     }
@@ -741,6 +827,20 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     return ""; //$NON-NLS-1$
   }
 
+  private static record AttachedArtifact(String repository, String groupId, String artifactId, String version,
+      String classifier) {
+  }
+
+  /**
+   * @param candidate the file the artifact is expected at
+   * @param file the canonical file of the artifact or {@code null} if it was not available
+   */
+  private static record AttachedArtifactFile(File candidate, File file) {
+  }
+
+  private static record JavaDocPath(long lastModified, String path) {
+  }
+
   /**
    * this is for unit tests only!
    */
@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+
+
+/**
+ * Stores the Maven classpath containers of all projects in a single file. Jar paths and classpath attributes of
+ * different projects are mostly the same, all strings are therefore written once to a string table shared by all
+ * containers. The file is read in one go on first access, containers are only decoded when they are requested.
+ * Changes are written back shortly after they were made.
+ */
+public class ClasspathContainerStore {
+  private static final Logger log = LoggerFactory.getLogger(ClasspathContainerStore.class);
+
+  private static final int MAGIC = 0x4D32_4343; // "M2CC"
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final long SAVE_DELAY = 1000L;
+
+  private static final byte ENTRY_LIBRARY = 1;
+
+  private static final byte ENTRY_PROJECT = 2;
+
+  private final Path file;
+
+  private boolean loaded;
+
+  private boolean dirty;
+
+  private String[] strings;
+
+  private byte[] data;
+
+  /**
+   * Offset and length into {@link #data} of the containers not decoded yet, by project name.
+   */
+  private final Map<String, int[]> records = new HashMap<>();
+
+  /**
+   * Containers changed or decoded since the file was read, by project name.
+   */
+  private final Map<String, IClasspathContainer> containers = new HashMap<>();
+
+  /**
+   * Files replaced by the store, they are deleted once the store was written.
+   */
+  private final Set<Path> replacedFiles = new LinkedHashSet<>();
+
+  private final Job saveJob = Job.createSystem(Messages.ClasspathContainerStore_save_job_name, monitor -> save());
+
+  public ClasspathContainerStore(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * @return the saved container of the given project or {@code null} if there is none
+   */
+  public synchronized IClasspathContainer get(String project) throws IOException {
+    load();
+    IClasspathContainer container = containers.get(project);
+    if(container == null) {
+      int[] record = records.remove(project);
+      if(record != null) {
+        container = readContainer(new DataInputStream(new ByteArrayInputStream(data, record[0], record[1])));
+        containers.put(project, container);
+      }
+    }
+    return container;
+  }
+
+  public synchronized void put(String project, IClasspathContainer container) {
+    try {
+      load();
+    } catch(IOException ex) {
+      log.error("Can't read classpath container state " + file, ex); //$NON-NLS-1$
+    }
+    records.remove(project);
+    containers.put(project, container);
+    dirty = true;
+    saveJob.schedule(SAVE_DELAY);
+  }
+
+  /**
+   * Deletes the given file after the next successful save, e.g. the state of a container written by an older version
+   * and {@link #put(String, IClasspathContainer) put} into the store since.
+   */
+  public synchronized void deleteAfterSave(Path replaced) {
+    replacedFiles.add(replaced);
+  }
+
+  public synchronized void remove(String project) {
+    try {
+      load();
+    } catch(IOException ex) {
+      log.error("Can't read classpath container state " + file, ex); //$NON-NLS-1$
+    }
+    if(records.remove(project) != null | containers.remove(project) != null) {
+      dirty = true;
+      saveJob.schedule(SAVE_DELAY);
+    }
+  }
+
+  /**
+   * Writes all pending changes, waiting for a scheduled save if there is one.
+   */
+  public void flush() {
+    if(saveJob.cancel()) {
+      // not running, save what is pending now
+      save();
+    } else {
+      try {
+        saveJob.join();
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void load() throws IOException {
+    if(loaded) {
+      return;
+    }
+    loaded = true;
+    if(!Files.isRegularFile(file)) {
+      return;
+    }
+    byte[] bytes = Files.readAllBytes(file);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    if(bytes.length < 8 || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+      return;
+    }
+    String[] table = new String[readVarInt(in) + 1];
+    for(int i = 1; i < table.length; i++ ) {
+      byte[] string = new byte[readVarInt(in)];
+      in.readFully(string);
+      table[i] = new String(string, StandardCharsets.UTF_8);
+    }
+    strings = table;
+    data = bytes;
+    int count = readVarInt(in);
+    for(int i = 0; i < count; i++ ) {
+      String project = readString(in);
+      int length = readVarInt(in);
+      int offset = bytes.length - in.available();
+      records.put(project, new int[] {offset, length});
+      in.skipNBytes(length);
+    }
+  }
+
+  synchronized void save() {
+    if(!dirty) {
+      return;
+    }
+    dirty = false;
+    Map<String, IClasspathContainer> all = new LinkedHashMap<>(containers);
+    for(String project : new ArrayList<>(records.keySet())) {
+      try {
+        all.put(project, get(project));
+      } catch(IOException ex) {
+        log.error("Can't read classpath container state for " + project, ex); //$NON-NLS-1$
+      }
+    }
+    // everything is decoded now
+    records.clear();
+    data = null;
+    List<Path> replaced = new ArrayList<>(replacedFiles);
+    replacedFiles.clear();
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+    try {
+      StringTable table = new StringTable();
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+      DataOutputStream out = new DataOutputStream(buffer);
+      Map<String, ByteArrayOutputStream> written = new LinkedHashMap<>();
+      for(Map.Entry<String, IClasspathContainer> entry : all.entrySet()) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(1024);
+        try {
+          writeContainer(new DataOutputStream(record), table, entry.getValue());
+          written.put(entry.getKey(), record);
+        } catch(IOException ex) {
+          log.error("Can't save classpath container state for " + entry.getKey(), ex); //$NON-NLS-1$
+        }
+      }
+      writeVarInt(out, written.size());
+      for(Map.Entry<String, ByteArrayOutputStream> entry : written.entrySet()) {
+        table.write(out, entry.getKey());
+        writeVarInt(out, entry.getValue().size());
+        entry.getValue().writeTo(out);
+      }
+      try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+        DataOutputStream header = new DataOutputStream(os);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        writeVarInt(header, table.values.size());
+        for(String value : table.values) {
+          byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+          writeVarInt(header, bytes.length);
+          header.write(bytes);
+        }
+        buffer.writeTo(header);
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch(IOException ex) {
+      log.error("Can't save classpath container state " + file, ex); //$NON-NLS-1$
+      // the replaced files still hold the only saved state, try again on the next save
+      replacedFiles.addAll(replaced);
+      dirty = true;
+      return;
+    }
+    for(Path path : replaced) {
+      try {
+        Files.deleteIfExists(path);
+      } catch(IOException ex) {
+        log.error("Can't delete " + path, ex); //$NON-NLS-1$
+      }
+    }
+  }
+
+  private static void writeContainer(DataOutputStream out, StringTable table, IClasspathContainer container)
+      throws IOException {
+    writePath(out, table, container.getPath());
+    IClasspathEntry[] entries = container.getClasspathEntries();
+    writeVarInt(out, entries.length);
+    for(IClasspathEntry entry : entries) {
+      switch(entry.getEntryKind()) {
+        case IClasspathEntry.CPE_LIBRARY:
+          out.writeByte(ENTRY_LIBRARY);
+          writePath(out, table, entry.getPath());
+          writePath(out, table, entry.getSourceAttachmentPath());
+          writePath(out, table, entry.getSourceAttachmentRootPath());
+          break;
+        case IClasspathEntry.CPE_PROJECT:
+          out.writeByte(ENTRY_PROJECT);
+          writePath(out, table, entry.getPath());
+          out.writeBoolean(entry.combineAccessRules());
+          break;
+        default:
+          throw new IOException("Unsupported classpath entry " + entry); //$NON-NLS-1$
+      }
+      out.writeBoolean(entry.isExported());
+      IAccessRule[] accessRules = entry.getAccessRules();
+      writeVarInt(out, accessRules.length);
+      for(IAccessRule rule : accessRules) {
+        writePath(out, table, rule.getPattern());
+        writeVarInt(out, rule.getKind() | (rule.ignoreIfBetter() ? IAccessRule.IGNORE_IF_BETTER : 0));
+      }
+      IClasspathAttribute[] attributes = entry.getExtraAttributes();
+      writeVarInt(out, attributes.length);
+      for(IClasspathAttribute attribute : attributes) {
+        table.write(out, attribute.getName());
+        table.write(out, attribute.getValue());
+      }
+    }
+  }
+
+  private IClasspathContainer readContainer(DataInputStream in) throws IOException {
+    IPath path = readPath(in);
+    IClasspathEntry[] entries = new IClasspathEntry[readVarInt(in)];
+    for(int i = 0; i < entries.length; i++ ) {
+      byte kind = in.readByte();
+      IPath entryPath = readPath(in);
+      IPath sourceAttachmentPath = null;
+      IPath sourceAttachmentRootPath = null;
+      boolean combineAccessRules = false;
+      if(kind == ENTRY_LIBRARY) {
+        sourceAttachmentPath = readPath(in);
+        sourceAttachmentRootPath = readPath(in);
+      } else if(kind == ENTRY_PROJECT) {
+        combineAccessRules = in.readBoolean();
+      } else {
+        throw new IOException("Unknown classpath entry kind " + kind); //$NON-NLS-1$
+      }
+      boolean exported = in.readBoolean();
+      IAccessRule[] accessRules = new IAccessRule[readVarInt(in)];
+      for(int j = 0; j < accessRules.length; j++ ) {
+        IPath pattern = readPath(in);
+        accessRules[j] = JavaCore.newAccessRule(pattern, readVarInt(in));
+      }
+      IClasspathAttribute[] attributes = new IClasspathAttribute[readVarInt(in)];
+      for(int j = 0; j < attributes.length; j++ ) {
+        String name = readString(in);
+        attributes[j] = JavaCore.newClasspathAttribute(name, readString(in));
+      }
+      entries[i] = kind == ENTRY_LIBRARY
+          ? JavaCore.newLibraryEntry(entryPath, sourceAttachmentPath, sourceAttachmentRootPath, accessRules,
+              attributes, exported)
+          : JavaCore.newProjectEntry(entryPath, accessRules, combineAccessRules, attributes, exported);
+    }
+    return new MavenClasspathContainer(path, entries);
+  }
+
+  private static void writePath(DataOutputStream out, StringTable table, IPath path) throws IOException {
+    table.write(out, path != null ? path.toPortableString() : null);
+  }
+
+  private IPath readPath(DataInputStream in) throws IOException {
+    String path = readString(in);
+    return path != null ? IPath.fromPortableString(path) : null;
+  }
+
+  private String readString(DataInputStream in) throws IOException {
+    int index = readVarInt(in);
+    if(index >= strings.length) {
+      throw new IOException("Invalid string reference " + index); //$NON-NLS-1$
+    }
+    return strings[index]; // index 0 is null
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    for(int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable length integer"); //$NON-NLS-1$
+  }
+
+  private static final class StringTable {
+
+    final Map<String, Integer> indexes = new HashMap<>();
+
+    final List<String> values = new ArrayList<>();
+
+    void write(DataOutputStream out, String value) throws IOException {
+      if(value == null) {
+        writeVarInt(out, 0);
+        return;
+      }
+      Integer index = indexes.get(value);
+      if(index == null) {
+        values.add(value);
+        index = values.size();
+        indexes.put(value, index);
+      }
+      writeVarInt(out, index);
+    }
+  }
+}
@@ -21,7 +21,18 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +43,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -63,6 +75,20 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
 
   private static final long SCHEDULE_INTERVAL = 1000L;
 
+  /**
+   * Number of requests downloaded concurrently
+   */
+  private static final int PARALLELISM = Math.max(1, Integer.getInteger("m2e.jdt.downloadSources.parallelism", 4)); //$NON-NLS-1$
+
+  /**
+   * Number of downloaded projects and package fragment roots whose classpath is updated at once, so attachments show up
+   * while the remaining requests are still downloaded
+   */
+  private static final int UPDATE_BATCH_SIZE = Math.max(1,
+      Integer.getInteger("m2e.jdt.downloadSources.updateBatchSize", 20)); //$NON-NLS-1$
+
+  private static final long POLL_INTERVAL = 100L;
+
   private static class DownloadRequest {
     final IProject project;
 
@@ -123,11 +149,17 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
 
   private final BlockingQueue<DownloadRequest> queue = new LinkedBlockingQueue<>();
 
-  private Set<DownloadRequest> requests = new HashSet<>();
+  private final Set<DownloadRequest> requests = ConcurrentHashMap.newKeySet();
 
-  private final Set<IProject> toUpdateMavenProjects = new HashSet<>();
+  private final Set<IProject> toUpdateMavenProjects = ConcurrentHashMap.newKeySet();
 
-  private final Map<IPackageFragmentRoot, Attachments> toUpdateAttachments = new HashMap<>();
+  private final Map<IPackageFragmentRoot, Attachments> toUpdateAttachments = new ConcurrentHashMap<>();
+
+  /**
+   * Sources and javadoc artifacts downloaded, or being downloaded, in the current run, shared by all projects requesting
+   * them
+   */
+  private final Map<ArtifactKey, CompletableFuture<File>> downloads = new ConcurrentHashMap<>();
 
   public DownloadSourcesJob(BuildPathManager manager) {
     super(Messages.DownloadSourcesJob_job_download);
@@ -140,42 +172,73 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
 
   @Override
   public IStatus run(IProgressMonitor monitor) {
-    int totalWork = 2 * queue.size();
-    SubMonitor subMonitor = SubMonitor.convert(monitor, totalWork);
-    while(!queue.isEmpty() && !monitor.isCanceled()) {
-      final DownloadRequest request = queue.poll();
-      try {
-        // Process requests one by one to not fill the maven context with too many projects at once and retain a lot of RAM
-        IStatus status = maven.execute((context, aMonitor) -> downloadFilesAndPopulateToUpdate(request, aMonitor),
-            subMonitor.split(1));
+    SubMonitor subMonitor = SubMonitor.convert(monitor, 2 * queue.size() + 1);
+    AtomicBoolean aborted = new AtomicBoolean();
+    // progress is reported by this thread only, the downloads just check for cancellation
+    IProgressMonitor downloadMonitor = new NullProgressMonitor() {
+      @Override
+      public boolean isCanceled() {
+        return monitor.isCanceled() || aborted.get();
+      }
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM, runnable -> {
+      Thread thread = new Thread(runnable, getName());
+      thread.setDaemon(true);
+      return thread;
+    });
+    CompletionService<IStatus> completionService = new ExecutorCompletionService<>(executor);
+    int running = 0;
+    IStatus result = null;
+    boolean interrupted = false;
+    try {
+      while((running > 0 || !queue.isEmpty()) && !monitor.isCanceled()) {
+        DownloadRequest request;
+        while(running < PARALLELISM && (request = queue.poll()) != null) {
+          DownloadRequest r = request;
+          // Process requests one by one to not fill the maven context with too many projects at once and retain a lot of RAM
+          completionService.submit(
+              () -> maven.execute((context, aMonitor) -> downloadFilesAndPopulateToUpdate(r, aMonitor), downloadMonitor));
+          running++ ;
+        }
+        Future<IStatus> done = completionService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+        if(done == null) {
+          continue;
+        }
+        running-- ;
+        subMonitor.setWorkRemaining(2 * (queue.size() + running) + 2);
+        subMonitor.worked(1);
+        IStatus status = getStatus(done);
         if(!status.isOK()) {
           // or maybe just log and ignore?
-          queue.clear();
-          requests.clear();
-          toUpdateAttachments.clear();
-          toUpdateMavenProjects.clear();
-          return status;
+          result = status;
+          break;
+        }
+        if(toUpdateMavenProjects.size() + toUpdateAttachments.size() >= UPDATE_BATCH_SIZE) {
+          updateClasspath(subMonitor.split(1));
         }
-      } catch(CoreException ex) {
-        return ex.getStatus();
       }
+    } catch(InterruptedException ex) {
+      interrupted = true;
+      result = Status.CANCEL_STATUS;
+    } finally {
+      // downloads still running must not add classpath updates after they were cleared
+      aborted.set(true);
+      executor.shutdownNow();
+      interrupted |= !awaitTermination(executor);
     }
-    if(monitor.isCanceled()) {
-      queue.clear();
-      requests.clear();
-      toUpdateAttachments.clear();
-      toUpdateMavenProjects.clear();
-      return Status.CANCEL_STATUS;
+    if(interrupted) {
+      Thread.currentThread().interrupt();
     }
-
-    if(!toUpdateAttachments.isEmpty() || !toUpdateMavenProjects.isEmpty()) {
-      // consider update classpath after each individual download?
-      // pro: user gets sources progressively (then faster)
-      // con: more save operations
-      updateClasspath(manager, toUpdateMavenProjects, toUpdateAttachments, subMonitor.split(totalWork / 2));
-      toUpdateAttachments.clear();
-      toUpdateMavenProjects.clear();
+    if(result == null && monitor.isCanceled()) {
+      result = Status.CANCEL_STATUS;
+    }
+    if(result != null) {
+      clear();
+      return result;
     }
+
+    updateClasspath(subMonitor.split(1));
+    downloads.clear();
     // updateClasspath might has added new requests to the queue.
     requests.clear(); // Retain in requests all elements in queue (in an efficient manner)
     requests.addAll(queue);
@@ -183,6 +246,55 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
     return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
   }
 
+  /**
+   * @return false if the current thread was interrupted while waiting
+   */
+  private static boolean awaitTermination(ExecutorService executor) {
+    try {
+      while(!executor.awaitTermination(POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+        log.debug("Waiting for aborted sources and javadoc downloads"); //$NON-NLS-1$
+      }
+      return true;
+    } catch(InterruptedException ex) {
+      return false;
+    }
+  }
+
+  private static IStatus getStatus(Future<IStatus> done) throws InterruptedException {
+    try {
+      return done.get();
+    } catch(ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if(cause instanceof CoreException coreException) {
+        return coreException.getStatus();
+      } else if(cause instanceof OperationCanceledException) {
+        return Status.CANCEL_STATUS;
+      }
+      return Status.error("Could not download sources or javadoc", cause);
+    }
+  }
+
+  private void clear() {
+    queue.clear();
+    requests.clear();
+    downloads.clear();
+    toUpdateAttachments.clear();
+    toUpdateMavenProjects.clear();
+  }
+
+  /**
+   * Updates the classpath of the projects and package fragment roots downloaded so far, downloads continue meanwhile.
+   */
+  private void updateClasspath(IProgressMonitor monitor) {
+    Set<IProject> projects = new HashSet<>(toUpdateMavenProjects);
+    toUpdateMavenProjects.removeAll(projects);
+    Map<IPackageFragmentRoot, Attachments> attachments = new HashMap<>(toUpdateAttachments);
+    attachments.forEach(toUpdateAttachments::remove);
+    if(!projects.isEmpty() || !attachments.isEmpty()) {
+      updateClasspath(manager, projects, attachments, monitor);
+    }
+  }
+
   private static void updateClasspath(BuildPathManager manager, Set<IProject> toUpdateMavenProjects,
       Map<IPackageFragmentRoot, Attachments> toUpdateAttachments, IProgressMonitor monitor) {
     SubMonitor updateMonitor = SubMonitor.convert(monitor, Messages.DownloadSourcesJob_job_associateWithClasspath,
@@ -230,7 +342,7 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
         if(request.fragment == null) {
           log.warn(
               "IPackageFragmentRoot is missing, skipping javadoc/source attachment for project " + request.project);
-        } else {
+        } else if(files != null) {
           toUpdateAttachments.put(request.fragment, files);
         }
       }
@@ -305,14 +417,33 @@ class DownloadSourcesJob extends MavenJob implements IBackgroundProcessingQueue
 
   private File download(ArtifactKey artifact, List<ArtifactRepository> repositories, IProgressMonitor monitor)
       throws CoreException {
-    Artifact resolved = maven.resolve(artifact.groupId(), //
-        artifact.artifactId(), //
-        artifact.version(), //
-        "jar" /*type*/, // //$NON-NLS-1$
-        artifact.classifier(), //
-        repositories, //
-        monitor);
-    return resolved.getFile();
+    CompletableFuture<File> download = new CompletableFuture<>();
+    CompletableFuture<File> existing = downloads.putIfAbsent(artifact, download);
+    if(existing != null) {
+      // already downloaded, or being downloaded, for an other project
+      try {
+        return existing.join();
+      } catch(CompletionException ex) {
+        // the other project resolved from its own repositories, try the repositories of this one
+        return download(artifact, repositories, monitor);
+      }
+    }
+    try {
+      Artifact resolved = maven.resolve(artifact.groupId(), //
+          artifact.artifactId(), //
+          artifact.version(), //
+          "jar" /*type*/, // //$NON-NLS-1$
+          artifact.classifier(), //
+          repositories, //
+          monitor);
+      download.complete(resolved.getFile());
+      return resolved.getFile();
+    } catch(CoreException | RuntimeException ex) {
+      // failed downloads are not shared, later requests retry with their own repositories
+      downloads.remove(artifact, download);
+      download.completeExceptionally(ex);
+      throw ex;
+    }
   }
 
   private void scheduleDownload(IProject project, IPackageFragmentRoot fragment, ArtifactKey artifact,
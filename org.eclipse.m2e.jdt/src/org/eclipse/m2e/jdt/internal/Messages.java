@@ -30,6 +30,8 @@ public class Messages extends NLS {
 
   public static String BuildPathManager_update_module_path_job_name;
 
+  public static String ClasspathContainerStore_save_job_name;
+
   public static String DownloadSourcesJob_job_download;
 
   public static String DownloadSourcesJob_job_associateWithClasspath;
@@ -44,6 +46,8 @@ public class Messages extends NLS {
 
   public static String MavenRuntimeClasspathProvider_error_unsupported;
 
+  public static String ModuleInfoCache_save_job_name;
+
   public static String OpenJavaDocAction_error_download;
 
   public static String OpenJavaDocAction_error_message;
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+
+/**
+ * Workspace wide cache of the module descriptors of jars, shared by all projects. Descriptors are keyed by the jar
+ * path, size, last modification time and the compliance level they were read for. Jars that are not multi-release
+ * have the same descriptor for all compliance levels and are stored once with {@link #ANY_COMPLIANCE}. The cache is
+ * read on first access and written back shortly after it was changed.
+ */
+class ModuleInfoCache {
+  private static final Logger log = LoggerFactory.getLogger(ModuleInfoCache.class);
+
+  /**
+   * Compliance level of descriptors read from jars that are not multi-release
+   */
+  static final int ANY_COMPLIANCE = 0;
+
+  private static final int MAGIC = 0x4D32_4D49; // "M2MI"
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final long SAVE_DELAY = 5000L;
+
+  private final Path file;
+
+  private volatile boolean loaded;
+
+  private volatile boolean dirty;
+
+  /**
+   * Cached jars by absolute path
+   */
+  private final Map<String, CachedJar> jars = new ConcurrentHashMap<>();
+
+  private final Job saveJob = Job.createSystem(Messages.ModuleInfoCache_save_job_name, monitor -> save());
+
+  ModuleInfoCache(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * @return the descriptor cached for the current content of the given jar and compliance level or {@code null}
+   */
+  InternalModuleInfo get(File jar, int compliance) {
+    load();
+    CachedJar cached = jars.get(jar.getAbsolutePath());
+    if(cached == null) {
+      return null;
+    }
+    BasicFileAttributes attributes = readAttributes(jar);
+    if(attributes == null || !cached.matches(attributes)) {
+      return null;
+    }
+    InternalModuleInfo info = cached.infos.get(ANY_COMPLIANCE);
+    return info != null ? info : cached.infos.get(compliance);
+  }
+
+  void put(File jar, int compliance, InternalModuleInfo info) {
+    BasicFileAttributes attributes = readAttributes(jar);
+    if(attributes == null) {
+      return;
+    }
+    load();
+    CachedJar cached = jars.compute(jar.getAbsolutePath(),
+        (path, c) -> c != null && c.matches(attributes) ? c
+            : new CachedJar(attributes.size(), attributes.lastModifiedTime().toMillis()));
+    cached.infos.put(compliance, info);
+    dirty = true;
+    saveJob.schedule(SAVE_DELAY);
+  }
+
+  /**
+   * Writes all pending changes, waiting for a scheduled save if there is one.
+   */
+  void flush() {
+    if(saveJob.cancel()) {
+      save();
+    } else {
+      try {
+        saveJob.join();
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static BasicFileAttributes readAttributes(File jar) {
+    try {
+      return Files.readAttributes(jar.toPath(), BasicFileAttributes.class);
+    } catch(IOException ex) {
+      return null;
+    }
+  }
+
+  private void load() {
+    if(loaded) {
+      return;
+    }
+    synchronized(this) {
+      if(loaded) {
+        return;
+      }
+      if(Files.isRegularFile(file)) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+          if(in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION) {
+            String[] strings = new String[in.readInt()];
+            for(int i = 0; i < strings.length; i++ ) {
+              strings[i] = in.readUTF();
+            }
+            int count = in.readInt();
+            for(int i = 0; i < count; i++ ) {
+              String path = strings[in.readInt()];
+              CachedJar cached = new CachedJar(in.readLong(), in.readLong());
+              int infos = in.readInt();
+              for(int j = 0; j < infos; j++ ) {
+                int compliance = in.readInt();
+                String name = strings[in.readInt()];
+                List<String> requires = readStrings(in, strings);
+                List<String> uses = readStrings(in, strings);
+                List<String> provides = readStrings(in, strings);
+                cached.infos.put(compliance, new InternalModuleInfo(name, requires, uses, provides));
+              }
+              jars.putIfAbsent(path, cached);
+            }
+          }
+        } catch(IOException | RuntimeException ex) {
+          log.warn("Could not read module descriptor cache {}", file, ex);
+          jars.clear();
+        }
+      }
+      loaded = true;
+    }
+  }
+
+  synchronized void save() {
+    if(!dirty) {
+      return;
+    }
+    dirty = false;
+    Map<String, Integer> stringIndex = new HashMap<>();
+    List<String> strings = new ArrayList<>();
+    Map<String, CachedJar> snapshot = new HashMap<>(jars);
+    // jars removed from the local repository are not kept
+    snapshot.keySet().removeIf(path -> !new File(path).isFile());
+    for(Map.Entry<String, CachedJar> entry : snapshot.entrySet()) {
+      index(stringIndex, strings, entry.getKey());
+      for(InternalModuleInfo info : entry.getValue().infos.values()) {
+        index(stringIndex, strings, info.name);
+        info.requiredModuleNames.forEach(s -> index(stringIndex, strings, s));
+        info.usedServiceNames.forEach(s -> index(stringIndex, strings, s));
+        info.providedServiceNames.forEach(s -> index(stringIndex, strings, s));
+      }
+    }
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(strings.size());
+        for(String string : strings) {
+          out.writeUTF(string);
+        }
+        out.writeInt(snapshot.size());
+        for(Map.Entry<String, CachedJar> entry : snapshot.entrySet()) {
+          CachedJar cached = entry.getValue();
+          Map<Integer, InternalModuleInfo> infos = new HashMap<>(cached.infos);
+          out.writeInt(stringIndex.get(entry.getKey()));
+          out.writeLong(cached.size);
+          out.writeLong(cached.lastModified);
+          out.writeInt(infos.size());
+          for(Map.Entry<Integer, InternalModuleInfo> info : infos.entrySet()) {
+            out.writeInt(info.getKey());
+            out.writeInt(stringIndex.get(info.getValue().name));
+            writeStrings(out, stringIndex, info.getValue().requiredModuleNames);
+            writeStrings(out, stringIndex, info.getValue().usedServiceNames);
+            writeStrings(out, stringIndex, info.getValue().providedServiceNames);
+          }
+        }
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch(IOException | RuntimeException ex) {
+      log.warn("Could not write module descriptor cache {}", file, ex);
+    }
+  }
+
+  private static void index(Map<String, Integer> stringIndex, List<String> strings, String value) {
+    stringIndex.computeIfAbsent(value, v -> {
+      strings.add(v);
+      return strings.size() - 1;
+    });
+  }
+
+  private static void writeStrings(DataOutputStream out, Map<String, Integer> stringIndex, List<String> values)
+      throws IOException {
+    out.writeInt(values.size());
+    for(String value : values) {
+      out.writeInt(stringIndex.get(value));
+    }
+  }
+
+  private static List<String> readStrings(DataInputStream in, String[] strings) throws IOException {
+    int size = in.readInt();
+    List<String> values = new ArrayList<>(size);
+    for(int i = 0; i < size; i++ ) {
+      values.add(strings[in.readInt()]);
+    }
+    return values;
+  }
+
+  private static final class CachedJar {
+
+    final long size;
+
+    final long lastModified;
+
+    /**
+     * Descriptors by compliance level
+     */
+    final Map<Integer, InternalModuleInfo> infos = new ConcurrentHashMap<>();
+
+    CachedJar(long size, long lastModified) {
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+    }
+  }
+}
@@ -16,6 +16,7 @@ package org.eclipse.m2e.jdt.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -70,6 +71,7 @@ import org.eclipse.m2e.core.project.configurator.ProjectConfigurationRequest;
 import org.eclipse.m2e.jdt.IClasspathDescriptor;
 import org.eclipse.m2e.jdt.IClasspathEntryDescriptor;
 import org.eclipse.m2e.jdt.IClasspathManager;
+import org.eclipse.m2e.jdt.MavenJdtPlugin;
 
 
 /**
@@ -124,13 +126,18 @@ public class ModuleSupport {
       return;
     }
 
+    Map<IPath, InternalModuleInfo> libraryModuleInfos = getLibraryModuleInfos(classpath, monitor, targetCompliance);
+
     Map<String, InternalModuleInfo> entryModuleInfos = new LinkedHashMap<>();
     Map<String, IClasspathEntryDescriptor> entryDescriptors = new LinkedHashMap<>();
     for(IClasspathEntryDescriptor entryDescriptor : classpath.getEntryDescriptors()) {
       if(monitor.isCanceled()) {
         return;
       }
-      InternalModuleInfo entryModuleInfo = getModuleInfo(entryDescriptor, monitor, targetCompliance);
+      InternalModuleInfo entryModuleInfo = libraryModuleInfos.get(entryDescriptor.getPath());
+      if(entryModuleInfo == null) {
+        entryModuleInfo = getModuleInfo(entryDescriptor, monitor, targetCompliance);
+      }
       if(entryModuleInfo != null) {
         entryModuleInfos.put(entryModuleInfo.name, entryModuleInfo);//potentially suppresses duplicate entries from the same workspace project, with different classifiers
         entryDescriptors.put(entryModuleInfo.name, entryDescriptor);
@@ -195,11 +202,35 @@ public class ModuleSupport {
     };
   }
 
+  /**
+   * Reads the module descriptors of all library entries in parallel, jars not changed since they were last read are
+   * taken from the workspace wide {@link ModuleInfoCache}.
+   */
+  private static Map<IPath, InternalModuleInfo> getLibraryModuleInfos(IClasspathDescriptor classpath,
+      IProgressMonitor monitor, int targetCompliance) {
+    ModuleInfoCache cache = getModuleInfoCache();
+    List<IPath> libraries = classpath.getEntryDescriptors().stream()
+        .filter(entry -> IClasspathEntry.CPE_LIBRARY == entry.getEntryKind()).map(IClasspathEntryDescriptor::getPath)
+        .distinct().collect(Collectors.toList());
+    return libraries.parallelStream().filter(path -> !monitor.isCanceled())
+        .map(path -> new SimpleImmutableEntry<>(path, getModuleInfo(cache, path.toFile(), targetCompliance)))
+        .filter(entry -> entry.getValue() != null)
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  private static ModuleInfoCache getModuleInfoCache() {
+    MavenJdtPlugin plugin = MavenJdtPlugin.getDefault();
+    if(plugin != null && plugin.getBuildpathManager() instanceof BuildPathManager buildPathManager) {
+      return buildPathManager.getModuleInfoCache();
+    }
+    return null;
+  }
+
   private static InternalModuleInfo getModuleInfo(IClasspathEntryDescriptor entry, IProgressMonitor monitor,
       int targetCompliance) {
     if(entry != null && !monitor.isCanceled()) {
       if(IClasspathEntry.CPE_LIBRARY == entry.getEntryKind()) {
-        return getModuleInfo(entry.getPath().toFile(), targetCompliance);
+        return getModuleInfo(getModuleInfoCache(), entry.getPath().toFile(), targetCompliance);
       } else if(IClasspathEntry.CPE_PROJECT == entry.getEntryKind()) {
         return getModuleInfo(getJavaProject(entry.getPath()), monitor);
       }
@@ -233,10 +264,14 @@ public class ModuleSupport {
     return null;
   }
 
-  private static InternalModuleInfo getModuleInfo(File file, int targetCompliance) {
+  private static InternalModuleInfo getModuleInfo(ModuleInfoCache cache, File file, int targetCompliance) {
     if(!file.isFile()) {
       return null;
     }
+    InternalModuleInfo cached = cache != null ? cache.get(file, targetCompliance) : null;
+    if(cached != null) {
+      return cached;
+    }
     try (JarFile jar = new JarFile(file, false)) {
       Manifest manifest = jar.getManifest();
       boolean isMultiRelease = false;
@@ -244,6 +279,8 @@ public class ModuleSupport {
         isMultiRelease = "true".equalsIgnoreCase(manifest.getMainAttributes().getValue("Multi-Release"));
       }
       int compliance = isMultiRelease ? targetCompliance : 8;
+      // other jars have the same descriptor for all compliance levels
+      int cacheCompliance = isMultiRelease ? targetCompliance : ModuleInfoCache.ANY_COMPLIANCE;
       for(int i = compliance; i >= 8; i-- ) {
         String filename;
         if(i == 8) {
@@ -256,7 +293,7 @@ public class ModuleSupport {
         if(reader != null) {
           IModule module = reader.getModuleDeclaration();
           if(module != null) {
-            return InternalModuleInfo.fromDeclaration(module);
+            return cache(cache, file, cacheCompliance, InternalModuleInfo.fromDeclaration(module));
           }
         }
       }
@@ -265,15 +302,23 @@ public class ModuleSupport {
         // rather than using AutomaticModuleNaming.determineAutomaticModuleName(String)
         String automaticModuleName = manifest.getMainAttributes().getValue("Automatic-Module-Name");
         if(automaticModuleName != null) {
-          return InternalModuleInfo.withAutomaticName(automaticModuleName);
+          return cache(cache, file, cacheCompliance, InternalModuleInfo.withAutomaticName(automaticModuleName));
         }
       }
+      return cache(cache, file, cacheCompliance, InternalModuleInfo.withAutomaticNameFromFile(file));
     } catch(ClassFormatException | IOException ex) {
       log.error(ex.getMessage(), ex);
     }
     return InternalModuleInfo.withAutomaticNameFromFile(file);
   }
 
+  private static InternalModuleInfo cache(ModuleInfoCache cache, File file, int compliance, InternalModuleInfo info) {
+    if(cache != null) {
+      cache.put(file, compliance, info);
+    }
+    return info;
+  }
+
   private static IJavaProject getJavaProject(IPath projectPath) {
     if(projectPath == null || projectPath.isEmpty()) {
       return null;
@@ -17,7 +17,11 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -35,10 +39,16 @@ import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenProj
 
 public class MavenBuildProjectDataConnection {
 
-  private static record MavenBuildConnectionData(Map<ArtifactKey, MavenProjectBuildData> projects,
+  private static record MavenBuildConnectionData(
+      Map<ArtifactKey, CompletableFuture<MavenProjectBuildData>> projects, MavenBuildTimeline timeline,
       MavenBuildConnection connection) {
   }
 
+  /**
+   * Maximum time in milliseconds to wait for the data of a project whose GAV was already printed on the console.
+   */
+  private static final long BUILD_PROJECT_TIMEOUT = Long.getLong("m2e.launch.buildProjectData.timeout", 10_000);
+
   private static final Map<ILaunch, MavenBuildConnectionData> LAUNCH_PROJECT_DATA = new ConcurrentHashMap<>();
 
   static {
@@ -72,13 +82,17 @@ public class MavenBuildProjectDataConnection {
     try {
       if(MavenLaunchUtils.getMavenRuntime(launch.getLaunchConfiguration()) instanceof MavenEmbeddedRuntime) {
 
-        Map<ArtifactKey, MavenProjectBuildData> projects = new ConcurrentHashMap<>();
+        Map<ArtifactKey, CompletableFuture<MavenProjectBuildData>> projects = new ConcurrentHashMap<>();
+        MavenBuildTimeline timeline = new MavenBuildTimeline();
 
         MavenBuildConnection connection = M2EMavenBuildDataBridge.prepareConnection(
             launch.getLaunchConfiguration().getName(),
-            d -> projects.put(new ArtifactKey(d.groupId, d.artifactId, d.version, null), d));
+            d -> getProjectFuture(projects, new ArtifactKey(d.groupId, d.artifactId, d.version, null)).complete(d),
+            timeline::accept);
+        // projects that were not built by Maven won't ever arrive
+        connection.getReadCompletion().thenRun(() -> projects.values().forEach(f -> f.complete(null)));
 
-        if(LAUNCH_PROJECT_DATA.putIfAbsent(launch, new MavenBuildConnectionData(projects, connection)) != null) {
+        if(LAUNCH_PROJECT_DATA.putIfAbsent(launch, new MavenBuildConnectionData(projects, timeline, connection)) != null) {
           connection.close();
           throw new IllegalStateException(
               "Maven bridge already created for launch of" + launch.getLaunchConfiguration().getName());
@@ -95,13 +109,35 @@ public class MavenBuildProjectDataConnection {
       return null;
     }
     ArtifactKey key = new ArtifactKey(groupId, artifactId, version, null);
-    while(true) {
-      MavenProjectBuildData buildProject = build.projects().get(key);
-      if(buildProject != null || build.connection().isReadCompleted()) {
-        return buildProject;
-      }
-      Thread.onSpinWait(); // Await completion of project data read. It has to become available soon, since its GAV was printed on the console
+    CompletableFuture<MavenProjectBuildData> buildProject = getProjectFuture(build.projects(), key);
+    if(build.connection().isReadCompleted()) {
+      return buildProject.getNow(null);
+    }
+    try {
+      // It has to become available soon, since its GAV was printed on the console
+      return buildProject.get(BUILD_PROJECT_TIMEOUT, TimeUnit.MILLISECONDS);
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch(ExecutionException | TimeoutException ex) {
+      return null;
     }
   }
 
+  /**
+   * Returns the timeline of the mojos executed so far by the Maven build of the given launch. The timeline is only
+   * available for launches of the embedded Maven runtime and as long as the launch was not removed.
+   *
+   * @return the timeline or {@code null} if there is none for the given launch
+   */
+  public static MavenBuildTimeline getBuildTimeline(ILaunch launch) {
+    MavenBuildConnectionData build = LAUNCH_PROJECT_DATA.get(launch);
+    return build != null ? build.timeline() : null;
+  }
+
+  private static CompletableFuture<MavenProjectBuildData> getProjectFuture(
+      Map<ArtifactKey, CompletableFuture<MavenProjectBuildData>> projects, ArtifactKey key) {
+    return projects.computeIfAbsent(key, k -> new CompletableFuture<>());
+  }
+
 }
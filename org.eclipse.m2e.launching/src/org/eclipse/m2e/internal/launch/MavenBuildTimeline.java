@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenMojoExecutionEvent;
+
+
+/**
+ * Timeline of the mojo executions of one Maven build, aggregated from the events sent by the launched Maven JVM. All
+ * times are nanoseconds relative to the first mojo started in the build.
+ */
+public final class MavenBuildTimeline {
+
+  /**
+   * One mojo executed for a project, {@code end} is {@code -1} as long as the mojo is still running.
+   */
+  public static record MojoExecution(ArtifactKey project, String mojo, String threadName, long start, long end,
+      boolean failed) {
+
+    public boolean isRunning() {
+      return end < 0;
+    }
+
+    public Duration duration() {
+      return isRunning() ? Duration.ZERO : Duration.ofNanos(end - start);
+    }
+  }
+
+  /**
+   * The time span a project was built, from the start of its first to the end of its last mojo.
+   */
+  public static record ProjectExecution(ArtifactKey project, long start, long end) {
+
+    public Duration duration() {
+      return Duration.ofNanos(end - start);
+    }
+  }
+
+  private record RunningKey(ArtifactKey project, String mojo) {
+  }
+
+  private final List<MojoExecution> executions = new ArrayList<>();
+
+  private final Map<RunningKey, Integer> running = new HashMap<>();
+
+  private long origin = Long.MIN_VALUE;
+
+  public synchronized void accept(MavenMojoExecutionEvent event) {
+    if(origin == Long.MIN_VALUE) {
+      origin = event.nanoTime;
+    }
+    long time = event.nanoTime - origin;
+    ArtifactKey project = new ArtifactKey(event.groupId, event.artifactId, event.version, null);
+    RunningKey key = new RunningKey(project, event.mojo);
+    switch(event.kind) {
+      case STARTED -> {
+        running.put(key, executions.size());
+        executions.add(new MojoExecution(project, event.mojo, event.threadName, time, -1, false));
+      }
+      case SUCCEEDED, FAILED -> {
+        Integer index = running.remove(key);
+        if(index != null) {
+          MojoExecution started = executions.get(index);
+          executions.set(index, new MojoExecution(project, event.mojo, started.threadName(), started.start(), time,
+              event.kind == MavenMojoExecutionEvent.Kind.FAILED));
+        }
+      }
+    }
+  }
+
+  /**
+   * @return all mojo executions in the order they were started
+   */
+  public synchronized List<MojoExecution> getMojoExecutions() {
+    return List.copyOf(executions);
+  }
+
+  /**
+   * @return the build time span of each project in the order the projects were started
+   */
+  public synchronized List<ProjectExecution> getProjectExecutions() {
+    Map<ArtifactKey, long[]> spans = new LinkedHashMap<>();
+    for(MojoExecution execution : executions) {
+      long end = execution.isRunning() ? execution.start() : execution.end();
+      long[] span = spans.computeIfAbsent(execution.project(), p -> new long[] {execution.start(), end});
+      span[0] = Math.min(span[0], execution.start());
+      span[1] = Math.max(span[1], end);
+    }
+    List<ProjectExecution> projects = new ArrayList<>(spans.size());
+    spans.forEach((project, span) -> projects.add(new ProjectExecution(project, span[0], span[1])));
+    return projects;
+  }
+
+  /**
+   * @return the total time spent in each mojo over all projects, the most expensive mojos first
+   */
+  public synchronized Map<String, Duration> getMojoDurations() {
+    Map<String, Duration> durations = new HashMap<>();
+    for(MojoExecution execution : executions) {
+      durations.merge(execution.mojo(), execution.duration(), Duration::plus);
+    }
+    Map<String, Duration> sorted = new LinkedHashMap<>();
+    durations.entrySet().stream().sorted(Map.Entry.<String, Duration> comparingByValue().reversed())
+        .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+    return sorted;
+  }
+
+  /**
+   * Returns the chain of projects that determined the duration of a (parallel, {@code -T}) build. Starting with the
+   * project that finished last, each project is preceded by the project that finished last before it started, which
+   * is the one it most likely had to wait for. In a sequential build that is simply the list of all projects.
+   *
+   * @return the projects of the critical path in build order
+   */
+  public List<ProjectExecution> getCriticalPath() {
+    List<ProjectExecution> projects = getProjectExecutions();
+    List<ProjectExecution> path = new ArrayList<>();
+    // projects whose mojos are still running end where they started, they must not be chosen again
+    Set<ArtifactKey> visited = new HashSet<>();
+    ProjectExecution current = projects.stream().max(Comparator.comparingLong(ProjectExecution::end)).orElse(null);
+    while(current != null && visited.add(current.project())) {
+      path.add(0, current);
+      long start = current.start();
+      current = projects.stream().filter(p -> p.end() <= start && !visited.contains(p.project()))
+          .max(Comparator.comparingLong(ProjectExecution::end)).orElse(null);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.launch;
+
+import java.util.Arrays;
+
+
+/**
+ * Classifies the lines of a Maven console by plain string comparisons, so that only the pattern matching the kind of a
+ * line has to be applied to it. Most lines of a build are {@link LineKind#OTHER} and are rejected without applying any
+ * pattern.
+ */
+public final class MavenConsoleLineClassifier {
+
+  public enum LineKind {
+    /**
+     * A {@code [INFO] ---} line, possibly ending the header of a project
+     */
+    SEPARATOR,
+    /**
+     * A {@code Running <test class>} line
+     */
+    RUNNING_TEST,
+    /**
+     * A {@code Listening for transport dt_socket} line of a JVM waiting for a debugger
+     */
+    DEBUGGER_LISTENING,
+    /**
+     * A {@code [ERROR] Failed to execute goal} line
+     */
+    EXECUTION_FAILURE,
+    OTHER
+  }
+
+  private static final String INFO_SEPARATOR = "[INFO] -"; //$NON-NLS-1$
+
+  private static final String EXECUTION_FAILURE = "[ERROR] Failed to execute goal "; //$NON-NLS-1$
+
+  private static final String RUNNING = "Running "; //$NON-NLS-1$
+
+  private static final String LISTENING = "Listening for transport dt_socket at address: "; //$NON-NLS-1$
+
+  private static final char ESC = '\u001b';
+
+  private MavenConsoleLineClassifier() {
+  }
+
+  /**
+   * @param text a console line without ANSI escape sequences
+   */
+  public static LineKind classify(String text) {
+    if(text.startsWith(INFO_SEPARATOR)) {
+      return LineKind.SEPARATOR;
+    }
+    // the message of a failure may contain any of the markers below
+    if(text.startsWith(EXECUTION_FAILURE)) {
+      return LineKind.EXECUTION_FAILURE;
+    }
+    // anywhere in the line, e.g. after a timestamp or the output prefix of a forked JVM
+    if(text.contains(RUNNING)) {
+      return LineKind.RUNNING_TEST;
+    }
+    if(text.contains(LISTENING)) {
+      return LineKind.DEBUGGER_LISTENING;
+    }
+    return LineKind.OTHER;
+  }
+
+  /**
+   * The text of a console line without the ANSI escape sequences added when {@code -Dstyle.color=always} is set. The
+   * locations of the removed sequences are kept to map indexes in the text back to the console document. Instances
+   * are reused for all lines of a console.
+   */
+  public static final class LineText {
+
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    /**
+     * Start in the original text and length of each removed sequence
+     */
+    private int[] removed = new int[16];
+
+    private int removedCount;
+
+    private String text;
+
+    public LineText set(String rawText) {
+      removedCount = 0;
+      int escape = rawText.indexOf(ESC);
+      if(escape < 0) {
+        text = rawText;
+        return this;
+      }
+      buffer.setLength(0);
+      int start = 0;
+      while(escape >= 0) {
+        buffer.append(rawText, start, escape);
+        int end = getEscapeSequenceEnd(rawText, escape);
+        if(end < 0) {
+          buffer.append(ESC);
+          start = escape + 1;
+        } else {
+          addRemoved(escape, end - escape);
+          start = end;
+        }
+        escape = rawText.indexOf(ESC, start);
+      }
+      buffer.append(rawText, start, rawText.length());
+      text = buffer.toString();
+      return this;
+    }
+
+    public String text() {
+      return text;
+    }
+
+    /**
+     * @return the index in the original text of the given index in the text without escape sequences
+     */
+    public int getOriginalIndex(int index) {
+      for(int i = 0; i < removedCount && removed[2 * i] < index; i++ ) {
+        index += removed[2 * i + 1];
+      }
+      return index;
+    }
+
+    private void addRemoved(int start, int length) {
+      if(2 * removedCount + 2 > removed.length) {
+        removed = Arrays.copyOf(removed, removed.length * 2);
+      }
+      removed[2 * removedCount] = start;
+      removed[2 * removedCount + 1] = length;
+      removedCount++ ;
+    }
+
+    /**
+     * @return the end of the {@code ESC [ <digits or ;> <final char>} sequence starting at the given index, or -1 if
+     *         there is no such sequence
+     */
+    private static int getEscapeSequenceEnd(String text, int escape) {
+      int i = escape + 1;
+      if(i >= text.length() || text.charAt(i) != '[') {
+        return -1;
+      }
+      i++ ;
+      while(i < text.length() && isParameter(text.charAt(i))) {
+        i++ ;
+      }
+      return i < text.length() ? i + 1 : -1;
+    }
+
+    private static boolean isParameter(char c) {
+      return (c >= '0' && c <= '9') || c == ';';
+    }
+  }
+}
@@ -14,6 +14,8 @@
 
 package org.eclipse.m2e.internal.launch;
 
+import static org.eclipse.m2e.internal.launch.MavenConsoleLineClassifier.classify;
+
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
@@ -65,6 +67,8 @@ import org.eclipse.ui.ide.IDE;
 
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.project.IBuildProjectFileResolver;
+import org.eclipse.m2e.internal.launch.MavenConsoleLineClassifier.LineKind;
+import org.eclipse.m2e.internal.launch.MavenConsoleLineClassifier.LineText;
 import org.eclipse.m2e.internal.maven.listener.M2EMavenBuildDataBridge.MavenProjectBuildData;
 
 
@@ -94,9 +98,6 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
 
   private static final int FAILED_PROJECT_ID = 1;
 
-  private static final Pattern ESCAPE_CHARACTERS = Pattern.compile("\\e\\[[\\d;]*?[^\\d;]");
-  // captures ANSI escape characters added when -Dstyle.color=always is set
-
   private static record ProjectReference(IProject project, MavenProjectBuildData buildProject) {
   }
 
@@ -112,7 +113,17 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
 
   private final Deque<IRegion> projectDefinitionLines = new ArrayDeque<>(3);
 
-  private final List<int[]> removedLineLocations = new ArrayList<>();
+  private final LineText lineText = new LineText();
+
+  private final LineText previousLineText = new LineText();
+
+  private final Matcher runningTestMatcher = RUNNING_TEST_CLASS.matcher(""); //$NON-NLS-1$
+
+  private final Matcher listeningMatcher = LISTENING_MARKER.matcher(""); //$NON-NLS-1$
+
+  private final Matcher failureMatcher = EXECUTION_FAILURE.matcher(""); //$NON-NLS-1$
+
+  private final Matcher packagingTypeMatcher = PACKAGING_TYPE_LINE.matcher(""); //$NON-NLS-1$
 
   @Override
   public void init(IConsole console) {
@@ -136,30 +147,34 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
           return;
         }
 
-        Matcher runningTestMatcher = RUNNING_TEST_CLASS.matcher(text);
-        if(runningTestMatcher.find()) {
-          String testName = runningTestMatcher.group(TEST_CLASS_NAME);
-          int start = runningTestMatcher.start(TEST_CLASS_NAME);
-          int end = start + testName.length();
-          start = getOriginalIndex(start, removedLineLocations);
-          end = getOriginalIndex(end, removedLineLocations);
-
-          IHyperlink link = new MavenTestReportHyperLink(mavenProject, testName);
-          console.addLink(link, line.getOffset() + start, end - start);
-          return;
-        }
-
-        Matcher listeningMatcher = LISTENING_MARKER.matcher(text);
-        if(listeningMatcher.find()) {
-          String portString = listeningMatcher.group(DEBUGGER_PORT);
-          // create and start remote Java app launch configuration
-          launchRemoteJavaApp(mavenProject.project(), portString);
-          return;
-        }
-
-        Matcher failureMatcher = EXECUTION_FAILURE.matcher(text);
-        if(failureMatcher.find()) {
-          addProjectLink(line, failureMatcher, FAILED_PROJECT_ID, FAILED_PROJECT_ID, removedLineLocations);
+        switch(classify(text)) {
+          case RUNNING_TEST -> {
+            if(runningTestMatcher.reset(text).find()) {
+              String testName = runningTestMatcher.group(TEST_CLASS_NAME);
+              int start = runningTestMatcher.start(TEST_CLASS_NAME);
+              int end = start + testName.length();
+              start = lineText.getOriginalIndex(start);
+              end = lineText.getOriginalIndex(end);
+
+              IHyperlink link = new MavenTestReportHyperLink(mavenProject, testName);
+              console.addLink(link, line.getOffset() + start, end - start);
+            }
+          }
+          case DEBUGGER_LISTENING -> {
+            if(listeningMatcher.reset(text).find()) {
+              String portString = listeningMatcher.group(DEBUGGER_PORT);
+              // create and start remote Java app launch configuration
+              launchRemoteJavaApp(mavenProject.project(), portString);
+            }
+          }
+          case EXECUTION_FAILURE -> {
+            if(failureMatcher.reset(text).find()) {
+              addProjectLink(line, failureMatcher, FAILED_PROJECT_ID, FAILED_PROJECT_ID, lineText);
+            }
+          }
+          default -> {
+            // nothing to link
+          }
         }
       } catch(BadLocationException ex) {
         // ignore
@@ -196,8 +211,7 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
   private static final Pattern PACKAGING_TYPE_LINE = Pattern.compile("^\\[INFO\\] -+\\[ [\\w\\-\\. ]+ \\]-+$");
 
   private String getText(IRegion lineRegion) throws BadLocationException {
-    removedLineLocations.clear();
-    String line0 = getLineText(lineRegion, removedLineLocations);
+    String line0 = getLineText(lineRegion, lineText);
 
     if(projectDefinitionLines.size() < 3) {
       projectDefinitionLines.add(lineRegion);
@@ -209,20 +223,19 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
     // [INFO]   from pom.xml
     // [INFO] ---------------------------[ eclipse-plugin ]---------------------------
 
-    if(PACKAGING_TYPE_LINE.matcher(line0).matches()) {
+    if(classify(line0) == LineKind.SEPARATOR && packagingTypeMatcher.reset(line0).matches()) {
       Iterator<IRegion> previousLines = projectDefinitionLines.descendingIterator();
 
-      String line1 = getLineText(previousLines.next(), null);
+      String line1 = getLineText(previousLines.next(), previousLineText);
       if(FROM_FILE_LINE.matcher(line1).find()) {
 
-        String line2 = getLineText(previousLines.next(), null);
+        String line2 = getLineText(previousLines.next(), previousLineText);
         Matcher vMatcher = VERSION_LINE.matcher(line2);
         if(vMatcher.matches()) {
           String version = vMatcher.group(VERSION);
 
           IRegion line3Region = previousLines.next();
-          List<int[]> removedLine3Locations = new ArrayList<>();
-          String line3 = getLineText(line3Region, removedLine3Locations);
+          String line3 = getLineText(line3Region, previousLineText);
           Matcher gaMatcher = GROUP_ARTIFACT_LINE.matcher(line3);
           if(gaMatcher.matches()) {
             String groupId = gaMatcher.group(GROUP_ID);
@@ -230,7 +243,7 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
 
             mavenProject = getProject(groupId, artifactId, version);
             if(mavenProject != null) {
-              addProjectLink(line3Region, gaMatcher, GROUP_ID, ARTIFACT_ID, removedLine3Locations);
+              addProjectLink(line3Region, gaMatcher, GROUP_ID, ARTIFACT_ID, previousLineText);
             }
           }
         }
@@ -241,27 +254,15 @@ public class MavenConsoleLineTracker implements IConsoleLineTracker {
     return line0;
   }
 
-  private String getLineText(IRegion region, List<int[]> removedLocations) throws BadLocationException {
+  private String getLineText(IRegion region, LineText target) throws BadLocationException {
     String rawText = console.getDocument().get(region.getOffset(), region.getLength()).strip();
-    Matcher m = ESCAPE_CHARACTERS.matcher(rawText);
-    return removedLocations == null ? m.replaceAll("") : m.replaceAll(mr -> {
-      removedLocations.add(new int[] {mr.start(), mr.end() - mr.start()});
-      return "";
-    });
-  }
-
-  private static int getOriginalIndex(int index, List<int[]> removedLocations) {
-    for(int i = 0; i < removedLocations.size() && removedLocations.get(i)[0] < index; i++ ) {
-      index += removedLocations.get(i)[1];
-    }
-    return index;
+    return target.set(rawText).text();
   }
 
-  private void addProjectLink(IRegion line, Matcher matcher, int startGroup, int endGroup,
-      List<int[]> removedLocations) {
+  private void addProjectLink(IRegion line, Matcher matcher, int startGroup, int endGroup, LineText text) {
     IHyperlink link = new ProjectHyperLink(mavenProject);
-    int start = getOriginalIndex(matcher.start(startGroup), removedLocations);
-    int end = getOriginalIndex(matcher.end(endGroup), removedLocations);
+    int start = text.getOriginalIndex(matcher.start(startGroup));
+    int end = text.getOriginalIndex(matcher.end(endGroup));
     console.addLink(link, line.getOffset() + start, end - start);
   }
 
@@ -13,21 +13,28 @@
 
 package org.eclipse.m2e.internal.maven.listener;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.StringJoiner;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import javax.inject.Named;
@@ -36,14 +43,15 @@ import javax.inject.Singleton;
 import org.apache.maven.eventspy.EventSpy;
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.ExecutionEvent.Type;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.project.MavenProject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This {@link EventSpy} listens to certain events within a Maven build JVM and
- * sends certain data (e.g. about projects being built) to the JVM of the
- * Eclipse IDE that launched the Maven build JVM.
+ * sends certain data (e.g. about projects being built and the mojos executed
+ * for them) to the JVM of the Eclipse IDE that launched the Maven build JVM.
  * 
  * @author Hannes Wellmann
  *
@@ -53,7 +61,14 @@ import org.slf4j.LoggerFactory;
 public class M2EMavenBuildDataBridge implements EventSpy {
 
 	private static final String SOCKET_FILE_PROPERTY_NAME = "m2e.build.project.data.socket.port";
-	private static final String DATA_SET_SEPARATOR = ";;";
+	/**
+	 * Upper bound for the length of one data-set frame, guards the reader against
+	 * garbage sent to the socket.
+	 */
+	private static final int MAX_FRAME_LENGTH = 1 << 20;
+
+	private static final byte PROJECT_DATA_SET = 0;
+	private static final byte MOJO_EVENT_DATA_SET = 1;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(M2EMavenBuildDataBridge.class);
 
@@ -77,17 +92,31 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 
 	@Override
 	public void close() throws IOException {
-		writeChannel.close();
+		if (writeChannel != null) {
+			writeChannel.close();
+		}
 	}
 
 	@Override
 	public void onEvent(Object event) throws Exception {
-		if (writeChannel != null && event instanceof ExecutionEvent
-				&& ((ExecutionEvent) event).getType() == Type.ProjectStarted) {
-
-			String message = serializeProjectData(((ExecutionEvent) event).getProject());
+		if (writeChannel != null && event instanceof ExecutionEvent) {
+			long nanoTime = System.nanoTime();
+			ExecutionEvent executionEvent = (ExecutionEvent) event;
+			byte[] message;
+			switch (executionEvent.getType()) {
+			case ProjectStarted:
+				message = serializeProjectData(executionEvent.getProject());
+				break;
+			case MojoStarted:
+			case MojoSucceeded:
+			case MojoFailed:
+				message = serializeMojoEvent(executionEvent, nanoTime);
+				break;
+			default:
+				return;
+			}
 
-			ByteBuffer buffer = ByteBuffer.wrap(message.getBytes());
+			ByteBuffer buffer = ByteBuffer.wrap(message);
 			synchronized (writeChannel) {
 				while (buffer.hasRemaining()) {
 					writeChannel.write(buffer);
@@ -96,19 +125,51 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 		}
 	}
 
-	private static String serializeProjectData(MavenProject project) {
-		StringJoiner data = new StringJoiner(",");
-		add(data, "groupId", project.getGroupId());
-		add(data, "artifactId", project.getArtifactId());
-		add(data, "version", project.getVersion());
-		add(data, "file", project.getFile());
-		add(data, "basedir", project.getBasedir());
-		add(data, "build.directory", project.getBuild().getDirectory());
-		return data.toString() + DATA_SET_SEPARATOR;
+	private static byte[] serializeProjectData(MavenProject project) throws IOException {
+		Map<String, Object> data = new LinkedHashMap<>(8);
+		data.put("groupId", project.getGroupId());
+		data.put("artifactId", project.getArtifactId());
+		data.put("version", project.getVersion());
+		data.put("file", project.getFile());
+		data.put("basedir", project.getBasedir());
+		data.put("build.directory", project.getBuild().getDirectory());
+		return toFrame(PROJECT_DATA_SET, data);
 	}
 
-	private static void add(StringJoiner data, String key, Object value) {
-		data.add(key + "=" + value);
+	private static byte[] serializeMojoEvent(ExecutionEvent event, long nanoTime) throws IOException {
+		MavenProject project = event.getProject();
+		MojoExecution mojo = event.getMojoExecution();
+		Map<String, Object> data = new LinkedHashMap<>(8);
+		data.put("type", event.getType().name());
+		data.put("groupId", project.getGroupId());
+		data.put("artifactId", project.getArtifactId());
+		data.put("version", project.getVersion());
+		data.put("mojo", mojo.getArtifactId() + ":" + mojo.getVersion() + ":" + mojo.getGoal() + " ("
+				+ mojo.getExecutionId() + ")");
+		data.put("thread", Thread.currentThread().getName());
+		data.put("nanoTime", nanoTime);
+		return toFrame(MOJO_EVENT_DATA_SET, data);
+	}
+
+	/**
+	 * Serializes the given data into one frame, that is the length of the data-set
+	 * followed by its type, the number of entries and the UTF-8 encoded keys and
+	 * values.
+	 */
+	private static byte[] toFrame(byte type, Map<String, Object> data) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0); // placeholder for the frame length
+		out.writeByte(type);
+		out.writeShort(data.size());
+		for (Map.Entry<String, Object> entry : data.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(String.valueOf(entry.getValue()));
+		}
+		out.flush();
+		ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+		frame.putInt(0, frame.capacity() - 4);
+		return frame.array();
 	}
 
 	/**
@@ -116,19 +177,26 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 	 * This method is supposed to be called from M2E within the Eclipse-IDE JVM.
 	 * </p>
 	 * 
-	 * @param dataSet the data-set to parse
-	 * @return the {@link MavenProjectBuildData} parsed from the given string
+	 * @param dataSet the data-set frame to parse, without its length
 	 */
-	private static MavenProjectBuildData parseMavenBuildProject(String dataSet) {
-		Map<String, String> data = new HashMap<>(8);
-		for (String entry : dataSet.split(",")) {
-			String[] keyValue = entry.split("=");
-			if (keyValue.length != 2) {
-				throw new IllegalStateException("Invalid data-set format" + dataSet);
-			}
-			data.put(keyValue[0], keyValue[1]);
+	private static void parseDataSet(byte[] dataSet, Consumer<MavenProjectBuildData> datasetListener,
+			Consumer<MavenMojoExecutionEvent> mojoEventListener) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(dataSet));
+		byte type = in.readByte();
+		int size = in.readUnsignedShort();
+		Map<String, String> data = new HashMap<>(size * 2);
+		for (int i = 0; i < size; i++) {
+			data.put(in.readUTF(), in.readUTF());
+		}
+		switch (type) {
+		case PROJECT_DATA_SET:
+			datasetListener.accept(new MavenProjectBuildData(data));
+			break;
+		case MOJO_EVENT_DATA_SET:
+			mojoEventListener.accept(new MavenMojoExecutionEvent(data));
+			break;
+		default: // ignore unknown data-sets
 		}
-		return new MavenProjectBuildData(data);
 	}
 
 	public static final class MavenProjectBuildData {
@@ -152,6 +220,57 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 		}
 	}
 
+	/**
+	 * The start or end of the execution of a mojo for a project in the Maven
+	 * build.
+	 */
+	public static final class MavenMojoExecutionEvent {
+		public enum Kind {
+			STARTED, SUCCEEDED, FAILED
+		}
+
+		public final Kind kind;
+		public final String groupId;
+		public final String artifactId;
+		public final String version;
+		/**
+		 * The mojo in the form {@code artifactId:version:goal (executionId)}
+		 */
+		public final String mojo;
+		public final String threadName;
+		/**
+		 * The {@link System#nanoTime()} of the Maven JVM, only meaningful relative to
+		 * the other events of the same build.
+		 */
+		public final long nanoTime;
+
+		MavenMojoExecutionEvent(Map<String, String> data) {
+			if (data.size() != 7) {
+				throw new IllegalArgumentException(
+						"Expected 7 entries in mojo execution data-set but got " + data.size() + ": " + data.keySet());
+			}
+			switch (Type.valueOf(data.get("type"))) {
+			case MojoStarted:
+				this.kind = Kind.STARTED;
+				break;
+			case MojoSucceeded:
+				this.kind = Kind.SUCCEEDED;
+				break;
+			case MojoFailed:
+				this.kind = Kind.FAILED;
+				break;
+			default:
+				throw new IllegalArgumentException(data.get("type"));
+			}
+			this.groupId = Objects.requireNonNull(data.get("groupId"));
+			this.artifactId = Objects.requireNonNull(data.get("artifactId"));
+			this.version = Objects.requireNonNull(data.get("version"));
+			this.mojo = Objects.requireNonNull(data.get("mojo"));
+			this.threadName = Objects.requireNonNull(data.get("thread"));
+			this.nanoTime = Long.parseLong(data.get("nanoTime"));
+		}
+	}
+
 	/**
 	 * Prepares the connection to a {@code Maven build JVM} to be launched and is
 	 * intended to be called from the Eclipse IDE JVM.
@@ -165,6 +284,26 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 	 */
 	public static MavenBuildConnection prepareConnection(String label, Consumer<MavenProjectBuildData> datasetListener)
 			throws IOException {
+		return prepareConnection(label, datasetListener, e -> {
+		});
+	}
+
+	/**
+	 * Prepares the connection to a {@code Maven build JVM} to be launched and is
+	 * intended to be called from the Eclipse IDE JVM.
+	 * 
+	 * @param label             the label of the listener thread
+	 * @param datasetListener   the listener, which is notified whenever a new
+	 *                          {@link MavenProjectBuildData
+	 *                          MavenProjectBuildDataSet} has arived from the
+	 *                          Maven VM in the Eclipse-IDE VM.
+	 * @param mojoEventListener the listener, which is notified whenever a mojo
+	 *                          was started or has ended in the Maven VM
+	 * @return the preapre {@link MavenBuildConnection}
+	 * @throws IOException
+	 */
+	public static MavenBuildConnection prepareConnection(String label, Consumer<MavenProjectBuildData> datasetListener,
+			Consumer<MavenMojoExecutionEvent> mojoEventListener) throws IOException {
 
 //	    TODO: use UNIX domain socket once Java-17 is required by Maven
 //	    Path socketFile = Files.createTempFile("m2e.maven.build.listener", ".socket");
@@ -180,24 +319,29 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 
 		Thread reader = new Thread(() -> {
 			try (ServerSocketChannel s = server; SocketChannel readChannel = server.accept()) {
-				ByteBuffer buffer = ByteBuffer.allocate(512);
-				StringBuilder message = new StringBuilder();
-				while (readChannel.read(buffer) >= 0) {
-					message.append(new String(buffer.array(), 0, buffer.position()));
-					for (int terminatorIndex; (terminatorIndex = message.indexOf(DATA_SET_SEPARATOR)) >= 0;) {
-						String dataSet = message.substring(0, terminatorIndex);
-						message.delete(0, terminatorIndex + DATA_SET_SEPARATOR.length());
-
-						MavenProjectBuildData buildData = parseMavenBuildProject(dataSet);
-						datasetListener.accept(buildData);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(readChannel)));
+				while (true) {
+					int length;
+					try {
+						length = in.readInt();
+					} catch (EOFException e) { // Maven process has closed the connection
+						break;
+					}
+					if (length < 0 || length > MAX_FRAME_LENGTH) {
+						throw new IOException("Invalid data-set length " + length);
+					}
+					byte[] dataSet = new byte[length];
+					in.readFully(dataSet);
+					try {
+						parseDataSet(dataSet, datasetListener, mojoEventListener);
+					} catch (IOException | RuntimeException e) {
+						// the frame was read completely, skip it and keep reading the next ones
+						LOGGER.warn("Skipping malformed data-set from Maven build <" + label + ">", e);
 					}
-					// Explicit cast for compatibility with covariant return type on JDK 9's
-					// ByteBuffer
-					((Buffer) buffer).clear();
 				}
 			} catch (IOException ex) { // ignore, happens if Maven process is forcibly terminated
 			} finally {
-				connection.readCompleted.set(true);
+				connection.readCompletion.complete(null);
 			}
 //	      try {
 //	        Files.deleteIfExists(socketFile);
@@ -211,7 +355,7 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 
 	public static final class MavenBuildConnection {
 		private final ServerSocketChannel server;
-		private final AtomicBoolean readCompleted = new AtomicBoolean(false);
+		private final CompletableFuture<Void> readCompletion = new CompletableFuture<>();
 
 		MavenBuildConnection(ServerSocketChannel server) {
 			this.server = server;
@@ -223,7 +367,15 @@ public class M2EMavenBuildDataBridge implements EventSpy {
 		}
 
 		public boolean isReadCompleted() {
-			return readCompleted.get();
+			return readCompletion.isDone();
+		}
+
+		/**
+		 * @return a stage that is completed once all data-sets sent by the Maven
+		 *         process were read, or the connection failed
+		 */
+		public CompletionStage<Void> getReadCompletion() {
+			return readCompletion;
 		}
 
 		public void close() throws IOException {
@@ -27,6 +27,8 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.file.DeletingPathVisitor;
@@ -60,10 +62,25 @@ class CacheManager {
 
 	private static final Map<String, CacheManager> MANAGERS = new HashMap<>();
 
+	/**
+	 * Number of locks the GAVs are distributed over, artifacts sharing a
+	 * lock are processed one after the other
+	 */
+	private static final int LOCK_STRIPES = 64;
+
 	private final Path folder;
 
+	/**
+	 * In-process locks guarding the file locks, a {@link FileLock} is held on
+	 * behalf of the whole JVM and can't be acquired twice.
+	 */
+	private final Lock[] locks = new Lock[LOCK_STRIPES];
+
 	private CacheManager(String cacheKey) {
 		this.folder = getCacheBaseDir().resolve(cacheKey);
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantLock();
+		}
 		try {
 			Files.writeString(folder.resolve(LASTACCESS_MARKER), ""); // touch last access
 		} catch (IOException e) {
@@ -77,7 +94,7 @@ class CacheManager {
 	/**
 	 * Allows synchronized and locked access to the given artifact, the consumer is
 	 * called with the file that represents the artifact at this cache location
-	 * (what might not exits).
+	 * (what might not exits). Different artifacts can be accessed concurrently.
 	 *
 	 * @param <R>      the return value type
 	 * @param artifact the artifact identifier to be used
@@ -90,13 +107,18 @@ class CacheManager {
 	 *                   system-resources locks or any exception thrown by the
 	 *                   consumer itself
 	 */
-	public synchronized <R> R accessArtifactFile(Artifact artifact, CacheConsumer<R> consumer) throws Exception {
+	public <R> R accessArtifactFile(Artifact artifact, CacheConsumer<R> consumer) throws Exception {
 		Path gav = Path.of(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion());
 		Path gavFolder = Files.createDirectories(folder.resolve(gav));
 		Path file = gavFolder.resolve(artifact.getFile().getName());
 		Path lockFile = gavFolder.resolve(artifact.getFile().getName() + ".lock");
+		// artifacts of the same GAV share their folder, e.g. for an unpacked feature.xml
+		Lock stripe = locks[Math.floorMod(gavFolder.hashCode(), locks.length)];
+		stripe.lock();
 		try (FileChannel channel = FileChannel.open(lockFile, LOCK_FILE_OPEN_OPTIONS); FileLock lock = channel.lock()) {
 			return consumer.consume(file.toFile());
+		} finally {
+			stripe.unlock();
 		}
 	}
 
@@ -45,6 +45,12 @@ import org.eclipse.pde.core.target.TargetBundle;
 public class MavenTargetBundle extends TargetBundle {
 
 	private static final ILog LOGGER = Platform.getLog(MavenTargetBundle.class);
+
+	/**
+	 * Number of artifacts of one dependency tree wrapped in parallel, wrapping is
+	 * sequential by default.
+	 */
+	private static final int WRAP_PARALLELISM = Integer.getInteger("m2e.pde.target.wrapParallelism", 1);
 	private TargetBundle bundle;
 	private IStatus status;
 	private final BundleInfo bundleInfo;
@@ -157,7 +163,7 @@ public class MavenTargetBundle extends TargetBundle {
 			try {
 				WrappedBundle wrap = MavenBundleWrapper.getWrappedArtifact(artifact, instructionsLookup, repositories,
 						repoSystem, repositorySession, context.getComponentLookup().lookup(SyncContextFactory.class),
-						ignoreExistingMetadata);
+						ignoreExistingMetadata, WRAP_PARALLELISM);
 				List<ProcessingMessage> directErrors = wrap.messages(false)
 						.filter(msg -> msg.type() == ProcessingMessage.Type.ERROR).toList();
 				if (directErrors.isEmpty()) {
@@ -21,7 +21,6 @@ import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +28,9 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
@@ -112,6 +114,39 @@ public class MavenBundleWrapper {
 			Function<DependencyNode, Properties> instructionsLookup, List<RemoteRepository> repositories,
 			RepositorySystem repoSystem, RepositorySystemSession repositorySession,
 			SyncContextFactory syncContextFactory, boolean ignoreExistingMetadata) throws Exception {
+		return getWrappedArtifact(artifact, instructionsLookup, repositories, repoSystem, repositorySession,
+				syncContextFactory, ignoreExistingMetadata, 1);
+	}
+
+	/**
+	 * Wraps an artifact (and possible its dependents if required) to produce a
+	 * manifest with OSGi metadata. With a parallelism greater than one the
+	 * dependency tree is wrapped leaves first, where siblings are wrapped in
+	 * parallel.
+	 *
+	 * @param artifact               the artifact to wrap
+	 * @param instructionsLookup     a lookup for bnd instructions, must be safe to
+	 *                               be called concurrently if parallelism is
+	 *                               greater than one
+	 * @param repositories           the repositories that should be used to resolve
+	 *                               dependencies
+	 * @param repoSystem             the repository system for lookup dependent
+	 *                               items
+	 * @param repositorySession      the session to use
+	 * @param syncContextFactory     the sync context factory to acquire exclusive
+	 *                               access to the wrapped artifact and its
+	 *                               dependencies
+	 * @param ignoreExistingMetadata if true, the manifest file is forced to be
+	 *                               overridden
+	 * @param parallelism            the maximum number of artifacts wrapped at the
+	 *                               same time
+	 * @return the wrapped artifact
+	 * @throws Exception if wrapping the artifact fails for any reason
+	 */
+	public static WrappedBundle getWrappedArtifact(Artifact artifact,
+			Function<DependencyNode, Properties> instructionsLookup, List<RemoteRepository> repositories,
+			RepositorySystem repoSystem, RepositorySystemSession repositorySession,
+			SyncContextFactory syncContextFactory, boolean ignoreExistingMetadata, int parallelism) throws Exception {
 		CollectRequest collectRequest = new CollectRequest();
 		collectRequest.setRoot(new Dependency(artifact, null));
 		collectRequest.setRepositories(repositories);
@@ -153,40 +188,89 @@ public class MavenBundleWrapper {
 				}
 			});
 			syncContext.acquire(lockList, null);
-			Map<DependencyNode, WrappedBundle> visited = new HashMap<>();
-			WrappedBundle wrappedNode = getWrappedNode(node, instructionsLookup, visited, ignoreExistingMetadata);
-			for (WrappedBundle wrap : visited.values()) {
+			WrapContext context = new WrapContext(instructionsLookup);
+			WrappedBundle wrappedNode;
+			if (parallelism > 1) {
+				wrappedNode = getWrappedNodeParallel(node, context, ignoreExistingMetadata, parallelism);
+			} else {
+				wrappedNode = getWrappedNode(node, context, ignoreExistingMetadata);
+			}
+			for (WrappedBundle wrap : context.visited.values()) {
 				wrap.getJar().ifPresent(jar -> jar.close());
 			}
 			return wrappedNode;
 		}
 	}
 
-	private static WrappedBundle getWrappedNode(DependencyNode node,
-			Function<DependencyNode, Properties> instructionsLookup, Map<DependencyNode, WrappedBundle> visited,
+	private static WrappedBundle getWrappedNode(DependencyNode node, WrapContext context,
 			boolean ignoreExistingMetadata) throws Exception {
-		WrappedBundle wrappedNode = visited.get(node);
+		WrappedBundle wrappedNode = context.visited.get(node);
 		if (wrappedNode != null) {
 			return wrappedNode;
 		}
+		OpenedNode opened = openNode(node, ignoreExistingMetadata);
+		if (opened.bundle() != null) {
+			context.visited.put(node, opened.bundle());
+			return opened.bundle();
+		}
+		List<DependencyNode> children = node.getChildren();
+		List<WrappedBundle> depends = new ArrayList<>();
+		for (DependencyNode child : children) {
+			depends.add(getWrappedNode(child, context, false));
+		}
+		WrappedBundle wrappedNodeAfterVisit = context.visited.get(node);
+		if (wrappedNodeAfterVisit != null) {
+			return wrappedNodeAfterVisit;
+		}
+		wrappedNode = wrapNode(node, opened.jar(), depends, context);
+		context.visited.put(node, wrappedNode);
+		return wrappedNode;
+	}
+
+	private static WrappedBundle getWrappedNodeParallel(DependencyNode node, WrapContext context,
+			boolean ignoreExistingMetadata, int parallelism) throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			WrapTask root = new WrapTask(node, context, ignoreExistingMetadata);
+			context.tasks.put(node, root);
+			return pool.invoke(root);
+		} catch (RuntimeException e) {
+			// fork-join might rethrow a copy of the exception in the joining thread
+			for (Throwable t = e; t != null; t = t.getCause()) {
+				if (t instanceof WrapException wrapException) {
+					throw (Exception) wrapException.getCause();
+				}
+			}
+			throw e;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Opens the jar of the given node.
+	 *
+	 * @return the jar if the node needs to be wrapped, or the final result if it
+	 *         can't or must not be wrapped
+	 */
+	private static OpenedNode openNode(DependencyNode node, boolean ignoreExistingMetadata) throws Exception {
 		Artifact artifact = node.getArtifact();
 		if (!"jar".equals(artifact.getExtension())) {
-			visited.put(node, wrappedNode = new WrappedBundle(node, List.of(), null, null, null, List.of(
-					new ProcessingMessage(artifact, Type.INFO, "Skip " + node.getArtifact() + " it is not a jar"))));
-			return wrappedNode;
+			return new OpenedNode(new WrappedBundle(node, List.of(), null, null, null, List.of(
+					new ProcessingMessage(artifact, Type.INFO, "Skip " + node.getArtifact() + " it is not a jar"))),
+					null);
 		}
 		File originalFile = artifact.getFile();
 		if (originalFile == null) {
 			if (node.getDependency().isOptional()) {
-				visited.put(node,
-						wrappedNode = new WrappedBundle(node, List.of(), null, null, null,
-								List.of(new ProcessingMessage(artifact, Type.WARN,
-										"Optional artifact " + node.getArtifact() + " was not found"))));
-			} else {
-				visited.put(node, wrappedNode = new WrappedBundle(node, List.of(), null, null, null, List.of(
-						new ProcessingMessage(artifact, Type.ERROR, "Artifact " + node.getArtifact() + " not found"))));
+				return new OpenedNode(new WrappedBundle(node, List.of(), null, null, null,
+						List.of(new ProcessingMessage(artifact, Type.WARN,
+								"Optional artifact " + node.getArtifact() + " was not found"))),
+						null);
 			}
-			return wrappedNode;
+			return new OpenedNode(new WrappedBundle(node, List.of(), null, null, null, List.of(
+					new ProcessingMessage(artifact, Type.ERROR, "Artifact " + node.getArtifact() + " not found"))),
+					null);
 		}
 		Jar jar;
 		try {
@@ -196,36 +280,40 @@ public class MavenBundleWrapper {
 				jar.getDirectories().put("META-INF/services", new TreeMap<>());
 			}
 		} catch (IOException e) {
-			visited.put(node,
-					wrappedNode = new WrappedBundle(node, List.of(), null, null, null,
-							List.of(new ProcessingMessage(artifact, Type.ERROR,
-									"Artifact " + node.getArtifact() + " can not be read as a jar file"))));
-			return wrappedNode;
+			return new OpenedNode(new WrappedBundle(node, List.of(), null, null, null,
+					List.of(new ProcessingMessage(artifact, Type.ERROR,
+							"Artifact " + node.getArtifact() + " can not be read as a jar file"))),
+					null);
 		}
 		if (!ignoreExistingMetadata && isValidOSGi(jar.getManifest())) {
 			// already a bundle!
-			visited.put(node,
-					wrappedNode = new WrappedBundle(node, List.of(), null, originalFile.toPath(), jar, List.of()));
-			return wrappedNode;
-		}
-		List<DependencyNode> children = node.getChildren();
-		List<WrappedBundle> depends = new ArrayList<>();
-		for (DependencyNode child : children) {
-			depends.add(getWrappedNode(child, instructionsLookup, visited, false));
+			return new OpenedNode(new WrappedBundle(node, List.of(), null, originalFile.toPath(), jar, List.of()),
+					null);
 		}
-		WrappedBundle wrappedNodeAfterVisit = visited.get(node);
-		if (wrappedNodeAfterVisit != null) {
-			return wrappedNodeAfterVisit;
-		}
-		Properties instructions = instructionsLookup.apply(node);
+		return new OpenedNode(null, jar);
+	}
+
+	/**
+	 * Wraps the jar of the given node, all its dependencies must already be
+	 * wrapped.
+	 */
+	private static WrappedBundle wrapNode(DependencyNode node, Jar jar, List<WrappedBundle> depends,
+			WrapContext context) throws Exception {
+		Artifact artifact = node.getArtifact();
+		File originalFile = artifact.getFile();
+		Properties instructions = context.instructionsLookup.apply(node);
 		String key = getInstructionsKey(instructions, depends);
 		try (Jar analyzerJar = jar) {
 			// now we know the key and the depends we enter the critical section of checking
 			// if the data is already there or needs to be refreshed
 			File parent = new File(originalFile.getParent(), "bnd-" + key);
 			File wrapArtifactFile = new File(parent, originalFile.getName());
-			Jar cached = getCachedJar(wrapArtifactFile.toPath(), originalFile.toPath());
-			if (cached == null) {
+			// the same artifact might be part of the tree more than once
+			synchronized (context.fileLocks.computeIfAbsent(wrapArtifactFile.toPath(), p -> new Object())) {
+				Jar cached = getCachedJar(wrapArtifactFile.toPath(), originalFile.toPath());
+				if (cached != null) {
+					return new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(), cached, List.of());
+				}
 				List<ProcessingMessage> messages = new ArrayList<>();
 				wrapArtifactFile.getParentFile().mkdirs();
 				boolean hasErrors = false;
@@ -273,18 +361,12 @@ public class MavenBundleWrapper {
 				}
 				if (hasErrors) {
 					Files.deleteIfExists(wrapArtifactFile.toPath());
-					visited.put(node, wrappedNode = new WrappedBundle(node, depends, key, null, null, messages));
-				} else {
-					Files.setLastModifiedTime(wrapArtifactFile.toPath(),
-							Files.getLastModifiedTime(originalFile.toPath()));
-					visited.put(node, wrappedNode = new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(),
-							new Jar(wrapArtifactFile), messages));
+					return new WrappedBundle(node, depends, key, null, null, messages);
 				}
-			} else {
-				visited.put(node, wrappedNode = new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(),
-						new Jar(wrapArtifactFile), List.of()));
+				Files.setLastModifiedTime(wrapArtifactFile.toPath(), Files.getLastModifiedTime(originalFile.toPath()));
+				return new WrappedBundle(node, depends, key, wrapArtifactFile.toPath(), new Jar(wrapArtifactFile),
+						messages);
 			}
-			return wrappedNode;
 		}
 	}
 
@@ -432,4 +514,86 @@ public class MavenBundleWrapper {
 
     return eclipseSourceFile;
   }
-}
\ No newline at end of file
+
+	/**
+	 * State shared by all nodes wrapped for one artifact.
+	 */
+	private static final class WrapContext {
+
+		final Function<DependencyNode, Properties> instructionsLookup;
+
+		final Map<DependencyNode, WrappedBundle> visited = new ConcurrentHashMap<>();
+
+		final Map<DependencyNode, WrapTask> tasks = new ConcurrentHashMap<>();
+
+		final Map<Path, Object> fileLocks = new ConcurrentHashMap<>();
+
+		WrapContext(Function<DependencyNode, Properties> instructionsLookup) {
+			this.instructionsLookup = instructionsLookup;
+		}
+	}
+
+	private record OpenedNode(WrappedBundle bundle, Jar jar) {
+	}
+
+	/**
+	 * Wraps one node of the dependency tree after its children, children are
+	 * forked once and joined by all their parents.
+	 */
+	private static final class WrapTask extends RecursiveTask<WrappedBundle> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient DependencyNode node;
+
+		private final transient WrapContext context;
+
+		private final boolean ignoreExistingMetadata;
+
+		WrapTask(DependencyNode node, WrapContext context, boolean ignoreExistingMetadata) {
+			this.node = node;
+			this.context = context;
+			this.ignoreExistingMetadata = ignoreExistingMetadata;
+		}
+
+		@Override
+		protected WrappedBundle compute() {
+			try {
+				OpenedNode opened = openNode(node, ignoreExistingMetadata);
+				if (opened.bundle() != null) {
+					context.visited.put(node, opened.bundle());
+					return opened.bundle();
+				}
+				List<WrapTask> children = new ArrayList<>();
+				for (DependencyNode child : node.getChildren()) {
+					WrapTask task = new WrapTask(child, context, false);
+					WrapTask existing = context.tasks.putIfAbsent(child, task);
+					if (existing == null) {
+						task.fork();
+					} else {
+						task = existing;
+					}
+					children.add(task);
+				}
+				List<WrappedBundle> depends = new ArrayList<>();
+				for (WrapTask child : children) {
+					depends.add(child.join());
+				}
+				WrappedBundle wrappedNode = wrapNode(node, opened.jar(), depends, context);
+				context.visited.put(node, wrappedNode);
+				return wrappedNode;
+			} catch (Exception e) {
+				throw new WrapException(e);
+			}
+		}
+	}
+
+	private static final class WrapException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		WrapException(Exception cause) {
+			super(cause);
+		}
+	}
+}